@@ -1,19 +1,80 @@
 package com.mlops.hub.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    static final List<String> CACHE_NAMES = List.of(
+            "experiments", "registeredModels", "runs", "modelVersions", "experimentRunStats", "metricHistory",
+            "artifactTrees");
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${cache.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${cache.expire-after-write-ms:30000}")
+    private long expireAfterWriteMs;
+
+    @Value("${cache.expire-after-access-ms:0}")
+    private long expireAfterAccessMs;
+
+    // Async mode makes @Cacheable on Mono/Flux store the resolved value instead of the cold publisher;
+    // failed lookups are not cached. Statistics feed the cache.* Micrometer metrics.
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList("experiments", "registeredModels", "runs", "modelVersions"));
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setCaffeine(policy(maximumSize, expireAfterWriteMs, expireAfterAccessMs));
+
+        // Each cache can override the defaults under cache.caches.<name>.*
+        for (String name : CACHE_NAMES) {
+            String prefix = "cache.caches." + name + ".";
+            Caffeine<Object, Object> builder = policy(
+                    environment.getProperty(prefix + "maximum-size", Long.class, maximumSize),
+                    environment.getProperty(prefix + "expire-after-write-ms", Long.class, expireAfterWriteMs),
+                    environment.getProperty(prefix + "expire-after-access-ms", Long.class, expireAfterAccessMs));
+            cacheManager.registerCustomCache(name, builder.buildAsync());
+        }
+
+        // Eviction and get counts come from the standard cache.* binding; the ratio is exposed directly
+        for (String name : CACHE_NAMES) {
+            CaffeineCache cache = (CaffeineCache) cacheManager.getCache(name);
+            Gauge.builder("cache.hit.ratio", cache.getNativeCache(), nativeCache -> nativeCache.stats().hitRate())
+                    .tag("cache", name)
+                    .description("Fraction of lookups served from the cache")
+                    .register(meterRegistry);
+        }
         return cacheManager;
     }
+
+    private static Caffeine<Object, Object> policy(long maximumSize, long expireAfterWriteMs, long expireAfterAccessMs) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+        if (expireAfterWriteMs > 0) {
+            builder.expireAfterWrite(Duration.ofMillis(expireAfterWriteMs));
+        }
+        if (expireAfterAccessMs > 0) {
+            builder.expireAfterAccess(Duration.ofMillis(expireAfterAccessMs));
+        }
+        return builder;
+    }
 }
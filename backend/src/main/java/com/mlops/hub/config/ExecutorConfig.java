@@ -0,0 +1,51 @@
+package com.mlops.hub.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${dataset.bulk.parallelism:8}")
+    private int datasetBulkParallelism;
+
+    @Value("${dataset.scrub.parallelism:2}")
+    private int datasetScrubParallelism;
+
+    // Same switch as request handling; pools keep their size limits either way
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Bounded pool for parallel object storage operations on dataset files
+    @Bean
+    public ThreadPoolTaskExecutor datasetFileExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(datasetBulkParallelism);
+        executor.setMaxPoolSize(datasetBulkParallelism);
+        executor.setThreadNamePrefix("dataset-file-");
+        useVirtualThreads(executor, "dataset-file-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // Workers for the background integrity scrubber, kept separate so scrubbing never starves uploads
+    @Bean
+    public ThreadPoolTaskExecutor datasetScrubExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(datasetScrubParallelism);
+        executor.setMaxPoolSize(datasetScrubParallelism);
+        executor.setThreadNamePrefix("dataset-scrub-");
+        useVirtualThreads(executor, "dataset-scrub-");
+        executor.initialize();
+        return executor;
+    }
+
+    private void useVirtualThreads(ThreadPoolTaskExecutor executor, String namePrefix) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(namePrefix, 1).factory());
+        }
+    }
+}
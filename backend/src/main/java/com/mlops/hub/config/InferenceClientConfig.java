@@ -0,0 +1,19 @@
+package com.mlops.hub.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class InferenceClientConfig {
+
+    @Autowired
+    private OutboundHttpClients outboundHttpClients;
+
+    // Shared client for calls to model servers; their URLs come from each inference service
+    @Bean
+    public RestTemplate inferenceRestTemplate() {
+        return outboundHttpClients.restTemplate("inference");
+    }
+}
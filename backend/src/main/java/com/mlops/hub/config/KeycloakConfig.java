@@ -1,7 +1,11 @@
 package com.mlops.hub.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class KeycloakConfig {
@@ -18,6 +22,19 @@ public class KeycloakConfig {
     @Value("${keycloak.client-secret}")
     private String clientSecret;
 
+    @Autowired
+    private OutboundHttpClients outboundHttpClients;
+
+    @Bean
+    public WebClient keycloakWebClient() {
+        return outboundHttpClients.webClient("keycloak", getRealmUrl());
+    }
+
+    @Bean
+    public RestTemplate keycloakRestTemplate() {
+        return outboundHttpClients.restTemplate("keycloak");
+    }
+
     public String getAuthServerUrl() {
         return authServerUrl;
     }
@@ -1,5 +1,6 @@
 package com.mlops.hub.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,10 +12,11 @@ public class MLflowConfig {
     @Value("${mlflow.tracking-uri}")
     private String trackingUri;
 
+    @Autowired
+    private OutboundHttpClients outboundHttpClients;
+
     @Bean
     public WebClient mlflowWebClient() {
-        return WebClient.builder()
-                .baseUrl(trackingUri)
-                .build();
+        return outboundHttpClients.webClient("mlflow", trackingUri);
     }
 }
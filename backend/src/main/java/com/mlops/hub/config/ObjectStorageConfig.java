@@ -1,10 +1,21 @@
 package com.mlops.hub.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpMetricsEventListener;
 import io.minio.MinioClient;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class ObjectStorageConfig {
 
@@ -17,11 +28,67 @@ public class ObjectStorageConfig {
     @Value("${object-storage.secret-key}")
     private String secretKey;
 
+    // Setting the region skips the bucket location lookup before the first request
+    @Value("${object-storage.region:}")
+    private String region;
+
+    @Value("${object-storage.http.max-idle-connections:64}")
+    private int maxIdleConnections;
+
+    @Value("${object-storage.http.keep-alive-ms:300000}")
+    private long keepAliveMs;
+
+    @Value("${object-storage.http.connect-timeout-ms:10000}")
+    private long connectTimeoutMs;
+
+    @Value("${object-storage.http.read-timeout-ms:300000}")
+    private long readTimeoutMs;
+
+    @Value("${object-storage.http.write-timeout-ms:300000}")
+    private long writeTimeoutMs;
+
+    @Value("${object-storage.http.max-requests:128}")
+    private int maxRequests;
+
+    @Value("${object-storage.http.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+
+    // Shared HTTP layer for MinIO: one keep-alive pool and a dispatcher that caps in-flight requests
     @Bean
-    public MinioClient minioClient() {
-        return MinioClient.builder()
+    public OkHttpClient minioHttpClient(MeterRegistry meterRegistry) {
+        ConnectionPool connectionPool = new ConnectionPool(maxIdleConnections, keepAliveMs, TimeUnit.MILLISECONDS);
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        new OkHttpConnectionPoolMetrics(connectionPool, "minio.http", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("minio.http.dispatcher.running", dispatcher, Dispatcher::runningCallsCount)
+                .description("MinIO requests currently executing")
+                .register(meterRegistry);
+        Gauge.builder("minio.http.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .description("MinIO requests waiting for a dispatcher slot")
+                .register(meterRegistry);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .writeTimeout(Duration.ofMillis(writeTimeoutMs))
+                .eventListener(OkHttpMetricsEventListener.builder(meterRegistry, "minio.http.requests").build())
+                .build();
+    }
+
+    @Bean
+    public MinioClient minioClient(OkHttpClient minioHttpClient) {
+        MinioClient.Builder builder = MinioClient.builder()
                 .endpoint(endpoint)
                 .credentials(accessKey, secretKey)
-                .build();
+                .httpClient(minioHttpClient);
+        if (region != null && !region.isEmpty()) {
+            builder.region(region);
+        }
+        return builder.build();
     }
 }
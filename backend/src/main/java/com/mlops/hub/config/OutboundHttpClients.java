@@ -0,0 +1,472 @@
+package com.mlops.hub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the outbound HTTP clients for MLflow, Ray, Keycloak and inference servers. Every
+ * upstream gets its own bounded connection pool, timeouts, a response size limit, jittered
+ * retries for idempotent calls and the http.outbound.requests timer tagged with its name.
+ * Defaults come from http.client.*, and any of them can be overridden under
+ * http.client.upstreams.<name>.
+ */
+@Component
+public class OutboundHttpClients {
+
+    static final String METRIC = "http.outbound.requests";
+
+    // Request attribute for calls the caller already retries itself, so attempts are not multiplied
+    public static final String RETRIED_BY_CALLER = OutboundHttpClients.class.getName() + ".retriedByCaller";
+
+    private static final Set<HttpMethod> IDEMPOTENT = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+    // Statuses a later attempt can succeed on; other errors are returned straight away
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${http.client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${http.client.pending-acquire-timeout-ms:10000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.response-timeout-ms:60000}")
+    private long responseTimeoutMs;
+
+    @Value("${http.client.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${http.client.max-response-bytes:16777216}")
+    private int maxResponseBytes;
+
+    @Value("${http.client.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${http.client.retry-backoff-ms:100}")
+    private long retryBackoffMs;
+
+    @Value("${http.client.http2:false}")
+    private boolean http2;
+
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    record Settings(String upstream, int maxConnections, long pendingAcquireTimeoutMs, long connectTimeoutMs,
+                    long responseTimeoutMs, long maxIdleTimeMs, int maxResponseBytes, int maxRetries,
+                    long retryBackoffMs, boolean http2, List<String> retryPostPathSuffixes) {
+    }
+
+    Settings settings(String upstream) {
+        String prefix = "http.client.upstreams." + upstream + ".";
+        return new Settings(
+                upstream,
+                environment.getProperty(prefix + "max-connections", Integer.class, maxConnections),
+                environment.getProperty(prefix + "pending-acquire-timeout-ms", Long.class, pendingAcquireTimeoutMs),
+                environment.getProperty(prefix + "connect-timeout-ms", Long.class, connectTimeoutMs),
+                environment.getProperty(prefix + "response-timeout-ms", Long.class, responseTimeoutMs),
+                environment.getProperty(prefix + "max-idle-time-ms", Long.class, maxIdleTimeMs),
+                environment.getProperty(prefix + "max-response-bytes", Integer.class, maxResponseBytes),
+                environment.getProperty(prefix + "max-retries", Integer.class, maxRetries),
+                environment.getProperty(prefix + "retry-backoff-ms", Long.class, retryBackoffMs),
+                environment.getProperty(prefix + "http2", Boolean.class, http2),
+                // POSTs that only read, such as MLflow's */search endpoints, may be retried too
+                Arrays.stream(environment.getProperty(prefix + "retry-post-path-suffixes", "").split(","))
+                        .map(String::trim)
+                        .filter(suffix -> !suffix.isEmpty())
+                        .toList());
+    }
+
+    public WebClient webClient(String upstream, String baseUrl) {
+        return webClient(settings(upstream), baseUrl);
+    }
+
+    WebClient webClient(Settings settings, String baseUrl) {
+        ConnectionProvider provider = ConnectionProvider.builder("http-" + settings.upstream())
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(settings.pendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(settings.maxIdleTimeMs()))
+                .evictInBackground(Duration.ofMillis(settings.maxIdleTimeMs()))
+                // Pool gauges under reactor.netty.connection.provider.*, tagged with the pool name
+                .metrics(true)
+                .build();
+        connectionProviders.add(provider);
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.connectTimeoutMs())
+                // Applies between reads, so long artifact streams are not cut off while data flows
+                .responseTimeout(Duration.ofMillis(settings.responseTimeoutMs()));
+        if (settings.http2()) {
+            httpClient = baseUrl.startsWith("https")
+                    ? httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        // Filters run in the order added: retries wrap the timed single attempts
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(settings.maxResponseBytes()))
+                .filter(retryFilter(settings))
+                .filter(metricsFilter(settings.upstream()))
+                .build();
+    }
+
+    /**
+     * A RestTemplate for blocking callers; exchanges beyond max-connections wait up to
+     * pending-acquire-timeout-ms for a slot, as they do in the reactive pools.
+     */
+    public RestTemplate restTemplate(String upstream) {
+        Settings settings = settings(upstream);
+        java.net.http.HttpClient httpClient = java.net.http.HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(settings.connectTimeoutMs()))
+                .version(settings.http2() ? java.net.http.HttpClient.Version.HTTP_2 : java.net.http.HttpClient.Version.HTTP_1_1)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(settings.responseTimeoutMs()));
+
+        // Retries sit outside the interceptor chain, so every attempt passes the bulkhead, is timed
+        // and is size-limited; a chain's execution can only be walked once
+        ClientHttpRequestFactory intercepted = new InterceptingClientHttpRequestFactory(requestFactory, List.of(
+                new BulkheadInterceptor(settings),
+                new MetricsInterceptor(settings.upstream()),
+                new ResponseSizeLimitInterceptor(settings.maxResponseBytes())));
+        return new RestTemplate(new RetryingRequestFactory(intercepted, settings));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private ExchangeFilterFunction retryFilter(Settings settings) {
+        return (request, next) -> {
+            if (settings.maxRetries() <= 0 || !retryable(request.method(), request.url(), settings)
+                    || request.attribute(RETRIED_BY_CALLER).isPresent()) {
+                return next.exchange(request);
+            }
+            AtomicInteger attempts = new AtomicInteger();
+            return Mono.defer(() -> {
+                        int attempt = attempts.incrementAndGet();
+                        return next.exchange(request).flatMap(response ->
+                                attempt <= settings.maxRetries() && RETRYABLE_STATUSES.contains(response.statusCode().value())
+                                        ? response.releaseBody().then(Mono.error(new RetryableStatusException(response.statusCode())))
+                                        : Mono.just(response));
+                    })
+                    .retryWhen(Retry.backoff(settings.maxRetries(), Duration.ofMillis(settings.retryBackoffMs()))
+                            .jitter(0.5)
+                            .filter(error -> error instanceof RetryableStatusException || error instanceof WebClientRequestException)
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        };
+    }
+
+    private ExchangeFilterFunction metricsFilter(String upstream) {
+        return (request, next) -> {
+            long started = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> record(upstream, request.method(), response.statusCode(), started))
+                    .doOnError(error -> record(upstream, request.method(), null, started));
+        };
+    }
+
+    // Time to response headers; streamed bodies are not included
+    private void record(String upstream, HttpMethod method, HttpStatusCode status, long startedNanos) {
+        Timer.builder(METRIC)
+                .description("Outbound HTTP requests by upstream")
+                .tag("upstream", upstream)
+                .tag("method", method.name())
+                .tag("status", status != null ? String.valueOf(status.value()) : "IO_ERROR")
+                .tag("outcome", outcome(status))
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(HttpStatusCode status) {
+        if (status == null) {
+            return "UNKNOWN";
+        }
+        if (status.is2xxSuccessful() || status.is3xxRedirection()) {
+            return "SUCCESS";
+        }
+        return status.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
+    private static boolean retryable(HttpMethod method, URI url, Settings settings) {
+        if (IDEMPOTENT.contains(method)) {
+            return true;
+        }
+        return HttpMethod.POST.equals(method)
+                && settings.retryPostPathSuffixes().stream().anyMatch(suffix -> url.getPath().endsWith(suffix));
+    }
+
+    private static long jitteredBackoff(long baseMs, int attempt) {
+        long backoff = baseMs << Math.min(attempt - 1, 10);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private static class RetryableStatusException extends RuntimeException {
+        RetryableStatusException(HttpStatusCode status) {
+            super("Retryable upstream status " + status.value());
+        }
+    }
+
+    private static class RetryingRequestFactory implements ClientHttpRequestFactory {
+
+        private final ClientHttpRequestFactory delegate;
+        private final Settings settings;
+
+        RetryingRequestFactory(ClientHttpRequestFactory delegate, Settings settings) {
+            this.delegate = delegate;
+            this.settings = settings;
+        }
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+            if (settings.maxRetries() <= 0 || !retryable(httpMethod, uri, settings)) {
+                return delegate.createRequest(uri, httpMethod);
+            }
+            return new RetryingRequest(uri, httpMethod);
+        }
+
+        // Buffers the body so each attempt can send it on a fresh request from the delegate
+        private class RetryingRequest extends AbstractClientHttpRequest {
+
+            private final URI uri;
+            private final HttpMethod method;
+            private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+            RetryingRequest(URI uri, HttpMethod method) {
+                this.uri = uri;
+                this.method = method;
+            }
+
+            @Override
+            public HttpMethod getMethod() {
+                return method;
+            }
+
+            @Override
+            public URI getURI() {
+                return uri;
+            }
+
+            @Override
+            protected OutputStream getBodyInternal(HttpHeaders headers) {
+                return body;
+            }
+
+            @Override
+            protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+                byte[] bytes = body.toByteArray();
+                for (int attempt = 1; ; attempt++) {
+                    boolean last = attempt > settings.maxRetries();
+                    try {
+                        ClientHttpRequest request = delegate.createRequest(uri, method);
+                        request.getHeaders().putAll(headers);
+                        request.getAttributes().putAll(getAttributes());
+                        if (bytes.length > 0) {
+                            request.getBody().write(bytes);
+                        }
+                        ClientHttpResponse response = request.execute();
+                        if (last || !RETRYABLE_STATUSES.contains(response.getStatusCode().value())) {
+                            return response;
+                        }
+                        response.close();
+                    } catch (IOException e) {
+                        if (last) {
+                            throw e;
+                        }
+                    }
+                    try {
+                        Thread.sleep(jitteredBackoff(settings.retryBackoffMs(), attempt));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while retrying " + uri, e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class BulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+        private final Semaphore permits;
+        private final long acquireTimeoutMs;
+        private final String upstream;
+
+        BulkheadInterceptor(Settings settings) {
+            this.permits = new Semaphore(settings.maxConnections());
+            this.acquireTimeoutMs = settings.pendingAcquireTimeoutMs();
+            this.upstream = settings.upstream();
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            try {
+                if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new ResourceAccessException("No free " + upstream + " connection within " + acquireTimeoutMs + "ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for a " + upstream + " connection", e);
+            }
+            // Caps concurrent exchanges; the permit is returned once response headers arrive
+            try {
+                return execution.execute(request, body);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private class MetricsInterceptor implements ClientHttpRequestInterceptor {
+
+        private final String upstream;
+
+        MetricsInterceptor(String upstream) {
+            this.upstream = upstream;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            long started = System.nanoTime();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                record(upstream, request.getMethod(), response.getStatusCode(), started);
+                return response;
+            } catch (IOException | RuntimeException e) {
+                record(upstream, request.getMethod(), null, started);
+                throw e;
+            }
+        }
+    }
+
+    private static class ResponseSizeLimitInterceptor implements ClientHttpRequestInterceptor {
+
+        private final long maxBytes;
+
+        ResponseSizeLimitInterceptor(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                throws IOException {
+            ClientHttpResponse response = execution.execute(request, body);
+            return new ClientHttpResponse() {
+                @Override
+                public HttpStatusCode getStatusCode() throws IOException {
+                    return response.getStatusCode();
+                }
+
+                @Override
+                public String getStatusText() throws IOException {
+                    return response.getStatusText();
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return response.getHeaders();
+                }
+
+                @Override
+                public InputStream getBody() throws IOException {
+                    return new LimitedInputStream(response.getBody(), maxBytes);
+                }
+
+                @Override
+                public void close() {
+                    response.close();
+                }
+            };
+        }
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long read;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > maxBytes) {
+                throw new IOException("Response exceeds the " + maxBytes + " byte limit");
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mlops.hub.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,11 +15,12 @@ public class RayConfig {
     @Value("${ray.dashboard-url}")
     private String dashboardUrl;
 
+    @Autowired
+    private OutboundHttpClients outboundHttpClients;
+
     @Bean
     public WebClient rayWebClient() {
-        return WebClient.builder()
-                .baseUrl(headNodeUrl)
-                .build();
+        return outboundHttpClients.webClient("ray", headNodeUrl);
     }
 
     public String getDashboardUrl() {
@@ -1,8 +1,23 @@
 package com.mlops.hub.config;
 
+import com.mlops.hub.service.KeysetPage;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -11,10 +26,17 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
 
@@ -26,6 +48,25 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
     private String jwkSetUri;
 
+    @Value("${keycloak.jwks.cache-ttl-ms:300000}")
+    private long jwksCacheTtlMs;
+
+    @Value("${keycloak.jwks.refresh-ahead-ms:60000}")
+    private long jwksRefreshAheadMs;
+
+    @Value("${keycloak.jwks.refresh-timeout-ms:15000}")
+    private long jwksRefreshTimeoutMs;
+
+    @Value("${keycloak.jwks.outage-tolerance-ms:3600000}")
+    private long jwksOutageToleranceMs;
+
+    @Value("${keycloak.jwks.warm-up:true}")
+    private boolean jwksWarmUp;
+
+    @Autowired
+    @Qualifier("keycloakRestTemplate")
+    private RestTemplate keycloakRestTemplate;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -52,7 +93,54 @@ public class SecurityConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+        JWKSource<SecurityContext> jwkSource = keycloakJwkSource();
+        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
+                .jwtProcessorCustomizer(processor ->
+                        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource)))
+                .build();
+    }
+
+    /**
+     * Keycloak's signing keys, cached and re-fetched in the background before the cache expires,
+     * so validating a token does not wait on Keycloak. A kid that is not cached (key rotation)
+     * still triggers a rate-limited fetch, and the last keys stay usable while Keycloak is down.
+     */
+    @Bean
+    public JWKSource<SecurityContext> keycloakJwkSource() {
+        try {
+            return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL(), this::retrieveJwkSet)
+                    .cache(jwksCacheTtlMs, jwksRefreshTimeoutMs)
+                    .refreshAheadCache(jwksRefreshAheadMs, true)
+                    .retrying(true)
+                    .outageTolerant(jwksOutageToleranceMs)
+                    .build();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid JWK set URI: " + jwkSetUri, e);
+        }
+    }
+
+    // Loads the keys at startup, so the first authenticated request does not pay for the fetch
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpJwks() {
+        if (!jwksWarmUp) {
+            return;
+        }
+        try {
+            keycloakJwkSource().get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+        } catch (Exception e) {
+            System.err.println("Failed to pre-load JWK set from " + jwkSetUri + ": " + e.getMessage());
+        }
+    }
+
+    // Goes through the Keycloak client, so key fetches share its timeouts, retries and metrics
+    private Resource retrieveJwkSet(URL url) throws IOException {
+        try {
+            ResponseEntity<String> response = keycloakRestTemplate.getForEntity(url.toURI(), String.class);
+            MediaType contentType = response.getHeaders().getContentType();
+            return new Resource(response.getBody(), contentType != null ? contentType.toString() : null);
+        } catch (RestClientException | URISyntaxException e) {
+            throw new IOException("Failed to fetch JWK set: " + e.getMessage(), e);
+        }
     }
 
     @Bean
@@ -62,7 +150,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", KeysetPage.NEXT_CURSOR_HEADER));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
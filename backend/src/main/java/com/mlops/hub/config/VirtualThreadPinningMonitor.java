@@ -0,0 +1,93 @@
+package com.mlops.hub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier, which happens when they block
+ * inside a native frame or, before JDK 24, inside synchronized code. Each pinning is recorded
+ * in the virtual.threads.pinned timer, and the first occurrence of each stack is logged so the
+ * offending synchronized or driver path can be found.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final int LOGGED_FRAMES = 12;
+    // Distinct stacks remembered for de-duplicating the log; pinning sites are few in practice
+    private static final int MAX_LOGGED_STACKS = 500;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${threads.pinning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+    private RecordingStream recording;
+    private Timer pinnedTimer;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        pinnedTimer = Timer.builder("virtual.threads.pinned")
+                .description("Virtual threads blocked while pinned to a carrier thread")
+                .register(meterRegistry);
+        recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recording.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        String stack = format(event.getStackTrace());
+        if (loggedStacks.size() < MAX_LOGGED_STACKS && loggedStacks.add(stack)) {
+            System.err.println("Virtual thread pinned for " + event.getDuration().toMillis() + "ms at:\n" + stack);
+        }
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<no stack trace>";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
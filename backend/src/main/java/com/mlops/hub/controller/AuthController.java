@@ -21,7 +21,7 @@ public class AuthController {
     @GetMapping("/user")
     public ResponseEntity<Map<String, Object>> getCurrentUser(@AuthenticationPrincipal Jwt jwt) {
         try {
-            Map<String, Object> userInfo = keycloakService.getUserInfo(jwt.getTokenValue());
+            Map<String, Object> userInfo = keycloakService.getUserInfo(jwt.getTokenValue(), jwt.getExpiresAt());
             
             Map<String, Object> response = new HashMap<>();
             response.put("sub", jwt.getSubject());
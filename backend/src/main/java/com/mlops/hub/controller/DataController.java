@@ -1,6 +1,8 @@
 package com.mlops.hub.controller;
 
+import com.mlops.hub.service.ExperimentMetricsService;
 import com.mlops.hub.service.MLflowFacadeService;
+import com.mlops.hub.service.MlflowReadModelService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,10 +23,16 @@ public class DataController {
     @Autowired
     private MLflowFacadeService mlflowFacadeService;
 
+    @Autowired
+    private ExperimentMetricsService experimentMetricsService;
+
+    @Autowired
+    private MlflowReadModelService mlflowReadModelService;
+
     // Enhanced experiment endpoints
     @GetMapping("/experiments")
     public Mono<ResponseEntity<Map>> getExperiments() {
-        return mlflowFacadeService.getCachedExperiments()
+        return experiments()
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.internalServerError().build());
     }
@@ -46,7 +54,10 @@ public class DataController {
     // Enhanced run endpoints
     @GetMapping("/experiments/{experimentId}/runs")
     public Mono<ResponseEntity<Map>> getRunsWithMetrics(@PathVariable String experimentId) {
-        return mlflowFacadeService.getRunsWithMetrics(experimentId)
+        Mono<Map> runs = mlflowReadModelService.isServingReads()
+                ? mlflowReadModelService.getRunsWithMetrics(experimentId)
+                : mlflowFacadeService.getRunsWithMetrics(experimentId);
+        return runs
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -68,14 +79,14 @@ public class DataController {
     // Enhanced model endpoints
     @GetMapping("/models")
     public Mono<ResponseEntity<Map>> getRegisteredModels() {
-        return mlflowFacadeService.getCachedRegisteredModels()
+        return registeredModels()
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.internalServerError().build());
     }
 
     @GetMapping("/models/{modelName}/versions")
     public Mono<ResponseEntity<Map>> getModelVersionsWithDetails(@PathVariable String modelName) {
-        return mlflowFacadeService.getModelVersionsWithDetails(modelName)
+        return modelVersionsWithDetails(modelName)
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -84,7 +95,7 @@ public class DataController {
     public Mono<ResponseEntity<Map>> searchModelVersionsByModelNameAndFilter(@PathVariable String modelName, @RequestParam(required = false) String filter) {
         // This would typically involve a searchModelVersions call in MLflowService
         // For now, we'll just return the details for the model versions
-        return mlflowFacadeService.getModelVersionsWithDetails(modelName)
+        return modelVersionsWithDetails(modelName)
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -92,8 +103,8 @@ public class DataController {
     // Dashboard and analytics endpoints
     @GetMapping("/dashboard/overview")
     public Mono<ResponseEntity<Map>> getDashboardOverview() {
-        return mlflowFacadeService.getCachedExperiments()
-                .zipWith(mlflowFacadeService.getCachedRegisteredModels())
+        return experiments()
+                .zipWith(registeredModels())
                 .map(tuple -> {
                     Map experiments = tuple.getT1();
                     Map models = tuple.getT2();
@@ -110,25 +121,34 @@ public class DataController {
 
     @GetMapping("/dashboard/experiments/{experimentId}/metrics")
     public Mono<ResponseEntity<Map>> getExperimentMetricsOverview(@PathVariable String experimentId) {
-        // This would aggregate metrics for a given experiment's runs
-        // For now, return dummy data
-        Map<String, Object> metricsOverview = new HashMap<>();
-        metricsOverview.put("experiment_id", experimentId);
-        metricsOverview.put("total_runs", 5);
-        metricsOverview.put("avg_accuracy", 0.92);
-        metricsOverview.put("avg_loss", 0.08);
-        return Mono.just(ResponseEntity.ok(metricsOverview));
+        return experimentMetricsService.getExperimentMetrics(experimentId)
+                .map(metrics -> ResponseEntity.ok((Map) metrics))
+                .onErrorReturn(ResponseEntity.internalServerError().build());
     }
 
     @GetMapping("/runs/{runId}/metrics")
     public Mono<ResponseEntity<Map>> getMetricsForRun(@PathVariable String runId, @RequestParam String metricKey) {
-        // This would typically call a method in MLflowProxyService
-        // For now, return a simple response
-        Map<String, Object> response = new HashMap<>();
-        response.put("run_id", runId);
-        response.put("metric_key", metricKey);
-        response.put("message", "Metrics endpoint - implementation needed");
-        return Mono.just(ResponseEntity.ok(response));
+        return experimentMetricsService.getRunMetricSummary(runId, metricKey)
+                .map(summary -> ResponseEntity.ok((Map) summary))
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    private Mono<Map> experiments() {
+        return mlflowReadModelService.isServingReads()
+                ? mlflowReadModelService.getExperiments()
+                : mlflowFacadeService.getCachedExperiments();
+    }
+
+    private Mono<Map> registeredModels() {
+        return mlflowReadModelService.isServingReads()
+                ? mlflowReadModelService.getRegisteredModels()
+                : mlflowFacadeService.getCachedRegisteredModels();
+    }
+
+    private Mono<Map> modelVersionsWithDetails(String modelName) {
+        return mlflowReadModelService.isServingReads()
+                ? mlflowReadModelService.getModelVersionsWithDetails(modelName)
+                : mlflowFacadeService.getModelVersionsWithDetails(modelName);
     }
 
     // Helper methods for dashboard data
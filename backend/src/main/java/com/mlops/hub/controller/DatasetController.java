@@ -3,8 +3,10 @@ package com.mlops.hub.controller;
 import com.mlops.hub.entity.Dataset;
 import com.mlops.hub.entity.DatasetFile;
 import com.mlops.hub.entity.DatasetVersion;
+import com.mlops.hub.service.DatasetDiffService;
 import com.mlops.hub.service.DatasetService;
 import com.mlops.hub.service.DatasetVersionService;
+import com.mlops.hub.service.LocalObjectCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,7 +16,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,11 +35,18 @@ public class DatasetController {
     @Autowired
     private DatasetVersionService datasetVersionService;
 
+    @Autowired
+    private DatasetDiffService datasetDiffService;
+
     // Dataset Management
     @GetMapping
-    public ResponseEntity<List<Dataset>> getAllDatasets() {
-        List<Dataset> datasets = datasetService.getAllDatasets();
-        return ResponseEntity.ok(datasets);
+    public ResponseEntity<List<Dataset>> getAllDatasets(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit) {
+        try {
+            return datasetService.getDatasetsPage(cursor, limit).toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/paged")
@@ -93,9 +105,52 @@ public class DatasetController {
     }
 
     @GetMapping("/{datasetId}/versions")
-    public ResponseEntity<List<DatasetVersion>> getVersions(@PathVariable Long datasetId) {
-        List<DatasetVersion> versions = datasetVersionService.getVersionsByDatasetId(datasetId);
-        return ResponseEntity.ok(versions);
+    public ResponseEntity<List<DatasetVersion>> getVersions(@PathVariable Long datasetId,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer limit) {
+        try {
+            return datasetVersionService.getVersionsPage(datasetId, cursor, limit).toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{datasetId}/versions/diff")
+    public ResponseEntity<Map<String, Object>> diffVersions(@PathVariable Long datasetId,
+                                                            @RequestParam String base,
+                                                            @RequestParam String target) {
+        try {
+            Map<String, Object> diff = datasetDiffService.diffVersions(datasetId, base, target);
+            return ResponseEntity.ok(diff);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{datasetId}/versions/diff/rows")
+    public ResponseEntity<StreamingResponseBody> diffFileRows(@PathVariable Long datasetId,
+                                                              @RequestParam String base,
+                                                              @RequestParam String target,
+                                                              @RequestParam String fileName) {
+        List<DatasetFile> files;
+        try {
+            files = datasetDiffService.resolveRowDiffFiles(datasetId, base, target, fileName);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                datasetDiffService.streamRowDiff(files.get(0), files.get(1), out);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Failed to diff " + fileName, e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{datasetId}/versions/{versionId}")
@@ -152,6 +207,71 @@ public class DatasetController {
         }
     }
 
+    @PostMapping("/{datasetId}/versions/{versionId}/files/bulk")
+    public ResponseEntity<Map<String, Object>> uploadFiles(@PathVariable Long datasetId,
+                                                           @PathVariable String versionId,
+                                                           @RequestParam("files") List<MultipartFile> files) {
+        try {
+            Map<String, Object> result = datasetVersionService.uploadFiles(datasetId, versionId, files);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{datasetId}/versions/{versionId}/files/bulk-delete")
+    public ResponseEntity<Map<String, Object>> deleteFiles(@PathVariable Long datasetId,
+                                                           @PathVariable String versionId,
+                                                           @RequestBody Map<String, List<String>> request) {
+        List<String> fileIds = request.get("fileIds");
+        if (fileIds == null || fileIds.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Map<String, Object> result = datasetVersionService.deleteFiles(datasetId, versionId, fileIds);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{datasetId}/versions/{versionId}/files/presigned-upload")
+    public ResponseEntity<Map<String, Object>> presignUpload(@PathVariable Long datasetId,
+                                                             @PathVariable String versionId,
+                                                             @RequestBody Map<String, String> request) {
+        try {
+            Map<String, Object> upload = datasetVersionService.presignUpload(
+                    datasetId, versionId, request.get("fileName"), request.get("sha256"));
+            return ResponseEntity.ok(upload);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/{datasetId}/versions/{versionId}/files/complete-upload")
+    public ResponseEntity<DatasetFile> completeUpload(@PathVariable Long datasetId,
+                                                      @PathVariable String versionId,
+                                                      @RequestBody Map<String, String> request) {
+        try {
+            DatasetFile file = datasetVersionService.completeUpload(
+                    datasetId, versionId, request.get("fileName"), request.get("sha256"));
+            return ResponseEntity.status(HttpStatus.CREATED).body(file);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{datasetId}/versions/{versionId}/verify")
+    public ResponseEntity<Map<String, Object>> verifyVersion(@PathVariable Long datasetId,
+                                                             @PathVariable String versionId) {
+        try {
+            Map<String, Object> result = datasetVersionService.verifyVersion(datasetId, versionId);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{datasetId}/versions/{versionId}/files")
     public ResponseEntity<List<DatasetFile>> getFiles(@PathVariable Long datasetId, 
                                                      @PathVariable String versionId) {
@@ -164,26 +284,13 @@ public class DatasetController {
     }
 
     @GetMapping("/{datasetId}/versions/{versionId}/files/{fileId}/download")
-    public ResponseEntity<byte[]> downloadFile(@PathVariable Long datasetId, 
-                                              @PathVariable String versionId,
-                                              @PathVariable String fileId) {
+    public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable Long datasetId, 
+                                                              @PathVariable String versionId,
+                                                              @PathVariable String fileId) {
         try {
-            byte[] data = datasetVersionService.downloadFile(datasetId, versionId, fileId);
-            
-            // Get file info for proper headers
-            List<DatasetFile> files = datasetVersionService.getFilesByVersion(datasetId, versionId);
-            Optional<DatasetFile> file = files.stream()
-                    .filter(f -> f.getFileId().equals(fileId))
-                    .findFirst();
-            
+            Optional<DatasetFile> file = datasetVersionService.getFile(datasetId, versionId, fileId);
             if (file.isPresent()) {
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-                headers.setContentDispositionFormData("attachment", file.get().getFileName());
-                
-                return ResponseEntity.ok()
-                        .headers(headers)
-                        .body(data);
+                return fileDownload(file.get());
             }
             
             return ResponseEntity.notFound().build();
@@ -192,6 +299,19 @@ public class DatasetController {
         }
     }
 
+    @GetMapping("/{datasetId}/versions/{versionId}/files/{fileId}/presigned-download")
+    public ResponseEntity<Map<String, Object>> presignDownload(@PathVariable Long datasetId,
+                                                               @PathVariable String versionId,
+                                                               @PathVariable String fileId) {
+        try {
+            return datasetVersionService.presignDownload(datasetId, versionId, fileId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/{datasetId}/versions/{versionId}/files/{fileId}")
     public ResponseEntity<Void> deleteFile(@PathVariable Long datasetId, 
                                           @PathVariable String versionId,
@@ -206,7 +326,7 @@ public class DatasetController {
 
     // Legacy support - redirect to latest version
     @GetMapping("/{datasetId}/download")
-    public ResponseEntity<byte[]> downloadLatestVersion(@PathVariable Long datasetId) {
+    public ResponseEntity<StreamingResponseBody> downloadLatestVersion(@PathVariable Long datasetId) {
         try {
             List<DatasetVersion> versions = datasetVersionService.getVersionsByDatasetId(datasetId);
             if (versions.isEmpty()) {
@@ -228,18 +348,23 @@ public class DatasetController {
             }
             
             // Download the first file (or you could implement logic to download all files as a zip)
-            DatasetFile file = files.get(0);
-            byte[] data = datasetVersionService.downloadFile(datasetId, latestVersion.get().getVersionId(), file.getFileId());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", file.getFileName());
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(data);
+            return fileDownload(files.get(0));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    // Opens the file before the response is committed so storage errors still map to 400
+    private ResponseEntity<StreamingResponseBody> fileDownload(DatasetFile file) throws Exception {
+        FileChannel channel = datasetVersionService.openFile(file);
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData("attachment", file.getFileName());
+        headers.setContentLength(channel.size());
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(out -> LocalObjectCache.transfer(channel, out));
+    }
+}
@@ -0,0 +1,38 @@
+package com.mlops.hub.controller;
+
+import com.mlops.hub.entity.DatasetIntegrityIssue;
+import com.mlops.hub.service.DatasetScrubService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/datasets/integrity")
+@CrossOrigin(origins = "*")
+public class DatasetIntegrityController {
+
+    @Autowired
+    private DatasetScrubService datasetScrubService;
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getScrubStatus() {
+        return ResponseEntity.ok(datasetScrubService.getStatus());
+    }
+
+    @GetMapping("/issues")
+    public ResponseEntity<Page<DatasetIntegrityIssue>> getIssues(Pageable pageable) {
+        return ResponseEntity.ok(datasetScrubService.getIssues(pageable));
+    }
+
+    @PostMapping("/scrub")
+    public ResponseEntity<Map<String, Object>> triggerScrub() {
+        boolean started = datasetScrubService.triggerPass();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(Map.of("started", started));
+    }
+}
@@ -3,10 +3,12 @@ package com.mlops.hub.controller;
 import com.mlops.hub.entity.Entrypoint;
 import com.mlops.hub.entity.EntrypointHistory;
 import com.mlops.hub.entity.InferenceService;
+import com.mlops.hub.repository.EntrypointHistorySummary;
 import com.mlops.hub.service.EntrypointService;
 import com.mlops.hub.service.EntrypointHistoryService;
 import com.mlops.hub.service.InferenceServiceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,12 +32,18 @@ public class EntrypointController {
     @Autowired
     private EntrypointHistoryService historyService;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    @Qualifier("inferenceRestTemplate")
+    private RestTemplate restTemplate;
     
     @GetMapping
-    public ResponseEntity<List<Entrypoint>> getAllEntrypoints() {
-        List<Entrypoint> entrypoints = entrypointService.getAllEntrypoints();
-        return ResponseEntity.ok(entrypoints);
+    public ResponseEntity<List<Entrypoint>> getAllEntrypoints(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(required = false) Integer limit) {
+        try {
+            return entrypointService.getEntrypointsPage(cursor, limit).toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
@@ -277,19 +285,32 @@ public class EntrypointController {
     }
     
     /**
-     * Get inference history for an entrypoint
+     * Get inference history for an entrypoint, newest first, one page at a time
      */
     @GetMapping("/{id}/history")
-    public ResponseEntity<List<EntrypointHistory>> getEntrypointHistory(@PathVariable Long id) {
+    public ResponseEntity<List<EntrypointHistorySummary>> getEntrypointHistory(@PathVariable Long id,
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @RequestParam(required = false) Integer limit) {
         try {
-            List<EntrypointHistory> history = historyService.getHistoryByEntrypointId(id);
-            return ResponseEntity.ok(history);
+            return historyService.getHistoryPage(id, cursor, limit).toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(List.of());
         }
     }
     
+    /**
+     * Get one inference call with its full request and response bodies
+     */
+    @GetMapping("/{id}/history/{historyId}")
+    public ResponseEntity<EntrypointHistory> getEntrypointHistoryItem(@PathVariable Long id, @PathVariable Long historyId) {
+        return historyService.getHistoryItem(id, historyId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * Get metrics for an entrypoint
      */
@@ -2,8 +2,10 @@ package com.mlops.hub.controller;
 
 import com.mlops.hub.service.MLflowFacadeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
@@ -79,4 +81,20 @@ public class ExperimentController {
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
+
+    // Client cursor: pass next_page_token back as page_token to get the following page
+    @GetMapping("/search/page")
+    public Mono<ResponseEntity<Map>> searchExperimentsPage(@RequestParam(required = false) String filter,
+                                                          @RequestParam(required = false) String page_token,
+                                                          @RequestParam(required = false) Integer max_results) {
+        return mlflowFacadeService.searchExperimentsPage(filter, page_token, max_results)
+                .map(ResponseEntity::ok)
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    // Streams every matching experiment as NDJSON, following MLflow pagination as the client reads
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map> streamExperiments(@RequestParam(required = false) String filter) {
+        return mlflowFacadeService.streamExperiments(filter);
+    }
 }
\ No newline at end of file
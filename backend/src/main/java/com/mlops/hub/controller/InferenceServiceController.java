@@ -3,6 +3,7 @@ package com.mlops.hub.controller;
 import com.mlops.hub.entity.InferenceService;
 import com.mlops.hub.service.InferenceServiceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,12 +22,18 @@ public class InferenceServiceController {
     @Autowired
     private InferenceServiceService inferenceServiceService;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    @Qualifier("inferenceRestTemplate")
+    private RestTemplate restTemplate;
     
     @GetMapping
-    public ResponseEntity<List<InferenceService>> getAllInferenceServices() {
-        List<InferenceService> services = inferenceServiceService.getAllInferenceServices();
-        return ResponseEntity.ok(services);
+    public ResponseEntity<List<InferenceService>> getAllInferenceServices(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer limit) {
+        try {
+            return inferenceServiceService.getInferenceServicesPage(cursor, limit).toResponseEntity();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
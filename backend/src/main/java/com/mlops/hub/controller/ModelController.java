@@ -1,9 +1,12 @@
 package com.mlops.hub.controller;
 
 import com.mlops.hub.service.MLflowFacadeService;
+import com.mlops.hub.service.MlflowReadModelService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -16,10 +19,16 @@ public class ModelController {
     @Autowired
     private MLflowFacadeService mlflowFacadeService;
 
+    @Autowired
+    private MlflowReadModelService mlflowReadModelService;
+
     // Registered Model endpoints
     @GetMapping
     public Mono<ResponseEntity<Map>> listRegisteredModels() {
-        return mlflowFacadeService.listRegisteredModels()
+        Mono<Map> models = mlflowReadModelService.isServingReads()
+                ? mlflowReadModelService.getRegisteredModels()
+                : mlflowFacadeService.listRegisteredModels();
+        return models
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.internalServerError().build());
     }
@@ -61,10 +70,29 @@ public class ModelController {
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
 
+    // Client cursor: pass next_page_token back as page_token to get the following page
+    @GetMapping("/search/page")
+    public Mono<ResponseEntity<Map>> searchRegisteredModelsPage(@RequestParam(required = false) String filter,
+                                                               @RequestParam(required = false) String page_token,
+                                                               @RequestParam(required = false) Integer max_results) {
+        return mlflowFacadeService.searchRegisteredModelsPage(filter, page_token, max_results)
+                .map(ResponseEntity::ok)
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    // Streams every matching registered model as NDJSON, following MLflow pagination as the client reads
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map> streamRegisteredModels(@RequestParam(required = false) String filter) {
+        return mlflowFacadeService.streamRegisteredModels(filter);
+    }
+
     // Model Version endpoints
     @GetMapping("/{modelName}/versions")
     public Mono<ResponseEntity<Map>> listModelVersions(@PathVariable String modelName) {
-        return mlflowFacadeService.listModelVersions(modelName)
+        Mono<Map> versions = mlflowReadModelService.isServingReads()
+                ? mlflowReadModelService.listModelVersions(modelName)
+                : mlflowFacadeService.listModelVersions(modelName);
+        return versions
                 .map(ResponseEntity::ok)
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -1,21 +1,50 @@
 package com.mlops.hub.controller;
 
+import com.mlops.hub.service.ExperimentMetricsService;
+import com.mlops.hub.service.LocalObjectCache;
 import com.mlops.hub.service.MLflowFacadeService;
+import com.mlops.hub.service.MLflowLogBatcher;
+import com.mlops.hub.service.MetricDownsampler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/runs")
 @CrossOrigin(origins = "*")
 public class RunController {
 
+    private static final int MAX_CHART_POINTS = 10000;
+    // Each compared series is held downsampled (up to MAX_CHART_POINTS) while the columns are aligned
+    private static final int MAX_COMPARE_SERIES = 50;
+    private static final int ARTIFACT_STREAM_DEMAND = 4;
+    private static final List<String> ARTIFACT_RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_RANGE,
+            HttpHeaders.ACCEPT_RANGES, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
     @Autowired
     private MLflowFacadeService mlflowFacadeService;
 
+    @Autowired
+    private MLflowLogBatcher mlflowLogBatcher;
+
+    @Autowired
+    private ExperimentMetricsService experimentMetricsService;
+
     // Run endpoints
     @GetMapping("/{runId}")
     public Mono<ResponseEntity<Map>> getRun(@PathVariable String runId) {
@@ -67,12 +96,34 @@ public class RunController {
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
 
+    // Client cursor: pass next_page_token back as page_token to get the following page
+    @GetMapping("/search/page")
+    public Mono<ResponseEntity<Map>> searchRunsPage(@RequestParam(required = false) String experiment_ids,
+                                                   @RequestParam(required = false) String filter,
+                                                   @RequestParam(required = false) String run_view_type,
+                                                   @RequestParam(required = false) String page_token,
+                                                   @RequestParam(required = false) Integer max_results) {
+        return mlflowFacadeService.searchRunsPage(experiment_ids, filter, run_view_type, page_token, max_results)
+                .map(ResponseEntity::ok)
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    // Streams every matching run as NDJSON, following MLflow pagination as the client reads
+    @GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Map> streamRuns(@RequestParam(required = false) String experiment_ids,
+                                @RequestParam(required = false) String filter,
+                                @RequestParam(required = false) String run_view_type) {
+        return mlflowFacadeService.streamRuns(experiment_ids, filter, run_view_type);
+    }
+
     // Metric endpoints
     @PostMapping("/{runId}/metrics")
     public Mono<ResponseEntity<Void>> logMetric(@PathVariable String runId, @RequestBody Map<String, Object> request) {
         String key = (String) request.get("key");
         Double value = ((Number) request.get("value")).doubleValue();
-        return mlflowFacadeService.logMetric(runId, key, value)
+        Long timestamp = request.get("timestamp") instanceof Number number ? number.longValue() : null;
+        Long step = request.get("step") instanceof Number number ? number.longValue() : null;
+        return mlflowLogBatcher.logMetric(runId, key, value, timestamp, step)
                 .then(Mono.just(ResponseEntity.ok().<Void>build()))
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -84,12 +135,71 @@ public class RunController {
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
 
+    // Fixed-size series for charts: method is lttb or minmax, ranges are inclusive
+    @GetMapping("/{runId}/metrics/{metricKey}/history/downsampled")
+    public Mono<ResponseEntity<Map>> getDownsampledMetricHistory(@PathVariable String runId,
+                                                                 @PathVariable String metricKey,
+                                                                 @RequestParam(defaultValue = "500") int points,
+                                                                 @RequestParam(defaultValue = "lttb") String method,
+                                                                 @RequestParam(required = false) Long minStep,
+                                                                 @RequestParam(required = false) Long maxStep,
+                                                                 @RequestParam(required = false) Long startTime,
+                                                                 @RequestParam(required = false) Long endTime) {
+        MetricDownsampler.Method downsampling;
+        try {
+            downsampling = MetricDownsampler.Method.valueOf(method.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        if (points < 2 || points > MAX_CHART_POINTS) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return experimentMetricsService.getDownsampledHistory(runId, metricKey, points, downsampling,
+                        minStep, maxStep, startTime, endTime)
+                .map(history -> ResponseEntity.ok((Map) history))
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    // Several runs' metric curves on one step axis, as columns instead of per-point objects
+    @PostMapping("/compare")
+    public Mono<ResponseEntity<Map>> compareRuns(@RequestBody Map<String, Object> request) {
+        List<String> runIds = (List<String>) request.get("run_ids");
+        List<String> metricKeys = (List<String>) request.get("metric_keys");
+        int points = request.get("points") instanceof Number number ? number.intValue() : 500;
+        Long minStep = request.get("min_step") instanceof Number number ? number.longValue() : null;
+        Long maxStep = request.get("max_step") instanceof Number number ? number.longValue() : null;
+        if (runIds == null || runIds.isEmpty() || metricKeys == null || metricKeys.isEmpty()
+                || runIds.size() * metricKeys.size() > MAX_COMPARE_SERIES
+                || points < 2 || points > MAX_CHART_POINTS) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return experimentMetricsService.compareRuns(runIds, metricKeys, points, minStep, maxStep)
+                .map(comparison -> ResponseEntity.ok((Map) comparison))
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
+    // Logs metrics, params and tags in one go; body follows MLflow's runs/log-batch
+    @PostMapping("/{runId}/log-batch")
+    public Mono<ResponseEntity<Void>> logBatch(@PathVariable String runId, @RequestBody Map<String, List<Map<String, Object>>> request) {
+        // An explicit null is treated like an absent field
+        List<Map<String, Object>> metrics = Optional.ofNullable(request.get("metrics")).orElse(List.of());
+        List<Map<String, Object>> params = Optional.ofNullable(request.get("params")).orElse(List.of());
+        List<Map<String, Object>> tags = Optional.ofNullable(request.get("tags")).orElse(List.of());
+        metrics.forEach(metric -> {
+            metric.putIfAbsent("timestamp", System.currentTimeMillis());
+            metric.putIfAbsent("step", 0L);
+        });
+        return mlflowFacadeService.logBatch(runId, metrics, params, tags)
+                .then(Mono.just(ResponseEntity.ok().<Void>build()))
+                .onErrorReturn(ResponseEntity.badRequest().build());
+    }
+
     // Parameter endpoints
     @PostMapping("/{runId}/parameters")
     public Mono<ResponseEntity<Void>> logParameter(@PathVariable String runId, @RequestBody Map<String, String> request) {
         String key = request.get("key");
         String value = request.get("value");
-        return mlflowFacadeService.logParameter(runId, key, value)
+        return mlflowLogBatcher.logParameter(runId, key, value)
                 .then(Mono.just(ResponseEntity.ok().<Void>build()))
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -99,7 +209,7 @@ public class RunController {
     public Mono<ResponseEntity<Void>> setTag(@PathVariable String runId, @RequestBody Map<String, String> request) {
         String key = request.get("key");
         String value = request.get("value");
-        return mlflowFacadeService.setTag(runId, key, value)
+        return mlflowLogBatcher.setTag(runId, key, value)
                 .then(Mono.just(ResponseEntity.ok().<Void>build()))
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
@@ -123,13 +233,55 @@ public class RunController {
                 .onErrorResume(e -> Mono.just(ResponseEntity.internalServerError().build()));
     }
 
+    @GetMapping("/{runId}/artifacts/tree")
+    public Mono<ResponseEntity<Map>> getArtifactTree(@PathVariable String runId) {
+        return mlflowFacadeService.getArtifactTree(runId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(ResponseEntity.notFound().build()))
+                .onErrorResume(e -> Mono.just(ResponseEntity.internalServerError().build()));
+    }
+
     @GetMapping("/{runId}/artifacts/download")
-    public Mono<ResponseEntity<byte[]>> downloadArtifact(@PathVariable String runId,
-                                                          @RequestParam String path) {
-        return mlflowFacadeService.downloadArtifact(runId, path)
-                .map(content -> ResponseEntity.ok()
+    public Mono<ResponseEntity<StreamingResponseBody>> downloadArtifact(@PathVariable String runId,
+                                                                         @RequestParam String path) {
+        return mlflowFacadeService.openArtifact(runId, path)
+                .map(channel -> ResponseEntity.ok()
                         .contentType(org.springframework.http.MediaType.APPLICATION_OCTET_STREAM)
-                        .body(content))
+                        .body((StreamingResponseBody) out -> LocalObjectCache.transfer(channel, out)))
+                .onErrorResume(e -> Mono.just(ResponseEntity.internalServerError().build()));
+    }
+
+    // Streams straight from MLflow with constant memory; Range, ETag and Content-Length pass through
+    @GetMapping("/{runId}/artifacts/stream")
+    public Mono<ResponseEntity<StreamingResponseBody>> streamArtifact(@PathVariable String runId,
+                                                                       @RequestParam String path,
+                                                                       @RequestHeader HttpHeaders requestHeaders) {
+        return mlflowFacadeService.streamArtifact(runId, path, requestHeaders)
+                .map(upstream -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    ARTIFACT_RESPONSE_HEADERS.forEach(name -> {
+                        List<String> values = upstream.getHeaders().get(name);
+                        if (values != null) {
+                            headers.put(name, values);
+                        }
+                    });
+                    if (headers.getContentType() == null) {
+                        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+                    }
+                    headers.setContentDisposition(ContentDisposition.attachment()
+                            .filename(path.substring(path.lastIndexOf('/') + 1))
+                            .build());
+
+                    Flux<DataBuffer> body = upstream.getBody() != null ? upstream.getBody() : Flux.empty();
+                    StreamingResponseBody stream = out -> {
+                        // Bounded demand: only a few buffers are in flight whatever the artifact size
+                        try (InputStream in = DataBufferUtils.subscriberInputStream(body, ARTIFACT_STREAM_DEMAND)) {
+                            in.transferTo(out);
+                        }
+                    };
+                    return ResponseEntity.status(upstream.getStatusCode()).headers(headers).body(stream);
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(ResponseEntity.notFound().build()))
                 .onErrorResume(e -> Mono.just(ResponseEntity.internalServerError().build()));
     }
 }
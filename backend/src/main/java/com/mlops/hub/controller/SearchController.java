@@ -0,0 +1,36 @@
+package com.mlops.hub.controller;
+
+import com.mlops.hub.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    // Ranked search over runs, models, datasets and entrypoints with type/status/owner facets
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> search(@RequestParam("q") String query,
+                                                      @RequestParam(required = false) String type,
+                                                      @RequestParam(required = false) String status,
+                                                      @RequestParam(required = false) String owner,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(searchService.search(query, type, status, owner, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Search failed: " + e.getMessage()));
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.mlops.hub.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mlops.hub.service.ObjectStorageService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/storage")
@@ -16,6 +24,8 @@ public class StorageController {
     @Autowired
     private ObjectStorageService objectStorageService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @PostMapping("/upload")
     public ResponseEntity<String> uploadFile(@RequestParam("file") MultipartFile file,
                                            @RequestParam("path") String path) {
@@ -56,4 +66,42 @@ public class StorageController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @GetMapping("/objects")
+    public ResponseEntity<Map<String, Object>> listObjects(@RequestParam(required = false) String prefix,
+                                                           @RequestParam(required = false) String startAfter,
+                                                           @RequestParam(defaultValue = "1000") int maxKeys,
+                                                           @RequestParam(defaultValue = "false") boolean recursive) {
+        try {
+            Map<String, Object> page = objectStorageService.listFilesPage(
+                    prefix != null ? prefix : "", startAfter, maxKeys, recursive);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Writes one JSON object per line as the listing arrives, so memory stays bounded for any prefix
+    @GetMapping(value = "/objects/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamObjects(@RequestParam(required = false) String prefix,
+                                                               @RequestParam(defaultValue = "true") boolean recursive) {
+        StreamingResponseBody body = out -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try {
+                objectStorageService.forEachFile(prefix != null ? prefix : "", recursive, entry -> {
+                    writer.write(objectMapper.writeValueAsString(entry));
+                    writer.newLine();
+                });
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                writer.write(objectMapper.writeValueAsString(Map.of("error", String.valueOf(e.getMessage()))));
+                writer.newLine();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,82 @@
+package com.mlops.hub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "dataset_integrity_issues")
+public class DatasetIntegrityIssue {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_id", nullable = false)
+    private String fileId;
+
+    @Column(name = "version_id", nullable = false)
+    private Long versionId;
+
+    @Column(name = "file_path", nullable = false, length = 1000)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "issue_type", nullable = false)
+    private IssueType issueType;
+
+    @Column(name = "expected_digest")
+    private String expectedDigest;
+
+    @Column(name = "actual_digest")
+    private String actualDigest;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "first_detected_at")
+    private LocalDateTime firstDetectedAt;
+
+    @Column(name = "last_detected_at")
+    private LocalDateTime lastDetectedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        firstDetectedAt = LocalDateTime.now();
+        lastDetectedAt = firstDetectedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFileId() { return fileId; }
+    public void setFileId(String fileId) { this.fileId = fileId; }
+
+    public Long getVersionId() { return versionId; }
+    public void setVersionId(Long versionId) { this.versionId = versionId; }
+
+    public String getFilePath() { return filePath; }
+    public void setFilePath(String filePath) { this.filePath = filePath; }
+
+    public IssueType getIssueType() { return issueType; }
+    public void setIssueType(IssueType issueType) { this.issueType = issueType; }
+
+    public String getExpectedDigest() { return expectedDigest; }
+    public void setExpectedDigest(String expectedDigest) { this.expectedDigest = expectedDigest; }
+
+    public String getActualDigest() { return actualDigest; }
+    public void setActualDigest(String actualDigest) { this.actualDigest = actualDigest; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getFirstDetectedAt() { return firstDetectedAt; }
+    public void setFirstDetectedAt(LocalDateTime firstDetectedAt) { this.firstDetectedAt = firstDetectedAt; }
+
+    public LocalDateTime getLastDetectedAt() { return lastDetectedAt; }
+    public void setLastDetectedAt(LocalDateTime lastDetectedAt) { this.lastDetectedAt = lastDetectedAt; }
+
+    public enum IssueType {
+        MISSING, DIGEST_MISMATCH, READ_ERROR
+    }
+}
@@ -0,0 +1,48 @@
+package com.mlops.hub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "dataset_scrub_checkpoints")
+public class DatasetScrubCheckpoint {
+
+    @Id
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // Highest dataset_files.id verified in the current pass
+    @Column(name = "last_file_id", nullable = false)
+    private Long lastFileId = 0L;
+
+    @Column(name = "pass_started_at")
+    private LocalDateTime passStartedAt;
+
+    @Column(name = "last_pass_completed_at")
+    private LocalDateTime lastPassCompletedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Long getLastFileId() { return lastFileId; }
+    public void setLastFileId(Long lastFileId) { this.lastFileId = lastFileId; }
+
+    public LocalDateTime getPassStartedAt() { return passStartedAt; }
+    public void setPassStartedAt(LocalDateTime passStartedAt) { this.passStartedAt = passStartedAt; }
+
+    public LocalDateTime getLastPassCompletedAt() { return lastPassCompletedAt; }
+    public void setLastPassCompletedAt(LocalDateTime lastPassCompletedAt) { this.lastPassCompletedAt = lastPassCompletedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -20,6 +20,22 @@ public class Experiment {
     @Column(name = "mlflow_experiment_id")
     private String mlflowExperimentId;
     
+    // Fields below are mirrored from MLflow by MlflowSyncService; times are epoch millis
+    @Column(name = "lifecycle_stage", length = 50)
+    private String lifecycleStage;
+    
+    @Column(name = "artifact_location", length = 1000)
+    private String artifactLocation;
+    
+    @Column(name = "creation_time")
+    private Long creationTime;
+    
+    @Column(name = "last_update_time")
+    private Long lastUpdateTime;
+    
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -50,6 +66,21 @@ public class Experiment {
     public String getMlflowExperimentId() { return mlflowExperimentId; }
     public void setMlflowExperimentId(String mlflowExperimentId) { this.mlflowExperimentId = mlflowExperimentId; }
     
+    public String getLifecycleStage() { return lifecycleStage; }
+    public void setLifecycleStage(String lifecycleStage) { this.lifecycleStage = lifecycleStage; }
+    
+    public String getArtifactLocation() { return artifactLocation; }
+    public void setArtifactLocation(String artifactLocation) { this.artifactLocation = artifactLocation; }
+    
+    public Long getCreationTime() { return creationTime; }
+    public void setCreationTime(Long creationTime) { this.creationTime = creationTime; }
+    
+    public Long getLastUpdateTime() { return lastUpdateTime; }
+    public void setLastUpdateTime(Long lastUpdateTime) { this.lastUpdateTime = lastUpdateTime; }
+    
+    public LocalDateTime getSyncedAt() { return syncedAt; }
+    public void setSyncedAt(LocalDateTime syncedAt) { this.syncedAt = syncedAt; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,81 @@
+package com.mlops.hub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of an MLflow model version, kept up to date by MlflowSyncService.
+ */
+@Entity
+@Table(name = "mlflow_model_versions",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"name", "version"}))
+public class MlflowModelVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "version", nullable = false, length = 50)
+    private String version;
+
+    @Column(name = "current_stage", length = 50)
+    private String currentStage;
+
+    @Column(name = "status", length = 50)
+    private String status;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "source", length = 1000)
+    private String source;
+
+    @Column(name = "run_id")
+    private String runId;
+
+    @Column(name = "creation_timestamp")
+    private Long creationTimestamp;
+
+    @Column(name = "last_updated_timestamp")
+    private Long lastUpdatedTimestamp;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getVersion() { return version; }
+    public void setVersion(String version) { this.version = version; }
+
+    public String getCurrentStage() { return currentStage; }
+    public void setCurrentStage(String currentStage) { this.currentStage = currentStage; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+
+    public Long getCreationTimestamp() { return creationTimestamp; }
+    public void setCreationTimestamp(Long creationTimestamp) { this.creationTimestamp = creationTimestamp; }
+
+    public Long getLastUpdatedTimestamp() { return lastUpdatedTimestamp; }
+    public void setLastUpdatedTimestamp(Long lastUpdatedTimestamp) { this.lastUpdatedTimestamp = lastUpdatedTimestamp; }
+
+    public LocalDateTime getSyncedAt() { return syncedAt; }
+    public void setSyncedAt(LocalDateTime syncedAt) { this.syncedAt = syncedAt; }
+}
@@ -0,0 +1,44 @@
+package com.mlops.hub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of an MLflow registered model, kept up to date by MlflowSyncService.
+ */
+@Entity
+@Table(name = "mlflow_registered_models")
+public class MlflowRegisteredModel {
+
+    @Id
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "creation_timestamp")
+    private Long creationTimestamp;
+
+    @Column(name = "last_updated_timestamp")
+    private Long lastUpdatedTimestamp;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Long getCreationTimestamp() { return creationTimestamp; }
+    public void setCreationTimestamp(Long creationTimestamp) { this.creationTimestamp = creationTimestamp; }
+
+    public Long getLastUpdatedTimestamp() { return lastUpdatedTimestamp; }
+    public void setLastUpdatedTimestamp(Long lastUpdatedTimestamp) { this.lastUpdatedTimestamp = lastUpdatedTimestamp; }
+
+    public LocalDateTime getSyncedAt() { return syncedAt; }
+    public void setSyncedAt(LocalDateTime syncedAt) { this.syncedAt = syncedAt; }
+}
@@ -0,0 +1,42 @@
+package com.mlops.hub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "mlflow_sync_checkpoints")
+public class MlflowSyncCheckpoint {
+
+    @Id
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    // MLflow timestamp (epoch millis) the next incremental pass starts from
+    @Column(name = "high_water", nullable = false)
+    private Long highWater = 0L;
+
+    @Column(name = "last_full_sync_at")
+    private LocalDateTime lastFullSyncAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Long getHighWater() { return highWater; }
+    public void setHighWater(Long highWater) { this.highWater = highWater; }
+
+    public LocalDateTime getLastFullSyncAt() { return lastFullSyncAt; }
+    public void setLastFullSyncAt(LocalDateTime lastFullSyncAt) { this.lastFullSyncAt = lastFullSyncAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
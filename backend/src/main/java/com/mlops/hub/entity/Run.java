@@ -1,7 +1,11 @@
 package com.mlops.hub.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Entity
 @Table(name = "runs")
@@ -24,6 +28,50 @@ public class Run {
     @Column(name = "mlflow_run_id")
     private String mlflowRunId;
     
+    // Fields below are mirrored from MLflow by MlflowSyncService; times are epoch millis
+    @Column(name = "mlflow_experiment_id")
+    private String mlflowExperimentId;
+    
+    @Column(name = "user_id")
+    private String userId;
+    
+    @Column(name = "start_time")
+    private Long startTime;
+    
+    @Column(name = "end_time")
+    private Long endTime;
+    
+    @Column(name = "lifecycle_stage", length = 50)
+    private String lifecycleStage;
+    
+    @Column(name = "artifact_uri", length = 1000)
+    private String artifactUri;
+    
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+    
+    // Latest value of each metric, as returned by runs/search
+    @ElementCollection
+    @CollectionTable(name = "run_latest_metrics", joinColumns = @JoinColumn(name = "run_id"))
+    @MapKeyColumn(name = "metric_key", length = 250)
+    @Column(name = "metric_value")
+    @BatchSize(size = 100)
+    private Map<String, Double> metrics = new HashMap<>();
+    
+    @ElementCollection
+    @CollectionTable(name = "run_params", joinColumns = @JoinColumn(name = "run_id"))
+    @MapKeyColumn(name = "param_key", length = 250)
+    @Column(name = "param_value", length = 8000)
+    @BatchSize(size = 100)
+    private Map<String, String> params = new HashMap<>();
+    
+    @ElementCollection
+    @CollectionTable(name = "run_tags", joinColumns = @JoinColumn(name = "run_id"))
+    @MapKeyColumn(name = "tag_key", length = 250)
+    @Column(name = "tag_value", length = 8000)
+    @BatchSize(size = 100)
+    private Map<String, String> tags = new HashMap<>();
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -57,6 +105,36 @@ public class Run {
     public String getMlflowRunId() { return mlflowRunId; }
     public void setMlflowRunId(String mlflowRunId) { this.mlflowRunId = mlflowRunId; }
     
+    public String getMlflowExperimentId() { return mlflowExperimentId; }
+    public void setMlflowExperimentId(String mlflowExperimentId) { this.mlflowExperimentId = mlflowExperimentId; }
+    
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+    
+    public Long getStartTime() { return startTime; }
+    public void setStartTime(Long startTime) { this.startTime = startTime; }
+    
+    public Long getEndTime() { return endTime; }
+    public void setEndTime(Long endTime) { this.endTime = endTime; }
+    
+    public String getLifecycleStage() { return lifecycleStage; }
+    public void setLifecycleStage(String lifecycleStage) { this.lifecycleStage = lifecycleStage; }
+    
+    public String getArtifactUri() { return artifactUri; }
+    public void setArtifactUri(String artifactUri) { this.artifactUri = artifactUri; }
+    
+    public LocalDateTime getSyncedAt() { return syncedAt; }
+    public void setSyncedAt(LocalDateTime syncedAt) { this.syncedAt = syncedAt; }
+    
+    public Map<String, Double> getMetrics() { return metrics; }
+    public void setMetrics(Map<String, Double> metrics) { this.metrics = metrics; }
+    
+    public Map<String, String> getParams() { return params; }
+    public void setParams(Map<String, String> params) { this.params = params; }
+    
+    public Map<String, String> getTags() { return tags; }
+    public void setTags(Map<String, String> tags) { this.tags = tags; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,79 @@
+package com.mlops.hub.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One searchable entity (run, registered model, dataset or entrypoint) in the unified search
+ * index. The weighted full-text vector over title, description and content is a generated
+ * column maintained by PostgreSQL and is not mapped here.
+ */
+@Entity
+@Table(name = "search_documents",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"doc_type", "doc_key"}))
+public class SearchDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "doc_type", nullable = false, length = 50)
+    private String docType; // run, model, dataset, entrypoint
+
+    // Id of the source entity within its type (MLflow run id, model name, local id)
+    @Column(name = "doc_key", nullable = false)
+    private String docKey;
+
+    @Column(name = "title", nullable = false, length = 500)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    // Tags, params and other metadata flattened to text
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "status", length = 50)
+    private String status;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(name = "indexed_at")
+    private LocalDateTime indexedAt;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getDocType() { return docType; }
+    public void setDocType(String docType) { this.docType = docType; }
+
+    public String getDocKey() { return docKey; }
+    public void setDocKey(String docKey) { this.docKey = docKey; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+
+    public LocalDateTime getSourceUpdatedAt() { return sourceUpdatedAt; }
+    public void setSourceUpdatedAt(LocalDateTime sourceUpdatedAt) { this.sourceUpdatedAt = sourceUpdatedAt; }
+
+    public LocalDateTime getIndexedAt() { return indexedAt; }
+    public void setIndexedAt(LocalDateTime indexedAt) { this.indexedAt = indexedAt; }
+}
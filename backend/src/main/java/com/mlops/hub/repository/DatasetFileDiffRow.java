@@ -0,0 +1,18 @@
+package com.mlops.hub.repository;
+
+/**
+ * One file name of a version-to-version comparison, with the digest and size on each side.
+ * A side is null when the file does not exist in that version.
+ */
+public interface DatasetFileDiffRow {
+
+    String getFileName();
+
+    String getBaseDigest();
+
+    String getTargetDigest();
+
+    Long getBaseSize();
+
+    Long getTargetSize();
+}
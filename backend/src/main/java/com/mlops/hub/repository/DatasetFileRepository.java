@@ -1,11 +1,14 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.DatasetFile;
+import com.mlops.hub.entity.DatasetVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,8 +21,31 @@ public interface DatasetFileRepository extends JpaRepository<DatasetFile, Long>
     
     Optional<DatasetFile> findByVersionIdAndFileName(Long versionId, String fileName);
     
+    List<DatasetFile> findByVersionIdAndFileIdIn(Long versionId, Collection<String> fileIds);
+    
     @Query("SELECT f FROM DatasetFile f WHERE f.versionId = :versionId AND f.fileName LIKE %:fileName%")
     List<DatasetFile> findByVersionIdAndFileNameContaining(@Param("versionId") Long versionId, @Param("fileName") String fileName);
     
+    // Pivots both manifests onto one row per file name in a single scan
+    @Query("SELECT f.fileName AS fileName, " +
+           "MAX(CASE WHEN f.versionId = :baseVersionId THEN f.digest END) AS baseDigest, " +
+           "MAX(CASE WHEN f.versionId = :targetVersionId THEN f.digest END) AS targetDigest, " +
+           "MAX(CASE WHEN f.versionId = :baseVersionId THEN f.fileSize END) AS baseSize, " +
+           "MAX(CASE WHEN f.versionId = :targetVersionId THEN f.fileSize END) AS targetSize " +
+           "FROM DatasetFile f WHERE f.versionId IN (:baseVersionId, :targetVersionId) " +
+           "GROUP BY f.fileName ORDER BY f.fileName")
+    List<DatasetFileDiffRow> diffVersions(@Param("baseVersionId") Long baseVersionId, @Param("targetVersionId") Long targetVersionId);
+    
+    // Keyset scan over files of committed versions, used by the integrity scrubber
+    @Query("SELECT f FROM DatasetFile f WHERE f.id > :afterId AND f.versionId IN " +
+           "(SELECT v.id FROM DatasetVersion v WHERE v.status = :status) ORDER BY f.id")
+    List<DatasetFile> findByVersionStatusAfterId(@Param("status") DatasetVersion.VersionStatus status,
+                                                 @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT COUNT(f) FROM DatasetFile f WHERE f.id > :afterId AND f.versionId IN " +
+           "(SELECT v.id FROM DatasetVersion v WHERE v.status = :status)")
+    long countByVersionStatusAfterId(@Param("status") DatasetVersion.VersionStatus status,
+                                     @Param("afterId") Long afterId);
+    
     void deleteByVersionId(Long versionId);
 }
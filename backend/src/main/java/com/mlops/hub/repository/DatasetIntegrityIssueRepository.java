@@ -0,0 +1,26 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.DatasetIntegrityIssue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface DatasetIntegrityIssueRepository extends JpaRepository<DatasetIntegrityIssue, Long> {
+    
+    Optional<DatasetIntegrityIssue> findByFileIdAndIssueType(String fileId, DatasetIntegrityIssue.IssueType issueType);
+    
+    Page<DatasetIntegrityIssue> findAllByOrderByLastDetectedAtDesc(Pageable pageable);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DatasetIntegrityIssue i WHERE i.fileId = :fileId")
+    int deleteByFileId(@Param("fileId") String fileId);
+}
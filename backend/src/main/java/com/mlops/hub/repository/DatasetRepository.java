@@ -1,9 +1,13 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.Dataset;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,8 @@ public interface DatasetRepository extends JpaRepository<Dataset, Long> {
     Optional<Dataset> findByName(String name);
     
     List<Dataset> findByNameContainingIgnoreCase(String name);
+    
+    Page<Dataset> findByUpdatedAtGreaterThanEqual(LocalDateTime since, Pageable pageable);
+    
+    List<Dataset> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
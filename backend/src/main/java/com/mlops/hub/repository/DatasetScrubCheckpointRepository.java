@@ -0,0 +1,9 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.DatasetScrubCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DatasetScrubCheckpointRepository extends JpaRepository<DatasetScrubCheckpoint, String> {
+}
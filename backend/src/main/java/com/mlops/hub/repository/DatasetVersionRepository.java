@@ -1,6 +1,7 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.DatasetVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,4 +25,6 @@ public interface DatasetVersionRepository extends JpaRepository<DatasetVersion,
     List<DatasetVersion> findByDatasetIdAndStatusOrderByVersionNumberDesc(Long datasetId, DatasetVersion.VersionStatus status);
     
     Optional<DatasetVersion> findByDatasetIdAndStatus(Long datasetId, DatasetVersion.VersionStatus status);
+    
+    List<DatasetVersion> findByDatasetIdAndVersionNumberLessThanOrderByVersionNumberDesc(Long datasetId, Integer beforeVersion, Limit limit);
 }
@@ -1,12 +1,15 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.EntrypointHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EntrypointHistoryRepository extends JpaRepository<EntrypointHistory, Long> {
@@ -20,5 +23,25 @@ public interface EntrypointHistoryRepository extends JpaRepository<EntrypointHis
     Long countByEntrypointId(@Param("entrypointId") Long entrypointId);
     
     void deleteByEntrypointId(Long entrypointId);
+    
+    // Bodies are TEXT and can be large, so listings select a fixed-size preview of each
+    String SUMMARY = "SELECT h.id AS id, h.entrypointId AS entrypointId, h.status AS status, " +
+            "h.statusCode AS statusCode, h.elapsedTimeMs AS elapsedTimeMs, " +
+            "SUBSTRING(h.errorMessage, 1, 500) AS errorMessage, " +
+            "SUBSTRING(h.requestBody, 1, 100) AS requestPreview, " +
+            "SUBSTRING(h.responseBody, 1, 100) AS responsePreview, h.createdAt AS createdAt " +
+            "FROM EntrypointHistory h WHERE h.entrypointId = :entrypointId ";
+    
+    @Query(SUMMARY + "ORDER BY h.createdAt DESC, h.id DESC")
+    List<EntrypointHistorySummary> findSummaries(@Param("entrypointId") Long entrypointId, Limit limit);
+    
+    // Rows strictly after (createdAt, id) in newest-first order
+    @Query(SUMMARY + "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id)) " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    List<EntrypointHistorySummary> findSummariesAfter(@Param("entrypointId") Long entrypointId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+    
+    Optional<EntrypointHistory> findByIdAndEntrypointId(Long id, Long entrypointId);
 }
-
@@ -0,0 +1,28 @@
+package com.mlops.hub.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One inference call as listed in an entrypoint's history. Request and response bodies are
+ * cut to a short preview; the full row is read per item.
+ */
+public interface EntrypointHistorySummary {
+
+    Long getId();
+
+    Long getEntrypointId();
+
+    String getStatus();
+
+    Integer getStatusCode();
+
+    Long getElapsedTimeMs();
+
+    String getErrorMessage();
+
+    String getRequestPreview();
+
+    String getResponsePreview();
+
+    LocalDateTime getCreatedAt();
+}
@@ -1,11 +1,15 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.Entrypoint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,5 +39,8 @@ public interface EntrypointRepository extends JpaRepository<Entrypoint, Long> {
     
     @Query("SELECT e FROM Entrypoint e WHERE e.status = :status AND e.type = :type")
     List<Entrypoint> findByStatusAndType(@Param("status") String status, @Param("type") String type);
+    
+    Page<Entrypoint> findByUpdatedAtGreaterThanEqual(LocalDateTime since, Pageable pageable);
+    
+    List<Entrypoint> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
-
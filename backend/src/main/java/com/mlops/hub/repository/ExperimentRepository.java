@@ -2,8 +2,14 @@ package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.Experiment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +21,14 @@ public interface ExperimentRepository extends JpaRepository<Experiment, Long> {
     List<Experiment> findByNameContainingIgnoreCase(String name);
     
     Optional<Experiment> findByMlflowExperimentId(String mlflowExperimentId);
+    
+    List<Experiment> findByMlflowExperimentIdIn(Collection<String> mlflowExperimentIds);
+    
+    List<Experiment> findByLifecycleStageOrderByLastUpdateTimeDesc(String lifecycleStage);
+    
+    // Synced experiments no longer returned by MLflow in a full pass; rows stay because local runs may reference them
+    @Modifying
+    @Transactional
+    @Query("UPDATE Experiment e SET e.lifecycleStage = 'deleted' WHERE e.syncedAt < :syncedBefore")
+    int markDeletedSyncedBefore(@Param("syncedBefore") LocalDateTime syncedBefore);
 }
@@ -1,6 +1,7 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.InferenceService;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,4 +21,6 @@ public interface InferenceServiceRepository extends JpaRepository<InferenceServi
     
     @Query("SELECT i FROM InferenceService i WHERE i.name LIKE %:name% OR i.description LIKE %:description%")
     List<InferenceService> findByNameOrDescriptionContaining(@Param("name") String name, @Param("description") String description);
+    
+    List<InferenceService> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
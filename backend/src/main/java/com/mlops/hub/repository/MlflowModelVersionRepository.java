@@ -0,0 +1,29 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.MlflowModelVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MlflowModelVersionRepository extends JpaRepository<MlflowModelVersion, Long> {
+
+    List<MlflowModelVersion> findByName(String name);
+
+    // Versions of a model that disappeared from MLflow since the given sync
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MlflowModelVersion v WHERE v.name = :name AND v.syncedAt < :syncedBefore")
+    int deleteByNameSyncedBefore(@Param("name") String name, @Param("syncedBefore") LocalDateTime syncedBefore);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MlflowModelVersion v WHERE v.syncedAt < :syncedBefore")
+    int deleteSyncedBefore(@Param("syncedBefore") LocalDateTime syncedBefore);
+}
@@ -0,0 +1,28 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.MlflowRegisteredModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MlflowRegisteredModelRepository extends JpaRepository<MlflowRegisteredModel, String> {
+
+    List<MlflowRegisteredModel> findAllByOrderByLastUpdatedTimestampDesc();
+
+    // Models no longer returned by MLflow in a full pass
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MlflowRegisteredModel m WHERE m.syncedAt < :syncedBefore")
+    int deleteSyncedBefore(@Param("syncedBefore") LocalDateTime syncedBefore);
+
+    Page<MlflowRegisteredModel> findBySyncedAtGreaterThanEqual(LocalDateTime since, Pageable pageable);
+}
@@ -1,9 +1,17 @@
 package com.mlops.hub.repository;
 
 import com.mlops.hub.entity.Run;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +25,29 @@ public interface RunRepository extends JpaRepository<Run, Long> {
     Optional<Run> findByMlflowRunId(String mlflowRunId);
     
     List<Run> findByNameContainingIgnoreCase(String name);
+    
+    List<Run> findByMlflowRunIdIn(Collection<String> mlflowRunIds);
+    
+    List<Run> findByMlflowExperimentIdAndLifecycleStageOrderByStartTimeDesc(String mlflowExperimentId, String lifecycleStage);
+    
+    // Runs purged from MLflow since the given full pass; removed entity by entity so their metrics, params and tags go too
+    @Transactional
+    long deleteBySyncedAtBefore(LocalDateTime syncedBefore);
+    
+    // Records that a full pass saw these runs unchanged; a bulk update, so updated_at is left alone
+    @Modifying
+    @Query("UPDATE Run r SET r.syncedAt = :syncedAt WHERE r.mlflowRunId IN :mlflowRunIds")
+    int markSynced(@Param("mlflowRunIds") Collection<String> mlflowRunIds, @Param("syncedAt") LocalDateTime syncedAt);
+    
+    // Synced runs MLflow has not deleted; runs created here before their first sync have no lifecycle stage yet
+    @Query("SELECT r FROM Run r WHERE r.mlflowRunId IS NOT NULL AND (r.lifecycleStage IS NULL OR r.lifecycleStage = 'active')")
+    Page<Run> findActiveMlflowRuns(Pageable pageable);
+    
+    @Query("SELECT r FROM Run r WHERE r.mlflowRunId IS NOT NULL AND (r.lifecycleStage IS NULL OR r.lifecycleStage = 'active') " +
+           "AND r.updatedAt >= :since")
+    Page<Run> findActiveMlflowRunsUpdatedSince(@Param("since") LocalDateTime since, Pageable pageable);
+    
+    @Query("SELECT r.mlflowRunId FROM Run r WHERE r.mlflowRunId IS NOT NULL AND r.lifecycleStage <> 'active' " +
+           "AND r.updatedAt >= :since")
+    List<String> findInactiveMlflowRunIdsUpdatedSince(@Param("since") LocalDateTime since);
 }
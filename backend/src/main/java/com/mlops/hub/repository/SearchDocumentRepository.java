@@ -0,0 +1,71 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.SearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SearchDocumentRepository extends JpaRepository<SearchDocument, Long> {
+
+    // Matches on the GIN-indexed tsvector or, for typos and partial names, the trigram-indexed title
+    String MATCH_QUERY = "FROM search_documents d " +
+                         "WHERE (d.search_vector @@ websearch_to_tsquery('simple', :query) OR d.title % :query) ";
+    String TYPE_FILTER = "AND (CAST(:docType AS VARCHAR) IS NULL OR d.doc_type = :docType) ";
+    String STATUS_FILTER = "AND (CAST(:status AS VARCHAR) IS NULL OR d.status = :status) ";
+    String OWNER_FILTER = "AND (CAST(:owner AS VARCHAR) IS NULL OR d.owner = :owner) ";
+    String MATCH = MATCH_QUERY + TYPE_FILTER + STATUS_FILTER + OWNER_FILTER;
+
+    List<SearchDocument> findByDocTypeAndDocKeyIn(String docType, Collection<String> docKeys);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SearchDocument d WHERE d.docType = :docType AND d.docKey IN :docKeys")
+    int deleteByDocTypeAndDocKeys(@Param("docType") String docType, @Param("docKeys") Collection<String> docKeys);
+
+    @Query("SELECT MAX(d.sourceUpdatedAt) FROM SearchDocument d WHERE d.docType = :docType")
+    LocalDateTime findMaxSourceUpdatedAt(@Param("docType") String docType);
+
+    // Every document is re-indexed by a full pass, so the oldest indexed_at bounds when the last one ran
+    @Query("SELECT MIN(d.indexedAt) FROM SearchDocument d")
+    LocalDateTime findMinIndexedAt();
+
+    // Documents whose source was not seen by a full reindex pass
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SearchDocument d WHERE d.docType = :docType AND d.indexedAt < :indexedBefore")
+    int deleteByDocTypeIndexedBefore(@Param("docType") String docType, @Param("indexedBefore") LocalDateTime indexedBefore);
+
+    @Query(value = "SELECT d.doc_type AS docType, d.doc_key AS docKey, d.title AS title, d.description AS description, " +
+                   "d.status AS status, d.owner AS owner, d.source_updated_at AS sourceUpdatedAt, " +
+                   "ts_rank_cd(d.search_vector, websearch_to_tsquery('simple', :query)) + similarity(d.title, :query) AS score " +
+                   MATCH +
+                   "ORDER BY score DESC, d.id LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<SearchHitRow> search(@Param("query") String query, @Param("docType") String docType,
+                              @Param("status") String status, @Param("owner") String owner,
+                              @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) " + MATCH, nativeQuery = true)
+    long countMatches(@Param("query") String query, @Param("docType") String docType,
+                      @Param("status") String status, @Param("owner") String owner);
+
+    // Each facet is counted without its own filter, so the other values stay selectable
+    @Query(value = "SELECT 'type' AS facet, d.doc_type AS value, COUNT(*) AS count " +
+                   MATCH_QUERY + STATUS_FILTER + OWNER_FILTER + "GROUP BY d.doc_type " +
+                   "UNION ALL SELECT 'status', d.status, COUNT(*) " +
+                   MATCH_QUERY + TYPE_FILTER + OWNER_FILTER + "AND d.status IS NOT NULL GROUP BY d.status " +
+                   "UNION ALL SELECT 'owner', d.owner, COUNT(*) " +
+                   MATCH_QUERY + TYPE_FILTER + STATUS_FILTER + "AND d.owner IS NOT NULL GROUP BY d.owner " +
+                   "ORDER BY facet, count DESC",
+           nativeQuery = true)
+    List<SearchFacetRow> facets(@Param("query") String query, @Param("docType") String docType,
+                                @Param("status") String status, @Param("owner") String owner);
+}
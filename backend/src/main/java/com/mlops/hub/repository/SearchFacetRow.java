@@ -0,0 +1,13 @@
+package com.mlops.hub.repository;
+
+/**
+ * Number of matching documents for one value of one facet (type, status or owner).
+ */
+public interface SearchFacetRow {
+
+    String getFacet();
+
+    String getValue();
+
+    Long getCount();
+}
@@ -0,0 +1,25 @@
+package com.mlops.hub.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One ranked search result. Score combines full-text rank and title trigram similarity.
+ */
+public interface SearchHitRow {
+
+    String getDocType();
+
+    String getDocKey();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getStatus();
+
+    String getOwner();
+
+    LocalDateTime getSourceUpdatedAt();
+
+    Double getScore();
+}
@@ -0,0 +1,50 @@
+package com.mlops.hub.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket shared by all scrub workers, limiting the aggregate read rate in bytes per second.
+ * Callers take tokens after each read and sleep off any debt, so the bucket never blocks
+ * other workers while one is waiting. A non-positive rate disables limiting.
+ */
+public class ByteRateLimiter {
+
+    private final long bytesPerSecond;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double available;
+    private long lastRefillNanos;
+
+    public ByteRateLimiter(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+        this.available = bytesPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire(long bytes) throws InterruptedException {
+        if (bytesPerSecond <= 0 || bytes <= 0) {
+            return;
+        }
+
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            double refill = (now - lastRefillNanos) * bytesPerSecond / 1_000_000_000.0;
+            available = Math.min(bytesPerSecond, available + refill);
+            lastRefillNanos = now;
+            available -= bytes;
+            waitNanos = available < 0 ? (long) (-available * 1_000_000_000.0 / bytesPerSecond) : 0;
+        } finally {
+            lock.unlock();
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+}
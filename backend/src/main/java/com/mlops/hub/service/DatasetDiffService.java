@@ -0,0 +1,213 @@
+package com.mlops.hub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mlops.hub.entity.DatasetFile;
+import com.mlops.hub.entity.DatasetVersion;
+import com.mlops.hub.repository.DatasetFileDiffRow;
+import com.mlops.hub.repository.DatasetFileRepository;
+import com.mlops.hub.repository.DatasetVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class DatasetDiffService {
+
+    private static final Set<String> ROW_DIFF_FORMATS = Set.of("CSV", "JSONL");
+
+    @Autowired
+    private DatasetVersionRepository datasetVersionRepository;
+
+    @Autowired
+    private DatasetFileRepository datasetFileRepository;
+
+    @Autowired
+    private ObjectStorageService objectStorageService;
+
+    @Value("${dataset.diff.sort-memory-bytes:67108864}")
+    private long sortMemoryBytes;
+
+    @Value("${dataset.diff.merge-fan-in:64}")
+    private int mergeFanIn;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public Map<String, Object> diffVersions(Long datasetId, String baseVersionId, String targetVersionId) {
+        DatasetVersion base = getVersion(datasetId, baseVersionId);
+        DatasetVersion target = getVersion(datasetId, targetVersionId);
+
+        List<Map<String, Object>> added = new ArrayList<>();
+        List<Map<String, Object>> removed = new ArrayList<>();
+        List<Map<String, Object>> modified = new ArrayList<>();
+        List<Map<String, Object>> unchanged = new ArrayList<>();
+        long sizeDelta = 0;
+
+        for (DatasetFileDiffRow row : datasetFileRepository.diffVersions(base.getId(), target.getId())) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("fileName", row.getFileName());
+            entry.put("baseDigest", row.getBaseDigest());
+            entry.put("targetDigest", row.getTargetDigest());
+            entry.put("baseSize", row.getBaseSize());
+            entry.put("targetSize", row.getTargetSize());
+            long delta = sizeOf(row.getTargetSize()) - sizeOf(row.getBaseSize());
+            entry.put("sizeDelta", delta);
+            sizeDelta += delta;
+
+            if (row.getBaseDigest() == null) {
+                added.add(entry);
+            } else if (row.getTargetDigest() == null) {
+                removed.add(entry);
+            } else if (!row.getBaseDigest().equals(row.getTargetDigest())) {
+                modified.add(entry);
+            } else {
+                unchanged.add(entry);
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("added", added.size());
+        summary.put("removed", removed.size());
+        summary.put("modified", modified.size());
+        summary.put("unchanged", unchanged.size());
+        summary.put("sizeDelta", sizeDelta);
+
+        Map<String, Object> diff = new LinkedHashMap<>();
+        diff.put("datasetId", datasetId);
+        diff.put("baseVersionId", baseVersionId);
+        diff.put("baseVersionNumber", base.getVersionNumber());
+        diff.put("targetVersionId", targetVersionId);
+        diff.put("targetVersionNumber", target.getVersionNumber());
+        diff.put("summary", summary);
+        diff.put("added", added);
+        diff.put("removed", removed);
+        diff.put("modified", modified);
+        diff.put("unchanged", unchanged);
+        return diff;
+    }
+
+    /**
+     * Resolves the base and target copies of a file for a row-level diff,
+     * failing fast before anything is streamed.
+     */
+    public List<DatasetFile> resolveRowDiffFiles(Long datasetId, String baseVersionId, String targetVersionId,
+                                                 String fileName) {
+        DatasetFile baseFile = getFile(getVersion(datasetId, baseVersionId), fileName);
+        DatasetFile targetFile = getFile(getVersion(datasetId, targetVersionId), fileName);
+        return List.of(baseFile, targetFile);
+    }
+
+    /**
+     * Streams a row-level diff of one CSV or JSONL file as NDJSON.
+     * Both sides are sorted on disk first, so files larger than the heap can be compared;
+     * rows are compared as a multiset, ignoring their order within the file.
+     */
+    public void streamRowDiff(DatasetFile baseFile, DatasetFile targetFile, OutputStream out) throws Exception {
+        boolean csv = "CSV".equals(rowFormat(baseFile)) && "CSV".equals(rowFormat(targetFile));
+
+        Path workDir = Files.createTempDirectory("dataset-diff-");
+        try {
+            ExternalLineSorter sorter = new ExternalLineSorter(workDir, sortMemoryBytes, mergeFanIn);
+            String[] headers = new String[2];
+            Path baseSorted = sortObject(sorter, baseFile, csv, headers, 0);
+            Path targetSorted = sortObject(sorter, targetFile, csv, headers, 1);
+
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv && !headers[0].equals(headers[1])) {
+                writeLine(writer, Map.of("op", "header_changed", "base", headers[0], "target", headers[1]));
+            }
+
+            long added = 0;
+            long removed = 0;
+            try (BufferedReader baseReader = Files.newBufferedReader(baseSorted, StandardCharsets.UTF_8);
+                 BufferedReader targetReader = Files.newBufferedReader(targetSorted, StandardCharsets.UTF_8)) {
+                String baseLine = baseReader.readLine();
+                String targetLine = targetReader.readLine();
+                while (baseLine != null || targetLine != null) {
+                    int cmp = baseLine == null ? 1 : targetLine == null ? -1 : baseLine.compareTo(targetLine);
+                    if (cmp == 0) {
+                        baseLine = baseReader.readLine();
+                        targetLine = targetReader.readLine();
+                    } else if (cmp < 0) {
+                        writeLine(writer, Map.of("op", "removed", "row", baseLine));
+                        removed++;
+                        baseLine = baseReader.readLine();
+                    } else {
+                        writeLine(writer, Map.of("op", "added", "row", targetLine));
+                        added++;
+                        targetLine = targetReader.readLine();
+                    }
+                }
+            }
+
+            writeLine(writer, Map.of("op", "summary", "added", added, "removed", removed));
+            writer.flush();
+        } finally {
+            FileSystemUtils.deleteRecursively(workDir);
+        }
+    }
+
+    private Path sortObject(ExternalLineSorter sorter, DatasetFile file, boolean csv,
+                            String[] headers, int side) throws Exception {
+        try (InputStream in = objectStorageService.downloadFile(file.getFilePath());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            if (csv) {
+                String header = reader.readLine();
+                headers[side] = header != null ? header : "";
+            }
+            return sorter.sort(reader);
+        }
+    }
+
+    private void writeLine(BufferedWriter writer, Map<String, Object> record) throws IOException {
+        writer.write(objectMapper.writeValueAsString(record));
+        writer.newLine();
+    }
+
+    private DatasetVersion getVersion(Long datasetId, String versionId) {
+        return datasetVersionRepository
+                .findByDatasetIdAndVersionId(datasetId, versionId)
+                .orElseThrow(() -> new RuntimeException("Version not found: " + versionId));
+    }
+
+    private DatasetFile getFile(DatasetVersion version, String fileName) {
+        DatasetFile file = datasetFileRepository
+                .findByVersionIdAndFileName(version.getId(), fileName)
+                .orElseThrow(() -> new RuntimeException("File not found in version " + version.getVersionId() + ": " + fileName));
+        if (!ROW_DIFF_FORMATS.contains(rowFormat(file))) {
+            throw new IllegalArgumentException("Row-level diff is only supported for CSV and JSONL files");
+        }
+        return file;
+    }
+
+    private String rowFormat(DatasetFile file) {
+        String name = file.getFileName().toLowerCase();
+        if (name.endsWith(".jsonl")) {
+            return "JSONL";
+        }
+        if (name.endsWith(".csv")) {
+            return "CSV";
+        }
+        return file.getFileFormat();
+    }
+
+    private long sizeOf(Long size) {
+        return size != null ? size : 0L;
+    }
+}
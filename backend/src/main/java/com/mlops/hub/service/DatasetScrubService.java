@@ -0,0 +1,282 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.DatasetFile;
+import com.mlops.hub.entity.DatasetIntegrityIssue;
+import com.mlops.hub.entity.DatasetScrubCheckpoint;
+import com.mlops.hub.entity.DatasetVersion;
+import com.mlops.hub.repository.DatasetFileRepository;
+import com.mlops.hub.repository.DatasetIntegrityIssueRepository;
+import com.mlops.hub.repository.DatasetScrubCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.errors.ErrorResponseException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background scrubber that re-reads committed dataset files from object storage and
+ * checks them against their stored SHA-256 digest. Reads are spread over a small worker
+ * pool and throttled by a shared byte-rate limit; progress is checkpointed after every
+ * batch so a restarted pass resumes instead of starting over.
+ */
+@Service
+public class DatasetScrubService {
+
+    static final String CHECKPOINT_NAME = "dataset-files";
+
+    @Autowired
+    private DatasetFileRepository datasetFileRepository;
+
+    @Autowired
+    private DatasetIntegrityIssueRepository integrityIssueRepository;
+
+    @Autowired
+    private DatasetScrubCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ObjectStorageService objectStorageService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("datasetScrubExecutor")
+    private Executor scrubExecutor;
+
+    @Value("${dataset.scrub.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dataset.scrub.bytes-per-second:10485760}")
+    private long bytesPerSecond;
+
+    @Value("${dataset.scrub.batch-size:100}")
+    private int batchSize;
+
+    private ByteRateLimiter rateLimiter;
+    private Counter filesCounter;
+    private Counter bytesCounter;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong passFilesScrubbed = new AtomicLong();
+    private final AtomicLong passBytesRead = new AtomicLong();
+    private final AtomicLong passIssues = new AtomicLong();
+    private volatile long passFilesTotal;
+    private volatile long passStartNanos;
+
+    @PostConstruct
+    void init() {
+        rateLimiter = new ByteRateLimiter(bytesPerSecond);
+        filesCounter = Counter.builder("dataset.scrub.files")
+                .description("Dataset files checked by the integrity scrubber")
+                .register(meterRegistry);
+        bytesCounter = Counter.builder("dataset.scrub.bytes")
+                .description("Bytes read from object storage by the integrity scrubber")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("dataset.scrub.progress", this, DatasetScrubService::getProgress)
+                .description("Fraction of the current scrub pass completed")
+                .register(meterRegistry);
+        Gauge.builder("dataset.scrub.throughput", this, DatasetScrubService::getThroughput)
+                .description("Read rate of the current scrub pass")
+                .baseUnit("bytes/s")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${dataset.scrub.interval-ms:3600000}",
+               initialDelayString = "${dataset.scrub.initial-delay-ms:300000}")
+    public void scheduledScrub() {
+        // A pass can take hours at the byte-rate limit, so it must not hold the shared scheduler thread
+        if (enabled) {
+            triggerPass();
+        }
+    }
+
+    /**
+     * Scrubs every committed file not yet covered by the current pass.
+     * Returns false without doing anything if a pass is already running.
+     */
+    public boolean runPass() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        return scrubPass();
+    }
+
+    // Runs a pass the caller has already claimed through the running flag, and releases it
+    private boolean scrubPass() {
+        try {
+            DatasetScrubCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_NAME)
+                    .orElseGet(() -> {
+                        DatasetScrubCheckpoint created = new DatasetScrubCheckpoint();
+                        created.setName(CHECKPOINT_NAME);
+                        return created;
+                    });
+            if (checkpoint.getPassStartedAt() == null) {
+                checkpoint.setPassStartedAt(LocalDateTime.now());
+                checkpoint.setLastFileId(0L);
+                checkpoint = checkpointRepository.save(checkpoint);
+            }
+
+            passFilesScrubbed.set(0);
+            passBytesRead.set(0);
+            passIssues.set(0);
+            passStartNanos = System.nanoTime();
+            passFilesTotal = datasetFileRepository.countByVersionStatusAfterId(
+                    DatasetVersion.VersionStatus.COMMITTED, checkpoint.getLastFileId());
+
+            Pageable batch = PageRequest.of(0, batchSize);
+            List<DatasetFile> files;
+            while (!(files = datasetFileRepository.findByVersionStatusAfterId(
+                    DatasetVersion.VersionStatus.COMMITTED, checkpoint.getLastFileId(), batch)).isEmpty()) {
+                CompletableFuture.allOf(files.stream()
+                        .map(file -> CompletableFuture.runAsync(() -> scrubFile(file), scrubExecutor))
+                        .toArray(CompletableFuture[]::new)).join();
+
+                checkpoint.setLastFileId(files.get(files.size() - 1).getId());
+                checkpoint = checkpointRepository.save(checkpoint);
+            }
+
+            checkpoint.setLastFileId(0L);
+            checkpoint.setPassStartedAt(null);
+            checkpoint.setLastPassCompletedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Dataset scrub pass failed: " + e.getMessage());
+            return false;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // Starts a pass in the background for on-demand scrubs; false if one is already running
+    public boolean triggerPass() {
+        // Claimed here rather than in the thread, so "started" is never reported for a pass that loses the race
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            Thread.ofVirtual().name("dataset-scrub-pass").start(this::scrubPass);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("running", running.get());
+        status.put("bytesPerSecondLimit", bytesPerSecond);
+        status.put("filesScrubbed", passFilesScrubbed.get());
+        status.put("filesTotal", passFilesTotal);
+        status.put("bytesRead", passBytesRead.get());
+        status.put("issuesFound", passIssues.get());
+        status.put("progress", getProgress());
+        status.put("throughputBytesPerSecond", getThroughput());
+        checkpointRepository.findById(CHECKPOINT_NAME).ifPresent(checkpoint -> {
+            status.put("lastFileId", checkpoint.getLastFileId());
+            status.put("passStartedAt", checkpoint.getPassStartedAt());
+            status.put("lastPassCompletedAt", checkpoint.getLastPassCompletedAt());
+        });
+        status.put("openIssues", integrityIssueRepository.count());
+        return status;
+    }
+
+    public Page<DatasetIntegrityIssue> getIssues(Pageable pageable) {
+        return integrityIssueRepository.findAllByOrderByLastDetectedAtDesc(pageable);
+    }
+
+    private void scrubFile(DatasetFile file) {
+        try {
+            if (!FileDigests.isVerifiable(file.getDigest())) {
+                return;
+            }
+
+            MessageDigest md = FileDigests.newSha256();
+            byte[] buffer = new byte[FileDigests.BUFFER_SIZE];
+            try (InputStream in = objectStorageService.downloadFile(file.getFilePath())) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    md.update(buffer, 0, read);
+                    passBytesRead.addAndGet(read);
+                    bytesCounter.increment(read);
+                    rateLimiter.acquire(read);
+                }
+            }
+
+            String actualDigest = FileDigests.toHex(md.digest());
+            if (actualDigest.equals(file.getDigest())) {
+                // A clean read clears anything recorded for this file in earlier passes
+                integrityIssueRepository.deleteByFileId(file.getFileId());
+            } else {
+                recordIssue(file, DatasetIntegrityIssue.IssueType.DIGEST_MISMATCH, actualDigest,
+                        "Stored object does not match the recorded digest");
+            }
+        } catch (ErrorResponseException e) {
+            DatasetIntegrityIssue.IssueType type = "NoSuchKey".equals(e.errorResponse().code())
+                    ? DatasetIntegrityIssue.IssueType.MISSING
+                    : DatasetIntegrityIssue.IssueType.READ_ERROR;
+            recordIssue(file, type, null, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            recordIssue(file, DatasetIntegrityIssue.IssueType.READ_ERROR, null, e.getMessage());
+        } finally {
+            passFilesScrubbed.incrementAndGet();
+            filesCounter.increment();
+        }
+    }
+
+    private void recordIssue(DatasetFile file, DatasetIntegrityIssue.IssueType type, String actualDigest, String message) {
+        passIssues.incrementAndGet();
+        meterRegistry.counter("dataset.scrub.issues", "type", type.name()).increment();
+
+        DatasetIntegrityIssue issue = integrityIssueRepository.findByFileIdAndIssueType(file.getFileId(), type)
+                .orElseGet(DatasetIntegrityIssue::new);
+        issue.setFileId(file.getFileId());
+        issue.setVersionId(file.getVersionId());
+        issue.setFilePath(file.getFilePath());
+        issue.setIssueType(type);
+        issue.setExpectedDigest(file.getDigest());
+        issue.setActualDigest(actualDigest);
+        issue.setMessage(message);
+        if (issue.getId() != null) {
+            issue.setLastDetectedAt(LocalDateTime.now());
+        }
+        integrityIssueRepository.save(issue);
+    }
+
+    private double getProgress() {
+        long total = passFilesTotal;
+        return total == 0 ? (running.get() ? 0.0 : 1.0) : Math.min(1.0, (double) passFilesScrubbed.get() / total);
+    }
+
+    private double getThroughput() {
+        long elapsedNanos = System.nanoTime() - passStartNanos;
+        if (passStartNanos == 0 || elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return passBytesRead.get() * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -3,6 +3,7 @@ package com.mlops.hub.service;
 import com.mlops.hub.entity.Dataset;
 import com.mlops.hub.repository.DatasetRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,9 @@ public class DatasetService {
     @Autowired
     private DatasetRepository datasetRepository;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
     public List<Dataset> getAllDatasets() {
         return datasetRepository.findAll();
     }
@@ -26,6 +30,14 @@ public class DatasetService {
         return datasetRepository.findAll(pageable);
     }
 
+    public KeysetPage<Dataset> getDatasetsPage(String cursor, Integer requestedLimit) {
+        int limit = KeysetPage.limit(requestedLimit);
+        String[] after = KeysetPage.decodeCursor(cursor, 1);
+        long afterId = after != null ? KeysetPage.longPart(after[0]) : 0L;
+        List<Dataset> rows = datasetRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KeysetPage.fetchSize(limit)));
+        return KeysetPage.of(rows, limit, dataset -> List.of(dataset.getId()));
+    }
+
     public Optional<Dataset> getDatasetById(Long id) {
         return datasetRepository.findById(id);
     }
@@ -53,6 +65,7 @@ public class DatasetService {
         Optional<Dataset> optionalDataset = datasetRepository.findById(id);
         if (optionalDataset.isPresent()) {
             datasetRepository.deleteById(id);
+            searchIndexService.remove(SearchIndexService.DATASET, String.valueOf(id));
             return true;
         }
         return false;
@@ -6,17 +6,29 @@ import com.mlops.hub.entity.DatasetVersion;
 import com.mlops.hub.repository.DatasetFileRepository;
 import com.mlops.hub.repository.DatasetRepository;
 import com.mlops.hub.repository.DatasetVersionRepository;
+import io.minio.StatObjectResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.security.MessageDigest;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Service
 public class DatasetVersionService {
@@ -33,6 +45,16 @@ public class DatasetVersionService {
     @Autowired
     private ObjectStorageService objectStorageService;
 
+    @Autowired
+    private LocalObjectCache localObjectCache;
+
+    @Autowired
+    @Qualifier("datasetFileExecutor")
+    private Executor datasetFileExecutor;
+
+    @Value("${dataset.presign.expiry-seconds:900}")
+    private int presignExpirySeconds;
+
     // Dataset Version Management
     public DatasetVersion createVersion(Long datasetId, String description) {
         Dataset dataset = datasetRepository.findById(datasetId)
@@ -57,6 +79,16 @@ public class DatasetVersionService {
         return datasetVersionRepository.findByDatasetIdOrderByVersionNumberDesc(datasetId);
     }
 
+    // Newest first; version numbers are unique per dataset, so they alone order the pages
+    public KeysetPage<DatasetVersion> getVersionsPage(Long datasetId, String cursor, Integer requestedLimit) {
+        int limit = KeysetPage.limit(requestedLimit);
+        String[] before = KeysetPage.decodeCursor(cursor, 1);
+        int beforeVersion = before != null ? (int) KeysetPage.longPart(before[0]) : Integer.MAX_VALUE;
+        List<DatasetVersion> rows = datasetVersionRepository.findByDatasetIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+                datasetId, beforeVersion, Limit.of(KeysetPage.fetchSize(limit)));
+        return KeysetPage.of(rows, limit, version -> List.of(version.getVersionNumber()));
+    }
+
     public Optional<DatasetVersion> getVersionById(Long datasetId, String versionId) {
         return datasetVersionRepository.findByDatasetIdAndVersionId(datasetId, versionId);
     }
@@ -91,30 +123,33 @@ public class DatasetVersionService {
 
     // File Management
     public DatasetFile uploadFile(Long datasetId, String versionId, MultipartFile file) throws Exception {
-        DatasetVersion version = datasetVersionRepository
-                .findByDatasetIdAndVersionId(datasetId, versionId)
-                .orElseThrow(() -> new RuntimeException("Version not found"));
-
-        if (version.getStatus() != DatasetVersion.VersionStatus.DRAFT) {
-            throw new RuntimeException("Files can only be uploaded to draft versions");
-        }
-
-        // Create version-specific file path
-        String filePath = String.format("datasets/%s/versions/%s/%s", 
-                datasetId, versionId, file.getOriginalFilename());
-        
-        objectStorageService.uploadFile(filePath, file);
-
-        DatasetFile datasetFile = new DatasetFile();
-        datasetFile.setFileId(UUID.randomUUID().toString());
-        datasetFile.setVersionId(version.getId());
-        datasetFile.setFileName(file.getOriginalFilename());
-        datasetFile.setFilePath(filePath);
-        datasetFile.setFileSize(file.getSize());
-               datasetFile.setFileFormat(detectFileFormat(file));
-        datasetFile.setDigest(calculateFileDigest(file));
+        DatasetVersion version = getDraftVersion(datasetId, versionId, "Files can only be uploaded to draft versions");
+        return storeFile(datasetId, version, file);
+    }
 
-        return datasetFileRepository.save(datasetFile);
+    public Map<String, Object> uploadFiles(Long datasetId, String versionId, List<MultipartFile> files) {
+        DatasetVersion version = getDraftVersion(datasetId, versionId, "Files can only be uploaded to draft versions");
+
+        List<CompletableFuture<Map<String, Object>>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("fileName", file.getOriginalFilename());
+                    try {
+                        DatasetFile stored = storeFile(datasetId, version, file);
+                        result.put("status", "success");
+                        result.put("file", stored);
+                    } catch (Exception e) {
+                        result.put("status", "error");
+                        result.put("error", e.getMessage());
+                    }
+                    return result;
+                }, datasetFileExecutor))
+                .collect(Collectors.toList());
+
+        List<Map<String, Object>> results = uploads.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        return summarize(results, "success");
     }
 
     public List<DatasetFile> getFilesByVersion(Long datasetId, String versionId) {
@@ -125,16 +160,28 @@ public class DatasetVersionService {
         return datasetFileRepository.findByVersionIdOrderByCreatedAtAsc(version.getId());
     }
 
-    public byte[] downloadFile(Long datasetId, String versionId, String fileId) throws Exception {
+    public Optional<DatasetFile> getFile(Long datasetId, String versionId, String fileId) {
         DatasetVersion version = datasetVersionRepository
                 .findByDatasetIdAndVersionId(datasetId, versionId)
                 .orElseThrow(() -> new RuntimeException("Version not found"));
 
-        DatasetFile file = datasetFileRepository
-                .findByVersionIdAndFileId(version.getId(), fileId)
-                .orElseThrow(() -> new RuntimeException("File not found"));
+        return datasetFileRepository.findByVersionIdAndFileId(version.getId(), fileId);
+    }
 
-        return objectStorageService.downloadFile(file.getFilePath()).readAllBytes();
+    /**
+     * Opens a file's contents for serving. Files of committed versions are read through the
+     * local object cache keyed by digest; other files are spooled to a temporary file.
+     */
+    public FileChannel openFile(DatasetFile file) throws Exception {
+        boolean committed = datasetVersionRepository.findById(file.getVersionId())
+                .map(version -> version.getStatus() == DatasetVersion.VersionStatus.COMMITTED)
+                .orElse(false);
+
+        if (committed && FileDigests.isVerifiable(file.getDigest())) {
+            return localObjectCache.openOrLoad("dataset:" + file.getDigest(),
+                    () -> objectStorageService.downloadFile(file.getFilePath()));
+        }
+        return localObjectCache.openUncached(() -> objectStorageService.downloadFile(file.getFilePath()));
     }
 
     public void deleteFile(Long datasetId, String versionId, String fileId) {
@@ -160,6 +207,83 @@ public class DatasetVersionService {
         datasetFileRepository.delete(file);
     }
 
+    public Map<String, Object> deleteFiles(Long datasetId, String versionId, List<String> fileIds) throws Exception {
+        DatasetVersion version = getDraftVersion(datasetId, versionId, "Files can only be deleted from draft versions");
+
+        Map<String, DatasetFile> filesById = datasetFileRepository
+                .findByVersionIdAndFileIdIn(version.getId(), fileIds).stream()
+                .collect(Collectors.toMap(DatasetFile::getFileId, f -> f));
+        Map<String, String> failures = objectStorageService.deleteFiles(
+                filesById.values().stream().map(DatasetFile::getFilePath).collect(Collectors.toList()));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        List<DatasetFile> deleted = new ArrayList<>();
+        for (String fileId : fileIds) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("fileId", fileId);
+            DatasetFile file = filesById.get(fileId);
+            if (file == null) {
+                result.put("status", "not_found");
+            } else if (failures.containsKey(file.getFilePath())) {
+                // Keep the row so the delete can be retried
+                result.put("status", "error");
+                result.put("error", failures.get(file.getFilePath()));
+            } else {
+                result.put("status", "deleted");
+                deleted.add(file);
+            }
+            results.add(result);
+        }
+        datasetFileRepository.deleteAll(deleted);
+
+        return summarize(results, "deleted");
+    }
+
+    public Map<String, Object> verifyVersion(Long datasetId, String versionId) {
+        DatasetVersion version = datasetVersionRepository
+                .findByDatasetIdAndVersionId(datasetId, versionId)
+                .orElseThrow(() -> new RuntimeException("Version not found"));
+
+        List<DatasetFile> files = datasetFileRepository.findByVersionIdOrderByCreatedAtAsc(version.getId());
+        String prefix = versionPrefix(datasetId, versionId);
+
+        // Sweep the version prefix in parallel, one listing per leading character of the file names
+        List<CompletableFuture<Map<String, Long>>> listings = files.stream()
+                .map(f -> f.getFileName().isEmpty() ? "" : f.getFileName().substring(0, 1))
+                .distinct()
+                .map(shard -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return objectStorageService.listFileSizes(prefix + shard);
+                    } catch (Exception e) {
+                        throw new RuntimeException("Failed to list objects under " + prefix + shard, e);
+                    }
+                }, datasetFileExecutor))
+                .collect(Collectors.toList());
+
+        Map<String, Long> objectSizes = new HashMap<>();
+        listings.forEach(listing -> objectSizes.putAll(listing.join()));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (DatasetFile file : files) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("fileId", file.getFileId());
+            result.put("fileName", file.getFileName());
+            Long actualSize = objectSizes.get(file.getFilePath());
+            if (actualSize == null) {
+                result.put("status", "missing");
+            } else if (file.getFileSize() != null && !file.getFileSize().equals(actualSize)) {
+                result.put("status", "size_mismatch");
+                result.put("expectedSize", file.getFileSize());
+                result.put("actualSize", actualSize);
+            } else {
+                result.put("status", "ok");
+            }
+            results.add(result);
+        }
+
+        return summarize(results, "ok");
+    }
+
     public void deleteVersion(Long datasetId, String versionId) {
         DatasetVersion version = datasetVersionRepository
                 .findByDatasetIdAndVersionId(datasetId, versionId)
@@ -171,12 +295,13 @@ public class DatasetVersionService {
 
         // Delete all files in this version
         List<DatasetFile> files = datasetFileRepository.findByVersionIdOrderByCreatedAtAsc(version.getId());
-        for (DatasetFile file : files) {
-            try {
-                objectStorageService.deleteFile(file.getFilePath());
-            } catch (Exception e) {
-                System.err.println("Failed to delete file from MinIO: " + e.getMessage());
-            }
+        try {
+            Map<String, String> failures = objectStorageService.deleteFiles(
+                    files.stream().map(DatasetFile::getFilePath).collect(Collectors.toList()));
+            failures.forEach((path, error) ->
+                    System.err.println("Failed to delete file from MinIO: " + path + ": " + error));
+        } catch (Exception e) {
+            System.err.println("Failed to delete files from MinIO: " + e.getMessage());
         }
         datasetFileRepository.deleteByVersionId(version.getId());
 
@@ -184,10 +309,128 @@ public class DatasetVersionService {
         datasetVersionRepository.delete(version);
     }
 
+    // Direct Transfers
+    /**
+     * Issues a short-lived presigned PUT URL so the client uploads straight to object storage.
+     * The client must send the returned checksum header; the store rejects a body that does not
+     * hash to it. The SDK only signs the host into presigned URLs, so completeUpload checks that
+     * the checksum was actually sent.
+     */
+    public Map<String, Object> presignUpload(Long datasetId, String versionId, String fileName, String sha256) throws Exception {
+        DatasetVersion version = getDraftVersion(datasetId, versionId, "Files can only be uploaded to draft versions");
+        validateDirectUpload(fileName, sha256);
+
+        String objectName = versionPrefix(datasetId, version.getVersionId()) + fileName;
+        Map<String, Object> upload = new LinkedHashMap<>();
+        upload.put("fileName", fileName);
+        upload.put("objectName", objectName);
+        upload.put("method", "PUT");
+        upload.put("url", objectStorageService.getPresignedUploadUrl(objectName, presignExpirySeconds));
+        upload.put("headers", Map.of(ObjectStorageService.SHA256_CHECKSUM_HEADER, FileDigests.hexToBase64(sha256)));
+        upload.put("expiresInSeconds", presignExpirySeconds);
+        return upload;
+    }
+
+    /**
+     * Records a file uploaded through a presigned URL, after checking that the object exists
+     * and that the store verified its bytes against the declared SHA-256 when it was written.
+     * The content is never read back through the backend.
+     */
+    public DatasetFile completeUpload(Long datasetId, String versionId, String fileName, String sha256) throws Exception {
+        DatasetVersion version = getDraftVersion(datasetId, versionId, "Files can only be uploaded to draft versions");
+        validateDirectUpload(fileName, sha256);
+
+        String objectName = versionPrefix(datasetId, version.getVersionId()) + fileName;
+        StatObjectResponse stat = objectStorageService.statFileWithChecksum(objectName);
+        String storedChecksum = objectStorageService.getSha256Checksum(stat);
+        if (!sha256.equalsIgnoreCase(storedChecksum)) {
+            objectStorageService.deleteFile(objectName);
+            throw new IllegalArgumentException(storedChecksum == null
+                    ? "Upload of " + fileName + " carried no " + ObjectStorageService.SHA256_CHECKSUM_HEADER + " header"
+                    : "Content of " + fileName + " does not match the declared sha256");
+        }
+
+        DatasetFile datasetFile = new DatasetFile();
+        datasetFile.setFileId(UUID.randomUUID().toString());
+        datasetFile.setVersionId(version.getId());
+        datasetFile.setFileName(fileName);
+        datasetFile.setFilePath(objectName);
+        datasetFile.setFileSize(stat.size());
+        datasetFile.setFileFormat(detectFileFormat(fileName, stat.contentType()));
+        datasetFile.setDigest(sha256.toLowerCase());
+
+        return datasetFileRepository.save(datasetFile);
+    }
+
+    public Optional<Map<String, Object>> presignDownload(Long datasetId, String versionId, String fileId) throws Exception {
+        Optional<DatasetFile> file = getFile(datasetId, versionId, fileId);
+        if (file.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> download = new LinkedHashMap<>();
+        download.put("fileName", file.get().getFileName());
+        download.put("method", "GET");
+        download.put("url", objectStorageService.getPresignedDownloadUrl(
+                file.get().getFilePath(), file.get().getFileName(), presignExpirySeconds));
+        download.put("expiresInSeconds", presignExpirySeconds);
+        return Optional.of(download);
+    }
+
     // Helper methods
-    private String detectFileFormat(MultipartFile file) {
-        String contentType = file.getContentType();
-        String fileName = file.getOriginalFilename();
+    private DatasetVersion getDraftVersion(Long datasetId, String versionId, String message) {
+        DatasetVersion version = datasetVersionRepository
+                .findByDatasetIdAndVersionId(datasetId, versionId)
+                .orElseThrow(() -> new RuntimeException("Version not found"));
+
+        if (version.getStatus() != DatasetVersion.VersionStatus.DRAFT) {
+            throw new RuntimeException(message);
+        }
+        return version;
+    }
+
+    private void validateDirectUpload(String fileName, String sha256) {
+        if (fileName == null || fileName.isBlank() || fileName.contains("/")) {
+            throw new IllegalArgumentException("A plain file name is required");
+        }
+        if (!FileDigests.isVerifiable(sha256) || !sha256.matches("[0-9a-fA-F]{64}")) {
+            throw new IllegalArgumentException("sha256 must be a hex-encoded SHA-256 digest");
+        }
+    }
+
+    private DatasetFile storeFile(Long datasetId, DatasetVersion version, MultipartFile file) throws Exception {
+        // Create version-specific file path
+        String filePath = versionPrefix(datasetId, version.getVersionId()) + file.getOriginalFilename();
+
+        objectStorageService.uploadFile(filePath, file);
+
+        DatasetFile datasetFile = new DatasetFile();
+        datasetFile.setFileId(UUID.randomUUID().toString());
+        datasetFile.setVersionId(version.getId());
+        datasetFile.setFileName(file.getOriginalFilename());
+        datasetFile.setFilePath(filePath);
+        datasetFile.setFileSize(file.getSize());
+        datasetFile.setFileFormat(detectFileFormat(file.getOriginalFilename(), file.getContentType()));
+        datasetFile.setDigest(calculateFileDigest(file));
+
+        return datasetFileRepository.save(datasetFile);
+    }
+
+    private String versionPrefix(Long datasetId, String versionId) {
+        return String.format("datasets/%s/versions/%s/", datasetId, versionId);
+    }
+
+    private Map<String, Object> summarize(List<Map<String, Object>> results, String successStatus) {
+        long succeeded = results.stream().filter(r -> successStatus.equals(r.get("status"))).count();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", results.size());
+        summary.put("succeeded", succeeded);
+        summary.put("failed", results.size() - succeeded);
+        summary.put("results", results);
+        return summary;
+    }
+
+    private String detectFileFormat(String fileName, String contentType) {
 
         // Handle JSONL files specifically
         if (fileName != null && fileName.toLowerCase().endsWith(".jsonl")) {
@@ -238,21 +481,8 @@ public class DatasetVersionService {
     }
 
     private String calculateFileDigest(MultipartFile file) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] fileBytes = file.getBytes();
-            byte[] hashBytes = md.digest(fileBytes);
-
-            // Convert bytes to hex string
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
+        try (InputStream in = file.getInputStream()) {
+            return FileDigests.sha256Hex(in);
         } catch (Exception e) {
             // Fallback to a simple hash based on filename and size
             return "sha256:" + file.getOriginalFilename() + ":" + file.getSize();
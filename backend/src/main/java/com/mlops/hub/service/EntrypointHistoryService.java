@@ -2,14 +2,18 @@ package com.mlops.hub.service;
 
 import com.mlops.hub.entity.EntrypointHistory;
 import com.mlops.hub.repository.EntrypointHistoryRepository;
+import com.mlops.hub.repository.EntrypointHistorySummary;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 
@@ -50,9 +54,32 @@ public class EntrypointHistoryService {
         return historyRepository.findByEntrypointIdOrderByCreatedAtDesc(entrypointId);
     }
     
-    public List<EntrypointHistory> getRecentHistory(Long entrypointId, int limit) {
-        List<EntrypointHistory> all = historyRepository.findByEntrypointIdOrderByCreatedAtDesc(entrypointId);
-        return all.stream().limit(limit).toList();
+    public List<EntrypointHistorySummary> getRecentHistory(Long entrypointId, int limit) {
+        return historyRepository.findSummaries(entrypointId, Limit.of(limit));
+    }
+    
+    // Newest first, keyed on (createdAt, id) so rows sharing a timestamp are neither skipped nor repeated
+    public KeysetPage<EntrypointHistorySummary> getHistoryPage(Long entrypointId, String cursor, Integer requestedLimit) {
+        int limit = KeysetPage.limit(requestedLimit);
+        String[] after = KeysetPage.decodeCursor(cursor, 2);
+        Limit fetch = Limit.of(KeysetPage.fetchSize(limit));
+        List<EntrypointHistorySummary> rows;
+        if (after == null) {
+            rows = historyRepository.findSummaries(entrypointId, fetch);
+        } else {
+            LocalDateTime createdAt;
+            try {
+                createdAt = LocalDateTime.parse(after[0]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            rows = historyRepository.findSummariesAfter(entrypointId, createdAt, KeysetPage.longPart(after[1]), fetch);
+        }
+        return KeysetPage.of(rows, limit, history -> List.of(history.getCreatedAt(), history.getId()));
+    }
+    
+    public Optional<EntrypointHistory> getHistoryItem(Long entrypointId, Long historyId) {
+        return historyRepository.findByIdAndEntrypointId(historyId, entrypointId);
     }
     
     public Long countByEntrypointId(Long entrypointId) {
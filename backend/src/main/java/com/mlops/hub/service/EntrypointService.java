@@ -5,6 +5,7 @@ import com.mlops.hub.entity.InferenceService;
 import com.mlops.hub.repository.EntrypointRepository;
 import com.mlops.hub.repository.InferenceServiceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,10 +20,21 @@ public class EntrypointService {
     @Autowired
     private InferenceServiceRepository inferenceServiceRepository;
     
+    @Autowired
+    private SearchIndexService searchIndexService;
+    
     public List<Entrypoint> getAllEntrypoints() {
         return entrypointRepository.findAll();
     }
     
+    public KeysetPage<Entrypoint> getEntrypointsPage(String cursor, Integer requestedLimit) {
+        int limit = KeysetPage.limit(requestedLimit);
+        String[] after = KeysetPage.decodeCursor(cursor, 1);
+        long afterId = after != null ? KeysetPage.longPart(after[0]) : 0L;
+        List<Entrypoint> rows = entrypointRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KeysetPage.fetchSize(limit)));
+        return KeysetPage.of(rows, limit, entrypoint -> List.of(entrypoint.getId()));
+    }
+    
     public Optional<Entrypoint> getEntrypointById(Long id) {
         return entrypointRepository.findById(id);
     }
@@ -166,6 +178,7 @@ public class EntrypointService {
             throw new IllegalArgumentException("Entrypoint with id '" + id + "' not found");
         }
         entrypointRepository.deleteById(id);
+        searchIndexService.remove(SearchIndexService.ENTRYPOINT, String.valueOf(id));
     }
     
     public Entrypoint updateStatus(Long id, String status) {
@@ -0,0 +1,387 @@
+package com.mlops.hub.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-experiment metric aggregates (min/max/mean/best run per metric key) over finished runs.
+ * Aggregates are kept in memory and folded forward with only the runs that finished since the
+ * last refresh, so reads are served from a snapshot regardless of how many runs an experiment has.
+ */
+@Service
+public class ExperimentMetricsService {
+
+    // Points a history is allowed to hold per requested chart point before it is compacted
+    private static final int SERIES_BUFFER_FACTOR = 4;
+
+    @Autowired
+    private MLflowFacadeService mlflowFacadeService;
+
+    // Proxied self-reference so compared histories go through the metricHistory cache
+    @Autowired
+    @Lazy
+    private ExperimentMetricsService self;
+
+    @Value("${metrics.refresh-interval-ms:10000}")
+    private long refreshIntervalMs;
+
+    @Value("${metrics.full-refresh-interval-ms:3600000}")
+    private long fullRefreshIntervalMs;
+
+    @Value("${metrics.compare-concurrency:8}")
+    private int compareConcurrency;
+
+    @Value("${metrics.max-experiments:500}")
+    private long maxExperiments;
+
+    // Metric keys containing any of these are treated as lower-is-better when picking the best run
+    @Value("${metrics.lower-is-better:loss,error,rmse,mae,mse,perplexity}")
+    private String lowerIsBetter;
+
+    private Cache<String, ExperimentAggregate> aggregates;
+    private List<String> lowerIsBetterPatterns;
+
+    @PostConstruct
+    void init() {
+        aggregates = Caffeine.newBuilder()
+                .maximumSize(maxExperiments)
+                .expireAfterAccess(Duration.ofMillis(Math.max(fullRefreshIntervalMs, refreshIntervalMs)))
+                .build();
+        lowerIsBetterPatterns = Arrays.stream(lowerIsBetter.split(","))
+                .map(pattern -> pattern.trim().toLowerCase(Locale.ROOT))
+                .filter(pattern -> !pattern.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Current aggregates for an experiment. The first call loads every finished run; later calls
+     * return the last snapshot straight away and refresh it in the background once it is stale.
+     */
+    public Mono<Map<String, Object>> getExperimentMetrics(String experimentId) {
+        ExperimentAggregate aggregate = aggregates.get(experimentId, id -> new ExperimentAggregate());
+        return aggregate.read(experimentId);
+    }
+
+    /**
+     * Metric history of one run with its min/max/mean/last values.
+     */
+    public Mono<Map<String, Object>> getRunMetricSummary(String runId, String metricKey) {
+        return mlflowFacadeService.getMetricHistory(runId, metricKey)
+                .map(history -> {
+                    Object metrics = history.get("metrics");
+                    List<Map> points = metrics instanceof List<?> list ? (List<Map>) list : List.of();
+
+                    MetricAccumulator accumulator = new MetricAccumulator();
+                    Map last = null;
+                    for (Map point : points) {
+                        Double value = toDouble(point.get("value"));
+                        if (value != null) {
+                            accumulator.add(runId, value);
+                        }
+                        if (last == null || compareSteps(point, last) >= 0) {
+                            last = point;
+                        }
+                    }
+
+                    Map<String, Object> summary = new LinkedHashMap<>();
+                    summary.put("run_id", runId);
+                    summary.put("metric_key", metricKey);
+                    summary.put("count", accumulator.count);
+                    if (accumulator.count > 0) {
+                        summary.put("min", accumulator.min);
+                        summary.put("max", accumulator.max);
+                        summary.put("mean", accumulator.sum / accumulator.count);
+                    }
+                    summary.put("last", last != null ? toDouble(last.get("value")) : null);
+                    summary.put("last_step", last != null ? last.get("step") : null);
+                    summary.put("history", points);
+                    return summary;
+                });
+    }
+
+    /**
+     * Metric history reduced to at most {@code points} points, optionally limited to a step or
+     * time range. Pages are folded into a series bounded to a few times {@code points} as they
+     * arrive, so memory does not grow with the history; the result is cached per run, key,
+     * resolution and range.
+     */
+    @Cacheable(value = "metricHistory", sync = true,
+            key = "{#runId, #metricKey, #points, #method, #minStep, #maxStep, #startTime, #endTime}")
+    public Mono<Map<String, Object>> getDownsampledHistory(String runId, String metricKey, int points,
+                                                           MetricDownsampler.Method method,
+                                                           Long minStep, Long maxStep, Long startTime, Long endTime) {
+        return collectSeries(runId, metricKey, points * SERIES_BUFFER_FACTOR, minStep, maxStep, startTime, endTime)
+                .map(series -> {
+                    List<Map<String, Object>> sampled = MetricDownsampler.downsample(series, points, method);
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("run_id", runId);
+                    result.put("metric_key", metricKey);
+                    result.put("method", method.name().toLowerCase(Locale.ROOT));
+                    result.put("total_points", series.total());
+                    result.put("returned_points", sampled.size());
+                    result.put("points", sampled);
+                    return result;
+                });
+    }
+
+    /**
+     * Histories of several run/metric pairs on one shared step axis, as columns: a single steps
+     * array plus one values array per pair. Each history is downsampled to {@code points} through
+     * the cached getDownsampledHistory, at most metrics.compare-concurrency at a time, so only
+     * the reduced curves are held while they are aligned.
+     */
+    public Mono<Map<String, Object>> compareRuns(List<String> runIds, List<String> metricKeys, int points,
+                                                 Long minStep, Long maxStep) {
+        List<String[]> pairs = new ArrayList<>();
+        for (String runId : runIds) {
+            for (String metricKey : metricKeys) {
+                pairs.add(new String[]{runId, metricKey});
+            }
+        }
+
+        return Flux.fromIterable(pairs)
+                .flatMapSequential(pair -> self.getDownsampledHistory(pair[0], pair[1], points,
+                                MetricDownsampler.Method.LTTB, minStep, maxStep, null, null),
+                        Math.max(1, compareConcurrency))
+                .collectList()
+                .map(histories -> {
+                    List<MetricDownsampler.Series> seriesList = histories.stream().map(ExperimentMetricsService::toSeries).toList();
+                    Map<String, Object> aligned = MetricDownsampler.align(seriesList, points);
+                    List<Double[]> values = (List<Double[]>) aligned.get("values");
+
+                    List<Map<String, Object>> series = new ArrayList<>();
+                    for (int i = 0; i < pairs.size(); i++) {
+                        Map<String, Object> column = new LinkedHashMap<>();
+                        column.put("run_id", pairs.get(i)[0]);
+                        column.put("metric_key", pairs.get(i)[1]);
+                        column.put("total_points", histories.get(i).get("total_points"));
+                        column.put("values", values.get(i));
+                        series.add(column);
+                    }
+
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("steps", aligned.get("steps"));
+                    result.put("series", series);
+                    return result;
+                });
+    }
+
+    // Folds a paginated history into at most limit points, keeping only points inside the ranges
+    private Mono<MetricDownsampler.Series> collectSeries(String runId, String metricKey, int limit, Long minStep, Long maxStep,
+                                                         Long startTime, Long endTime) {
+        return mlflowFacadeService.streamMetricHistory(runId, metricKey)
+                .reduceWith(() -> new MetricDownsampler.Series(limit), (series, point) -> {
+                    Double value = toDouble(point.get("value"));
+                    Double step = toDouble(point.get("step"));
+                    Double timestamp = toDouble(point.get("timestamp"));
+                    long stepValue = step != null ? step.longValue() : 0L;
+                    long timeValue = timestamp != null ? timestamp.longValue() : 0L;
+                    if (value != null && inRange(stepValue, minStep, maxStep) && inRange(timeValue, startTime, endTime)) {
+                        series.add(stepValue, timeValue, value);
+                    }
+                    return series;
+                });
+    }
+
+    private static MetricDownsampler.Series toSeries(Map<String, Object> history) {
+        List<Map<String, Object>> points = (List<Map<String, Object>>) history.get("points");
+        MetricDownsampler.Series series = new MetricDownsampler.Series();
+        for (Map<String, Object> point : points) {
+            series.add((Long) point.get("step"), (Long) point.get("timestamp"), (Double) point.get("value"));
+        }
+        return series;
+    }
+
+    private static boolean inRange(long value, Long min, Long max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private boolean isLowerBetter(String metricKey) {
+        String key = metricKey.toLowerCase(Locale.ROOT);
+        return lowerIsBetterPatterns.stream().anyMatch(key::contains);
+    }
+
+    private static int compareSteps(Map a, Map b) {
+        Double stepA = toDouble(a.get("step"));
+        Double stepB = toDouble(b.get("step"));
+        int byStep = Double.compare(stepA != null ? stepA : 0.0, stepB != null ? stepB : 0.0);
+        if (byStep != 0) {
+            return byStep;
+        }
+        Double timeA = toDouble(a.get("timestamp"));
+        Double timeB = toDouble(b.get("timestamp"));
+        return Double.compare(timeA != null ? timeA : 0.0, timeB != null ? timeB : 0.0);
+    }
+
+    private static Double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Running count/sum/min/max for one metric key, with the runs holding the extremes
+    private static class MetricAccumulator {
+        long count;
+        double sum;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        String minRunId;
+        String maxRunId;
+
+        void add(String runId, double value) {
+            count++;
+            sum += value;
+            if (value < min) {
+                min = value;
+                minRunId = runId;
+            }
+            if (value > max) {
+                max = value;
+                maxRunId = runId;
+            }
+        }
+    }
+
+    /**
+     * Aggregates for one experiment. Only the single in-flight refresh mutates the accumulators;
+     * readers see the immutable snapshot published at the end of each refresh.
+     */
+    private class ExperimentAggregate {
+        private final Map<String, MetricAccumulator> accumulators = new TreeMap<>();
+        private final Set<String> seenRunIds = new HashSet<>();
+        private long highWaterEndTime = -1L;
+        private long lastFullLoadMillis;
+
+        private volatile Map<String, Object> snapshot;
+        private volatile long refreshedAtMillis;
+        private Mono<Map<String, Object>> inFlight;
+
+        Mono<Map<String, Object>> read(String experimentId) {
+            Map<String, Object> current = snapshot;
+            if (current == null) {
+                return refresh(experimentId);
+            }
+            if (System.currentTimeMillis() - refreshedAtMillis >= refreshIntervalMs) {
+                // Stale-while-revalidate: callers never wait on an incremental refresh
+                refresh(experimentId).subscribe(updated -> { }, error ->
+                        System.err.println("Failed to refresh metrics for experiment " + experimentId + ": " + error.getMessage()));
+            }
+            return Mono.just(current);
+        }
+
+        // Joins the refresh already running for this experiment, or starts one
+        private synchronized Mono<Map<String, Object>> refresh(String experimentId) {
+            if (inFlight == null) {
+                inFlight = load(experimentId)
+                        .doFinally(signal -> clearInFlight())
+                        .cache();
+            }
+            return inFlight;
+        }
+
+        private synchronized void clearInFlight() {
+            inFlight = null;
+        }
+
+        private Mono<Map<String, Object>> load(String experimentId) {
+            return Mono.defer(() -> {
+                long now = System.currentTimeMillis();
+                boolean full = snapshot == null || now - lastFullLoadMillis >= fullRefreshIntervalMs;
+                if (full) {
+                    // Periodic rebuild drops runs that were deleted since they were folded in
+                    accumulators.clear();
+                    seenRunIds.clear();
+                    highWaterEndTime = -1L;
+                    lastFullLoadMillis = now;
+                }
+
+                // >= because several runs can share the boundary millisecond; seenRunIds drops repeats
+                String filter = "attributes.status = 'FINISHED'"
+                        + (highWaterEndTime >= 0 ? " AND attributes.end_time >= " + highWaterEndTime : "");
+                return mlflowFacadeService.streamRuns(experimentId, filter, null)
+                        .doOnNext(this::fold)
+                        .then(Mono.fromSupplier(() -> publish(experimentId, System.currentTimeMillis())))
+                        // A partly folded refresh cannot be resumed safely, so the next one starts over
+                        .doOnError(error -> lastFullLoadMillis = 0L);
+            });
+        }
+
+        private void fold(Map run) {
+            Map info = run.get("info") instanceof Map map ? map : run;
+            String runId = (String) info.get("run_id");
+            if (runId == null || !seenRunIds.add(runId)) {
+                return;
+            }
+            Double endTime = toDouble(info.get("end_time"));
+            if (endTime != null) {
+                highWaterEndTime = Math.max(highWaterEndTime, endTime.longValue());
+            }
+
+            Object data = run.get("data");
+            Object metrics = data instanceof Map dataMap ? dataMap.get("metrics") : null;
+            if (metrics instanceof List<?> list) {
+                for (Object entry : list) {
+                    if (entry instanceof Map metric && metric.get("key") instanceof String key) {
+                        Double value = toDouble(metric.get("value"));
+                        if (value != null && !value.isNaN()) {
+                            accumulators.computeIfAbsent(key, k -> new MetricAccumulator()).add(runId, value);
+                        }
+                    }
+                }
+            }
+        }
+
+        private Map<String, Object> publish(String experimentId, long refreshedAt) {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            accumulators.forEach((key, accumulator) -> {
+                boolean lowerBetter = isLowerBetter(key);
+                Map<String, Object> stats = new HashMap<>();
+                stats.put("count", accumulator.count);
+                stats.put("min", accumulator.min);
+                stats.put("max", accumulator.max);
+                stats.put("mean", accumulator.sum / accumulator.count);
+                stats.put("goal", lowerBetter ? "minimize" : "maximize");
+                stats.put("best_run_id", lowerBetter ? accumulator.minRunId : accumulator.maxRunId);
+                stats.put("best_value", lowerBetter ? accumulator.min : accumulator.max);
+                metrics.put(key, stats);
+            });
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("experiment_id", experimentId);
+            result.put("total_runs", seenRunIds.size());
+            result.put("refreshed_at", refreshedAt);
+            result.put("metrics", metrics);
+            snapshot = result;
+            refreshedAtMillis = refreshedAt;
+            return result;
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package com.mlops.hub.service;
 
+import com.mlops.hub.config.OutboundHttpClients;
 import com.mlops.hub.entity.Experiment;
 import com.mlops.hub.entity.Run;
 import com.mlops.hub.repository.ExperimentRepository;
 import com.mlops.hub.repository.RunRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 public class ExperimentService {
 
+    static final String REQUEST_ID_TAG = "mlops_hub.request_id";
+
     @Autowired
     private ExperimentRepository experimentRepository;
 
@@ -25,6 +41,27 @@ public class ExperimentService {
     @Autowired
     private WebClient mlflowWebClient;
 
+    @Value("${mlflow.create.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${mlflow.create.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${mlflow.create.db-write-concurrency:10}")
+    private int dbWriteConcurrency;
+
+    private Scheduler dbScheduler;
+
+    @PostConstruct
+    void init() {
+        dbScheduler = Schedulers.newBoundedElastic(dbWriteConcurrency, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "experiment-db");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dbScheduler.dispose();
+    }
+
     public List<Experiment> getAllExperiments() {
         return experimentRepository.findAll();
     }
@@ -33,19 +70,18 @@ public class ExperimentService {
         return experimentRepository.findById(id);
     }
 
-    public Experiment createExperiment(Experiment experiment) {
-        // Create experiment in MLflow
-        return mlflowWebClient.post()
-                .uri("/api/2.0/mlflow/experiments/create")
-                .bodyValue(Map.of("name", experiment.getName()))
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> {
-                    String mlflowExperimentId = (String) response.get("experiment_id");
-                    experiment.setMlflowExperimentId(mlflowExperimentId);
-                    return experimentRepository.save(experiment);
-                })
-                .block();
+    /**
+     * Creates the experiment in MLflow, then records it locally. MLflow calls are retried on
+     * transient failures; if a retry finds the name taken, the active experiment an earlier
+     * attempt created is adopted by name.
+     */
+    public Mono<Experiment> createExperiment(Experiment experiment) {
+        return withRetries(createMlflowExperiment(experiment.getName()))
+                .flatMap(mlflowExperimentId -> onDb(() -> experimentRepository.findByMlflowExperimentId(mlflowExperimentId)
+                        .orElseGet(() -> {
+                            experiment.setMlflowExperimentId(mlflowExperimentId);
+                            return experimentRepository.save(experiment);
+                        })));
     }
 
     public Optional<Experiment> updateExperiment(Long id, Experiment experimentDetails) {
@@ -75,25 +111,29 @@ public class ExperimentService {
         return runRepository.findByExperimentId(experimentId);
     }
 
-    public Run createRun(Long experimentId, Run run) {
-        Optional<Experiment> experiment = experimentRepository.findById(experimentId);
-        if (experiment.isPresent()) {
-            run.setExperiment(experiment.get());
-            
-            // Create run in MLflow
-            return mlflowWebClient.post()
-                    .uri("/api/2.0/mlflow/runs/create")
-                    .bodyValue(Map.of("experiment_id", experiment.get().getMlflowExperimentId()))
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .map(response -> {
-                        String mlflowRunId = (String) response.get("run_id");
-                        run.setMlflowRunId(mlflowRunId);
-                        return runRepository.save(run);
-                    })
-                    .block();
-        }
-        return null;
+    /**
+     * Creates the run in MLflow, then records it locally; empty if the experiment does not exist.
+     * Each run carries a request id tag, so a retry finds a run an earlier attempt created
+     * instead of creating a second one.
+     */
+    public Mono<Run> createRun(Long experimentId, Run run) {
+        return onDb(() -> experimentRepository.findById(experimentId).orElse(null))
+                .flatMap(experiment -> {
+                    String mlflowExperimentId = experiment.getMlflowExperimentId();
+                    String requestId = UUID.randomUUID().toString();
+                    AtomicBoolean attempted = new AtomicBoolean();
+                    Mono<String> create = Mono.defer(() -> attempted.getAndSet(true)
+                            ? findMlflowRunByRequestId(mlflowExperimentId, requestId)
+                                    .switchIfEmpty(createMlflowRun(mlflowExperimentId, run.getName(), requestId))
+                            : createMlflowRun(mlflowExperimentId, run.getName(), requestId));
+                    return withRetries(create)
+                            .flatMap(mlflowRunId -> onDb(() -> runRepository.findByMlflowRunId(mlflowRunId)
+                                    .orElseGet(() -> {
+                                        run.setExperiment(experiment);
+                                        run.setMlflowRunId(mlflowRunId);
+                                        return runRepository.save(run);
+                                    })));
+                });
     }
 
     public Mono<Map> getMLflowExperiment(String experimentId) {
@@ -111,4 +151,99 @@ public class ExperimentService {
                 .retrieve()
                 .bodyToMono(Map.class);
     }
+
+    private Mono<String> createMlflowExperiment(String name) {
+        AtomicBoolean attempted = new AtomicBoolean();
+        return Mono.defer(() -> {
+            boolean retry = attempted.getAndSet(true);
+            return mlflowWebClient.post()
+                    .uri("/api/2.0/mlflow/experiments/create")
+                    .attribute(OutboundHttpClients.RETRIED_BY_CALLER, true)
+                    .bodyValue(Map.of("name", name))
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .map(response -> (String) response.get("experiment_id"))
+                    // Only a retry can clash with its own earlier attempt; a clash on the first
+                    // attempt, or with a deleted experiment, is a genuine conflict
+                    .onErrorResume(error -> retry && alreadyExists(error), error -> findActiveMlflowExperimentId(name)
+                            .switchIfEmpty(Mono.error(error)));
+        });
+    }
+
+    private Mono<String> findActiveMlflowExperimentId(String name) {
+        return mlflowWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/2.0/mlflow/experiments/get-by-name")
+                        .queryParam("experiment_name", name)
+                        .build())
+                .attribute(OutboundHttpClients.RETRIED_BY_CALLER, true)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> (Map) response.get("experiment"))
+                .filter(experiment -> "active".equals(experiment.get("lifecycle_stage")))
+                .map(experiment -> (String) experiment.get("experiment_id"));
+    }
+
+    private Mono<String> createMlflowRun(String mlflowExperimentId, String runName, String requestId) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("experiment_id", mlflowExperimentId);
+        body.put("start_time", System.currentTimeMillis());
+        body.put("tags", List.of(Map.of("key", REQUEST_ID_TAG, "value", requestId)));
+        if (runName != null) {
+            body.put("run_name", runName);
+        }
+        return mlflowWebClient.post()
+                .uri("/api/2.0/mlflow/runs/create")
+                .attribute(OutboundHttpClients.RETRIED_BY_CALLER, true)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> runId((Map) response.get("run")));
+    }
+
+    private Mono<String> findMlflowRunByRequestId(String mlflowExperimentId, String requestId) {
+        return mlflowWebClient.post()
+                .uri("/api/2.0/mlflow/runs/search")
+                .attribute(OutboundHttpClients.RETRIED_BY_CALLER, true)
+                .bodyValue(Map.of(
+                        "experiment_ids", List.of(mlflowExperimentId),
+                        "filter", "tags.`" + REQUEST_ID_TAG + "` = '" + requestId + "'",
+                        "run_view_type", "ALL",
+                        "max_results", 1))
+                .retrieve()
+                .bodyToMono(Map.class)
+                .flatMap(response -> {
+                    List<Map> runs = (List<Map>) response.get("runs");
+                    return runs == null || runs.isEmpty() ? Mono.empty() : Mono.just(runId(runs.get(0)));
+                });
+    }
+
+    // The only retry layer for these calls; each request opts out of the client's own retries
+    private <T> Mono<T> withRetries(Mono<T> call) {
+        return call.retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs))
+                .filter(ExperimentService::isTransient)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    // JPA calls block, so they run on a scheduler sized to the connection pool, never on the caller's thread
+    private <T> Mono<T> onDb(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(dbScheduler);
+    }
+
+    private static String runId(Map run) {
+        return (String) ((Map) run.get("info")).get("run_id");
+    }
+
+    static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        return error instanceof WebClientResponseException response
+                && (response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429);
+    }
+
+    private static boolean alreadyExists(Throwable error) {
+        return error instanceof WebClientResponseException response
+                && response.getResponseBodyAsString().contains("RESOURCE_ALREADY_EXISTS");
+    }
 }
@@ -0,0 +1,123 @@
+package com.mlops.hub.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts the lines of a text stream that may not fit in memory.
+ * Lines are buffered up to a memory budget, each full buffer is sorted and spilled
+ * to a run file, and the runs are k-way merged into a single sorted file.
+ */
+public class ExternalLineSorter {
+
+    // Rough per-line cost of a String in the buffer, on top of two bytes per char
+    private static final long LINE_OVERHEAD_BYTES = 48;
+
+    private final Path workDir;
+    private final long memoryBudgetBytes;
+    private final int mergeFanIn;
+
+    public ExternalLineSorter(Path workDir, long memoryBudgetBytes, int mergeFanIn) {
+        this.workDir = workDir;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.mergeFanIn = Math.max(2, mergeFanIn);
+    }
+
+    /**
+     * Sorts all remaining lines of the reader and returns the sorted file, created in the work directory.
+     */
+    public Path sort(BufferedReader reader) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        List<String> buffer = new ArrayList<>();
+        long bufferedBytes = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            buffer.add(line);
+            bufferedBytes += 2L * line.length() + LINE_OVERHEAD_BYTES;
+            if (bufferedBytes >= memoryBudgetBytes) {
+                runs.add(writeRun(buffer));
+                buffer.clear();
+                bufferedBytes = 0;
+            }
+        }
+        if (!buffer.isEmpty() || runs.isEmpty()) {
+            runs.add(writeRun(buffer));
+        }
+
+        // Merge in passes so that at most mergeFanIn files are open at once
+        while (runs.size() > 1) {
+            List<Path> merged = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += mergeFanIn) {
+                merged.add(merge(runs.subList(i, Math.min(i + mergeFanIn, runs.size()))));
+            }
+            runs = merged;
+        }
+        return runs.get(0);
+    }
+
+    private Path writeRun(List<String> lines) throws IOException {
+        lines.sort(null);
+        Path run = Files.createTempFile(workDir, "run-", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        return run;
+    }
+
+    private Path merge(List<Path> runs) throws IOException {
+        if (runs.size() == 1) {
+            return runs.get(0);
+        }
+
+        Path output = Files.createTempFile(workDir, "merge-", ".txt");
+        List<BufferedReader> readers = new ArrayList<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            PriorityQueue<RunHead> heads = new PriorityQueue<>();
+            for (Path run : runs) {
+                BufferedReader reader = Files.newBufferedReader(run, StandardCharsets.UTF_8);
+                readers.add(reader);
+                String first = reader.readLine();
+                if (first != null) {
+                    heads.add(new RunHead(first, reader));
+                }
+            }
+
+            while (!heads.isEmpty()) {
+                RunHead head = heads.poll();
+                writer.write(head.line);
+                writer.newLine();
+                String next = head.reader.readLine();
+                if (next != null) {
+                    heads.add(new RunHead(next, head.reader));
+                }
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        return output;
+    }
+
+    private record RunHead(String line, BufferedReader reader) implements Comparable<RunHead> {
+        @Override
+        public int compareTo(RunHead other) {
+            return line.compareTo(other.line);
+        }
+    }
+}
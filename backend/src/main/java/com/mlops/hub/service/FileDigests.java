@@ -0,0 +1,57 @@
+package com.mlops.hub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 helpers shared by uploads and the integrity scrubber, so both
+ * produce the same lowercase hex digest for the same content.
+ */
+public final class FileDigests {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private FileDigests() {
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Streams the input in fixed-size chunks instead of loading it into memory
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest md = newSha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            md.update(buffer, 0, read);
+        }
+        return toHex(md.digest());
+    }
+
+    public static String toHex(byte[] hash) {
+        return HexFormat.of().formatHex(hash);
+    }
+
+    // S3 checksum headers carry the raw digest in base64 rather than hex
+    public static String hexToBase64(String hex) {
+        return Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hex));
+    }
+
+    public static String base64ToHex(String base64) {
+        return toHex(Base64.getDecoder().decode(base64));
+    }
+
+    // Uploads that could not be hashed store a "sha256:name:size" placeholder instead
+    public static boolean isVerifiable(String digest) {
+        return digest != null && digest.length() == 64 && !digest.startsWith("sha256:");
+    }
+}
@@ -3,6 +3,7 @@ package com.mlops.hub.service;
 import com.mlops.hub.entity.InferenceService;
 import com.mlops.hub.repository.InferenceServiceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -18,6 +19,14 @@ public class InferenceServiceService {
         return inferenceServiceRepository.findAll();
     }
     
+    public KeysetPage<InferenceService> getInferenceServicesPage(String cursor, Integer requestedLimit) {
+        int limit = KeysetPage.limit(requestedLimit);
+        String[] after = KeysetPage.decodeCursor(cursor, 1);
+        long afterId = after != null ? KeysetPage.longPart(after[0]) : 0L;
+        List<InferenceService> rows = inferenceServiceRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KeysetPage.fetchSize(limit)));
+        return KeysetPage.of(rows, limit, service -> List.of(service.getId()));
+    }
+    
     public Optional<InferenceService> getInferenceServiceById(Long id) {
         return inferenceServiceRepository.findById(id);
     }
@@ -1,7 +1,13 @@
 package com.mlops.hub.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.mlops.hub.config.KeycloakConfig;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -10,7 +16,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class KeycloakService {
@@ -19,32 +30,83 @@ public class KeycloakService {
     private KeycloakConfig keycloakConfig;
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private WebClient keycloakWebClient;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    @Qualifier("keycloakRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private KeycloakTokenManager keycloakTokenManager;
+
+    @Value("${keycloak.userinfo-cache.maximum-size:10000}")
+    private long userInfoMaximumSize;
+
+    @Value("${keycloak.userinfo-cache.ttl-ms:60000}")
+    private long userInfoTtlMs;
+
+    private Clock clock = Clock.systemUTC();
+
+    // Keyed by the token's SHA-256, so raw bearer tokens are never held as keys
+    private Cache<String, CachedUserInfo> userInfoCache;
+
+    record CachedUserInfo(Map<String, Object> userInfo, long ttlNanos) {
+    }
+
+    @PostConstruct
+    void init() {
+        userInfoCache = Caffeine.newBuilder()
+                .maximumSize(userInfoMaximumSize)
+                .expireAfter(new Expiry<String, CachedUserInfo>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedUserInfo value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedUserInfo value, long currentTime, long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedUserInfo value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
-    @SuppressWarnings("unchecked")
     public String getAdminToken() {
-        String tokenUrl = keycloakConfig.getTokenUrl();
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/x-www-form-urlencoded");
-        
-        String body = "grant_type=client_credentials&client_id=admin-cli&client_secret=" + keycloakConfig.getClientSecret();
-        
-        HttpEntity<String> request = new HttpEntity<>(body, headers);
-        
-        ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
-        
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-            return (String) response.getBody().get("access_token");
+        return keycloakTokenManager.getAdminToken();
+    }
+
+    public Map<String, Object> getUserInfo(String token) {
+        return getUserInfo(token, null);
+    }
+
+    /**
+     * Returns the userinfo for a token, reusing a recent answer for the same token until the
+     * cache TTL or the token's own expiry, whichever comes first. Failures are not cached.
+     */
+    public Map<String, Object> getUserInfo(String token, Instant expiresAt) {
+        String key = FileDigests.toHex(FileDigests.newSha256().digest(token.getBytes(StandardCharsets.UTF_8)));
+        CachedUserInfo cached = userInfoCache.getIfPresent(key);
+        if (cached != null) {
+            return cached.userInfo();
         }
-        
-        throw new RuntimeException("Failed to get admin token");
+        Map<String, Object> userInfo = fetchUserInfo(token);
+        long ttlMs = userInfoTtlMs;
+        if (expiresAt != null) {
+            ttlMs = Math.min(ttlMs, Duration.between(clock.instant(), expiresAt).toMillis());
+        }
+        if (ttlMs > 0) {
+            userInfoCache.put(key, new CachedUserInfo(userInfo, TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        }
+        return userInfo;
     }
 
     @SuppressWarnings("unchecked")
-    public Map<String, Object> getUserInfo(String token) {
+    private Map<String, Object> fetchUserInfo(String token) {
         String userInfoUrl = keycloakConfig.getUserInfoUrl();
         
         HttpHeaders headers = new HttpHeaders();
@@ -67,9 +129,7 @@ public class KeycloakService {
     }
 
     public WebClient getKeycloakWebClient() {
-        return webClientBuilder
-                .baseUrl(keycloakConfig.getRealmUrl())
-                .build();
+        return keycloakWebClient;
     }
 
     public String getRealmUrl() {
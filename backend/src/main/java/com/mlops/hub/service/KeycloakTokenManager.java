@@ -0,0 +1,88 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.config.KeycloakConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the Keycloak admin token and replaces it shortly before it expires. Callers that
+ * find it stale at the same time wait for one refresh instead of each requesting a token.
+ */
+@Component
+public class KeycloakTokenManager {
+
+    // Used when the token response carries no expires_in
+    static final long DEFAULT_EXPIRES_IN_SECONDS = 60;
+
+    @Autowired
+    private KeycloakConfig keycloakConfig;
+
+    @Autowired
+    @Qualifier("keycloakRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Value("${keycloak.admin-token.refresh-skew-ms:30000}")
+    private long refreshSkewMs;
+
+    private Clock clock = Clock.systemUTC();
+
+    // A lock rather than synchronized, so waiting on a refresh does not pin a virtual thread
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken current;
+
+    record CachedToken(String value, long refreshAtMillis) {
+    }
+
+    public String getAdminToken() {
+        CachedToken token = current;
+        if (isFresh(token)) {
+            return token.value();
+        }
+        refreshLock.lock();
+        try {
+            // Another caller may have refreshed while this one waited
+            token = current;
+            if (!isFresh(token)) {
+                token = fetch();
+                current = token;
+            }
+            return token.value();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean isFresh(CachedToken token) {
+        return token != null && clock.millis() < token.refreshAtMillis();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CachedToken fetch() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/x-www-form-urlencoded");
+
+        String body = "grant_type=client_credentials&client_id=admin-cli&client_secret=" + keycloakConfig.getClientSecret();
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(keycloakConfig.getTokenUrl(), new HttpEntity<>(body, headers), Map.class);
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null
+                || response.getBody().get("access_token") == null) {
+            throw new RuntimeException("Failed to get admin token");
+        }
+        Object expiresIn = response.getBody().get("expires_in");
+        long lifetimeMs = (expiresIn instanceof Number number ? number.longValue() : DEFAULT_EXPIRES_IN_SECONDS) * 1000;
+        // Short-lived tokens are still reused for half their lifetime rather than refetched every call
+        long reuseMs = Math.max(lifetimeMs / 2, lifetimeMs - refreshSkewMs);
+        return new CachedToken((String) response.getBody().get("access_token"), clock.millis() + reuseMs);
+    }
+}
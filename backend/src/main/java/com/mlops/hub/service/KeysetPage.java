@@ -0,0 +1,95 @@
+package com.mlops.hub.service;
+
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (seek) paginated listing. The cursor encodes the sort key of the last
+ * row returned, so the next page starts with an indexed seek instead of skipping rows.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Builds a page from rows fetched with {@link #fetchSize(int)}; the extra row only signals
+     * that another page exists.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, List<Object>> sortKey) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new KeysetPage<>(items, encodeCursor(sortKey.apply(items.get(limit - 1))));
+    }
+
+    public static int limit(Integer requested) {
+        int limit = requested != null ? requested : DEFAULT_LIMIT;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public static int fetchSize(int limit) {
+        return limit + 1;
+    }
+
+    static String encodeCursor(List<Object> parts) {
+        StringBuilder raw = new StringBuilder(VERSION);
+        for (Object part : parts) {
+            raw.append(SEPARATOR).append(part);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the sort key parts of a cursor, or null for the first page.
+     */
+    public static String[] decodeCursor(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != expectedParts + 1 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String[] key = new String[expectedParts];
+        System.arraycopy(parts, 1, key, 0, expectedParts);
+        return key;
+    }
+
+    public static long longPart(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * The items as a plain JSON array, with the next cursor in a response header so existing
+     * clients that expect an array keep working.
+     */
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(items);
+    }
+}
@@ -0,0 +1,259 @@
+package com.mlops.hub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Size-bounded LRU cache of object contents on local disk, in front of MinIO and MLflow.
+ * Entries are files named after the SHA-256 of their key; callers get an open {@link FileChannel}
+ * so an entry evicted while it is being served stays readable until the channel is closed.
+ */
+@Service
+public class LocalObjectCache {
+
+    /**
+     * Opens the source object on a cache miss.
+     */
+    @FunctionalInterface
+    public interface ObjectLoader {
+        InputStream open() throws Exception;
+    }
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Mapped a region at a time, so a multi-GB entry does not need one mapping of its full size
+    private static final long MAP_REGION_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${object-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${object-cache.directory:${java.io.tmpdir}/mlops-hub-object-cache}")
+    private String directory;
+
+    @Value("${object-cache.max-size-bytes:10737418240}")
+    private long maxSizeBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // File name -> size, in access order so the eldest entry is the least recently used
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+    private Path root;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(directory);
+        Files.createDirectories(root);
+
+        // Rebuild the index left by a previous run, oldest files first
+        try (Stream<Path> files = Files.list(root)) {
+            List<Path> existing = files.sorted(Comparator.comparingLong(LocalObjectCache::lastModified)).toList();
+            for (Path file : existing) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX) || !enabled) {
+                    Files.deleteIfExists(file);
+                } else {
+                    entries.put(name, Files.size(file));
+                    currentBytes += Files.size(file);
+                }
+            }
+        }
+        evict(null);
+
+        hits = Counter.builder("object.cache.requests").tag("result", "hit")
+                .description("Local object cache lookups").register(meterRegistry);
+        misses = Counter.builder("object.cache.requests").tag("result", "miss")
+                .description("Local object cache lookups").register(meterRegistry);
+        evictions = Counter.builder("object.cache.evictions")
+                .description("Entries evicted from the local object cache").register(meterRegistry);
+        Gauge.builder("object.cache.size", this, cache -> cache.currentBytes)
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("object.cache.entries", entries, Map::size).register(meterRegistry);
+        Gauge.builder("object.cache.hit.ratio", this, LocalObjectCache::hitRatio).register(meterRegistry);
+    }
+
+    /**
+     * Opens the cached copy of a key, or returns null on a miss.
+     */
+    public FileChannel open(String key) throws IOException {
+        if (!enabled) {
+            misses.increment();
+            return null;
+        }
+
+        String name = fileName(key);
+        lock.lock();
+        try {
+            if (entries.get(name) == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return FileChannel.open(root.resolve(name), StandardOpenOption.READ);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens the cached copy of a key, loading it from the source first on a miss.
+     */
+    public FileChannel openOrLoad(String key, ObjectLoader loader) throws Exception {
+        FileChannel cached = open(key);
+        if (cached != null) {
+            return cached;
+        }
+        return put(key, spool(loader));
+    }
+
+    /**
+     * Copies an object to a temporary file that is deleted once the returned channel is closed,
+     * for objects that should be served from disk but not kept.
+     */
+    public FileChannel openUncached(ObjectLoader loader) throws Exception {
+        return FileChannel.open(spool(loader), StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(root, "load-", TEMP_SUFFIX);
+    }
+
+    /**
+     * Moves a fully written temporary file into the cache under the given key and opens it.
+     */
+    public FileChannel put(String key, Path tempFile) throws IOException {
+        if (!enabled) {
+            return FileChannel.open(tempFile, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        String name = fileName(key);
+        Path target = root.resolve(name);
+        long size = Files.size(tempFile);
+
+        lock.lock();
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Long previous = entries.put(name, size);
+            currentBytes += size - (previous != null ? previous : 0L);
+            // Open before evicting so an entry larger than the whole budget can still be served once
+            FileChannel channel = FileChannel.open(target, StandardOpenOption.READ);
+            evict(name);
+            return channel;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the whole channel to the output and closes it. The file is memory-mapped a region at
+     * a time, so its bytes come straight from the page cache instead of being read into a buffer
+     * first. This is not zero-copy: the servlet stream exposes no channel the kernel could send the
+     * file to, so the bytes still pass through its buffer.
+     */
+    public static void transfer(FileChannel channel, OutputStream out) throws IOException {
+        transfer(channel, out, MAP_REGION_BYTES);
+    }
+
+    static void transfer(FileChannel channel, OutputStream out, long regionBytes) throws IOException {
+        try (channel) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long size = channel.size();
+            for (long position = 0; position < size; position += regionBytes) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionBytes, size - position));
+                while (region.hasRemaining()) {
+                    target.write(region);
+                }
+            }
+            out.flush();
+        }
+    }
+
+    public long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    private Path spool(ObjectLoader loader) throws Exception {
+        Path temp = createTempFile();
+        try (InputStream in = loader.open()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return temp;
+        } catch (Exception e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // Drops least recently used entries until the cache fits its budget, never evicting `keep`
+    private void evict(String keep) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+            while (currentBytes > maxSizeBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                if (eldest.getKey().equals(keep)) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(root.resolve(eldest.getKey()));
+                } catch (IOException e) {
+                    System.err.println("Failed to evict cached object " + eldest.getKey() + ": " + e.getMessage());
+                }
+                currentBytes -= eldest.getValue();
+                it.remove();
+                if (evictions != null) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private static String fileName(String key) {
+        return FileDigests.toHex(FileDigests.newSha256().digest(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -2,25 +2,78 @@ package com.mlops.hub.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class MLflowFacadeService {
 
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final List<String> ARTIFACT_REQUEST_HEADERS = List.of(
+            HttpHeaders.RANGE, HttpHeaders.IF_RANGE, HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+    // Largest page get-metric-history accepts
+    private static final int METRIC_HISTORY_PAGE_SIZE = 25000;
+
     @Autowired
     private WebClient mlflowWebClient;
 
+    @Autowired
+    private LocalObjectCache localObjectCache;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
     @Value("${mlflow.experiment-name}")
     private String experimentName;
 
+    @Value("${mlflow.page-size:1000}")
+    private int pageSize;
+
+    @Value("${mlflow.summary-concurrency:8}")
+    private int summaryConcurrency;
+
+    @Value("${mlflow.run-count-limit:1000}")
+    private int runCountLimit;
+
+    @Value("${mlflow.artifact-tree-concurrency:8}")
+    private int artifactTreeConcurrency;
+
+    // Proxied self-reference so per-experiment run stats go through the cache
+    @Autowired
+    @Lazy
+    private MLflowFacadeService self;
+
     // ==================== BASIC MLFLOW OPERATIONS ====================
 
     // Experiment methods
@@ -73,6 +126,34 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    public Mono<Map> searchExperimentsPage(String filter, String pageToken, Integer maxResults) {
+        return searchExperimentsPage(filter, null, pageToken, maxResults);
+    }
+
+    // viewType is ACTIVE_ONLY (MLflow's default when null), DELETED_ONLY or ALL
+    public Mono<Map> searchExperimentsPage(String filter, String viewType, String pageToken, Integer maxResults) {
+        Map<String, Object> body = pageRequest(pageToken, maxResults);
+        if (filter != null && !filter.isEmpty()) {
+            body.put("filter", filter);
+        }
+        if (viewType != null && !viewType.isEmpty()) {
+            body.put("view_type", viewType);
+        }
+        return mlflowWebClient.post()
+                .uri("/api/2.0/mlflow/experiments/search")
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(Map.class);
+    }
+
+    public Flux<Map> streamExperiments(String filter) {
+        return streamExperiments(filter, null);
+    }
+
+    public Flux<Map> streamExperiments(String filter, String viewType) {
+        return paginate(token -> searchExperimentsPage(filter, viewType, token, null), "experiments");
+    }
+
     public Mono<Map> updateExperiment(String experimentId, String newName) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/experiments/update")
@@ -110,6 +191,8 @@ public class MLflowFacadeService {
                 .map(response -> (String) response.get("run_id"));
     }
 
+    // Clients also log to MLflow directly, so runs keep a short TTL (cache.caches.runs) on top of the evictions below
+    @Cacheable(value = "runs", key = "#runId", sync = true)
     public Mono<Map> getRun(String runId) {
         return mlflowWebClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -132,6 +215,28 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    public Mono<Map> searchRunsPage(String experimentIds, String filter, String runViewType,
+                                    String pageToken, Integer maxResults) {
+        Map<String, Object> body = pageRequest(pageToken, maxResults);
+        body.put("experiment_ids", experimentIds != null ? java.util.Arrays.asList(experimentIds.split(",")) : java.util.Collections.emptyList());
+        if (filter != null && !filter.isEmpty()) {
+            body.put("filter", filter);
+        }
+        if (runViewType != null && !runViewType.isEmpty()) {
+            body.put("run_view_type", runViewType);
+        }
+        return mlflowWebClient.post()
+                .uri("/api/2.0/mlflow/runs/search")
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(Map.class);
+    }
+
+    public Flux<Map> streamRuns(String experimentIds, String filter, String runViewType) {
+        return paginate(token -> searchRunsPage(experimentIds, filter, runViewType, token, null), "runs");
+    }
+
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Map> updateRun(String runId, String status, String endTime) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/update")
@@ -144,14 +249,17 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Map> deleteRun(String runId) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/delete")
                 .bodyValue(Map.of("run_id", runId))
                 .retrieve()
-                .bodyToMono(Map.class);
+                .bodyToMono(Map.class)
+                .flatMap(response -> removeSearchDocument(SearchIndexService.RUN, runId).thenReturn(response));
     }
 
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Map> restoreRun(String runId) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/restore")
@@ -161,6 +269,7 @@ public class MLflowFacadeService {
     }
 
     // Metric methods
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Void> logMetric(String runId, String key, double value) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/log-metric")
@@ -184,7 +293,28 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    /**
+     * Every point of a metric's history, following get-metric-history pagination.
+     */
+    public Flux<Map> streamMetricHistory(String runId, String metricKey) {
+        return paginate(token -> mlflowWebClient.get()
+                .uri(uriBuilder -> {
+                    var builder = uriBuilder
+                            .path("/api/2.0/mlflow/runs/get-metric-history")
+                            .queryParam("run_id", runId)
+                            .queryParam("metric_key", metricKey)
+                            .queryParam("max_results", METRIC_HISTORY_PAGE_SIZE);
+                    if (token != null) {
+                        builder.queryParam("page_token", token);
+                    }
+                    return builder.build();
+                })
+                .retrieve()
+                .bodyToMono(Map.class), "metrics");
+    }
+
     // Parameter methods
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Void> logParameter(String runId, String key, String value) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/log-parameter")
@@ -197,6 +327,102 @@ public class MLflowFacadeService {
                 .bodyToMono(Void.class);
     }
 
+    // Batch logging
+    static final int MAX_BATCH_METRICS = 1000;
+    static final int MAX_BATCH_PARAMS = 100;
+    static final int MAX_BATCH_TAGS = 100;
+    static final int MAX_BATCH_ENTITIES = 1000;
+
+    /**
+     * Logs metrics, params and tags through runs/log-batch, split into as many requests as
+     * MLflow's per-batch limits require. Requests are sent one after another so that entries
+     * for the same key keep their order.
+     */
+    @CacheEvict(value = "runs", key = "#runId")
+    public Mono<Void> logBatch(String runId, List<Map<String, Object>> metrics,
+                               List<Map<String, Object>> params, List<Map<String, Object>> tags) {
+        return Flux.fromIterable(splitBatch(runId, metrics, params, tags))
+                .concatMap(batch -> mlflowWebClient.post()
+                        .uri("/api/2.0/mlflow/runs/log-batch")
+                        .bodyValue(batch)
+                        .retrieve()
+                        .bodyToMono(Void.class))
+                .then();
+    }
+
+    // MLflow rejects a batch that repeats a param or tag key, so a repeat starts the next batch
+    static List<Map<String, Object>> splitBatch(String runId, List<Map<String, Object>> metrics,
+                                                List<Map<String, Object>> params, List<Map<String, Object>> tags) {
+        List<Map<String, Object>> batches = new ArrayList<>();
+        List<Map<String, Object>> batchMetrics = new ArrayList<>();
+        List<Map<String, Object>> batchParams = new ArrayList<>();
+        List<Map<String, Object>> batchTags = new ArrayList<>();
+        Set<Object> paramKeys = new HashSet<>();
+        Set<Object> tagKeys = new HashSet<>();
+
+        Iterator<Map<String, Object>> metricIt = metrics != null ? metrics.iterator() : Collections.emptyIterator();
+        Iterator<Map<String, Object>> paramIt = params != null ? params.iterator() : Collections.emptyIterator();
+        Iterator<Map<String, Object>> tagIt = tags != null ? tags.iterator() : Collections.emptyIterator();
+        Map<String, Object> pendingParam = null;
+        Map<String, Object> pendingTag = null;
+
+        while (metricIt.hasNext() || paramIt.hasNext() || tagIt.hasNext() || pendingParam != null || pendingTag != null) {
+            boolean progressed = false;
+            if (pendingParam == null && paramIt.hasNext()) {
+                pendingParam = paramIt.next();
+            }
+            if (pendingParam != null && batchParams.size() < MAX_BATCH_PARAMS
+                    && entityCount(batchMetrics, batchParams, batchTags) < MAX_BATCH_ENTITIES
+                    && paramKeys.add(pendingParam.get("key"))) {
+                batchParams.add(pendingParam);
+                pendingParam = null;
+                progressed = true;
+            }
+            if (pendingTag == null && tagIt.hasNext()) {
+                pendingTag = tagIt.next();
+            }
+            if (pendingTag != null && batchTags.size() < MAX_BATCH_TAGS
+                    && entityCount(batchMetrics, batchParams, batchTags) < MAX_BATCH_ENTITIES
+                    && tagKeys.add(pendingTag.get("key"))) {
+                batchTags.add(pendingTag);
+                pendingTag = null;
+                progressed = true;
+            }
+            if (metricIt.hasNext() && batchMetrics.size() < MAX_BATCH_METRICS
+                    && entityCount(batchMetrics, batchParams, batchTags) < MAX_BATCH_ENTITIES) {
+                batchMetrics.add(metricIt.next());
+                progressed = true;
+            }
+
+            if (!progressed) {
+                batches.add(batchRequest(runId, batchMetrics, batchParams, batchTags));
+                batchMetrics = new ArrayList<>();
+                batchParams = new ArrayList<>();
+                batchTags = new ArrayList<>();
+                paramKeys.clear();
+                tagKeys.clear();
+            }
+        }
+        if (!batchMetrics.isEmpty() || !batchParams.isEmpty() || !batchTags.isEmpty()) {
+            batches.add(batchRequest(runId, batchMetrics, batchParams, batchTags));
+        }
+        return batches;
+    }
+
+    private static int entityCount(List<?> metrics, List<?> params, List<?> tags) {
+        return metrics.size() + params.size() + tags.size();
+    }
+
+    private static Map<String, Object> batchRequest(String runId, List<Map<String, Object>> metrics,
+                                                    List<Map<String, Object>> params, List<Map<String, Object>> tags) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("run_id", runId);
+        request.put("metrics", metrics);
+        request.put("params", params);
+        request.put("tags", tags);
+        return request;
+    }
+
     // Artifact methods
     public Mono<Map> listArtifacts(String runId, String path, String pageToken) {
         return mlflowWebClient.get()
@@ -219,18 +445,182 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    /**
+     * Full artifact tree of a run with per-directory sizes and file counts. Trees of runs that
+     * have ended no longer change, so those are served from the artifactTrees cache; the tree of
+     * an active run is listed afresh on every call.
+     */
+    public Mono<Map> getArtifactTree(String runId) {
+        return self.getRun(runId)
+                .flatMap(run -> isTerminal(run) ? self.getCachedArtifactTree(runId) : listArtifactTree(runId));
+    }
+
+    @Cacheable(value = "artifactTrees", key = "#runId", sync = true)
+    public Mono<Map> getCachedArtifactTree(String runId) {
+        return listArtifactTree(runId);
+    }
+
+    // Walks the tree one level at a time; all directories of a level are listed in parallel,
+    // capped by mlflow.artifact-tree-concurrency, and each listing follows next_page_token
+    public Mono<Map> listArtifactTree(String runId) {
+        Map<String, List<Map<String, Object>>> listings = new ConcurrentHashMap<>();
+        return Mono.just(List.of(""))
+                .expand(level -> level.isEmpty() ? Mono.empty() : Flux.fromIterable(level)
+                        .flatMap(path -> listArtifactDirectory(runId, path)
+                                .doOnNext(files -> listings.put(path, files)), Math.max(1, artifactTreeConcurrency))
+                        .flatMapIterable(files -> files)
+                        .filter(file -> Boolean.TRUE.equals(file.get("is_dir")))
+                        .map(file -> (String) file.get("path"))
+                        .collectList())
+                .then(Mono.fromSupplier(() -> {
+                    Map<String, Object> tree = new LinkedHashMap<>();
+                    tree.put("run_id", runId);
+                    tree.put("files", assembleArtifactTree(listings, ""));
+                    addTotals(tree, (List<Map<String, Object>>) tree.get("files"));
+                    return tree;
+                }));
+    }
+
+    private Mono<List<Map<String, Object>>> listArtifactDirectory(String runId, String path) {
+        return paginate(token -> listArtifacts(runId, path, token), "files")
+                .map(file -> {
+                    Map<String, Object> node = new LinkedHashMap<>();
+                    boolean isDir = Boolean.TRUE.equals(file.get("is_dir"));
+                    node.put("path", file.get("path"));
+                    node.put("is_dir", isDir);
+                    if (!isDir) {
+                        node.put("file_size", fileSize(file));
+                    }
+                    return node;
+                })
+                .collectList();
+    }
+
+    private static List<Map<String, Object>> assembleArtifactTree(Map<String, List<Map<String, Object>>> listings,
+                                                                  String path) {
+        List<Map<String, Object>> files = listings.getOrDefault(path, List.of());
+        for (Map<String, Object> file : files) {
+            if (Boolean.TRUE.equals(file.get("is_dir"))) {
+                List<Map<String, Object>> children = assembleArtifactTree(listings, (String) file.get("path"));
+                file.put("children", children);
+                addTotals(file, children);
+            }
+        }
+        return files;
+    }
+
+    private static void addTotals(Map<String, Object> node, List<Map<String, Object>> children) {
+        long totalSize = 0;
+        long fileCount = 0;
+        long directoryCount = 0;
+        for (Map<String, Object> child : children) {
+            if (Boolean.TRUE.equals(child.get("is_dir"))) {
+                totalSize += (long) child.get("total_size");
+                fileCount += (long) child.get("file_count");
+                directoryCount += 1 + (long) child.get("directory_count");
+            } else {
+                totalSize += (long) child.get("file_size");
+                fileCount++;
+            }
+        }
+        node.put("total_size", totalSize);
+        node.put("file_count", fileCount);
+        node.put("directory_count", directoryCount);
+    }
+
+    // MLflow serialises int64 file sizes as either numbers or strings
+    private static long fileSize(Map file) {
+        Object size = file.get("file_size");
+        if (size instanceof Number number) {
+            return number.longValue();
+        }
+        if (size instanceof String text && !text.isEmpty()) {
+            return Long.parseLong(text);
+        }
+        return 0L;
+    }
+
+    private static boolean isTerminal(Map runResponse) {
+        Object run = runResponse.get("run");
+        Object info = run instanceof Map runMap ? runMap.get("info") : null;
+        Object status = info instanceof Map infoMap ? infoMap.get("status") : null;
+        return "FINISHED".equals(status) || "FAILED".equals(status) || "KILLED".equals(status);
+    }
+
+    // Buffers the whole artifact in memory; large files should go through streamArtifact
     public Mono<byte[]> downloadArtifact(String runId, String path) {
+        return artifactRequest(runId, path)
+                .bodyToMono(byte[].class);
+    }
+
+    /**
+     * Serves artifacts from the local object cache, fetching them from MLflow on a miss. Only
+     * artifacts of runs that have ended are cached; an active run can still overwrite its
+     * artifacts, so those are fetched afresh on every call.
+     */
+    public Mono<FileChannel> openArtifact(String runId, String path) {
+        String key = "artifact:" + runId + "/" + path;
+        return Mono.fromCallable(() -> Optional.ofNullable(localObjectCache.open(key)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached.map(Mono::just).orElseGet(() -> self.getRun(runId)
+                        .flatMap(run -> fetchArtifact(runId, path, isTerminal(run) ? key : null))));
+    }
+
+    // With a null key the artifact is spooled to a file that is deleted once the channel closes
+    private Mono<FileChannel> fetchArtifact(String runId, String path, String key) {
+        return Mono.fromCallable(localObjectCache::createTempFile)
+                .flatMap(temp -> DataBufferUtils.write(artifactRequest(runId, path).bodyToFlux(DataBuffer.class), temp)
+                        .then(Mono.fromCallable(() -> key != null
+                                ? localObjectCache.put(key, temp)
+                                : FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE)))
+                        .doOnError(e -> deleteQuietly(temp)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Proxies /get-artifact without buffering: status, headers and a body that is read from
+     * MLflow only as fast as it is consumed. Range and conditional request headers are forwarded,
+     * so partial (206), not-modified (304) and unsatisfiable-range (416) answers pass through.
+     */
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamArtifact(String runId, String path, HttpHeaders requestHeaders) {
         return mlflowWebClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/get-artifact")
                         .queryParam("run_id", runId)
                         .queryParam("path", path)
                         .build())
+                .headers(headers -> ARTIFACT_REQUEST_HEADERS.forEach(name -> {
+                    List<String> values = requestHeaders.get(name);
+                    if (values != null) {
+                        headers.put(name, values);
+                    }
+                }))
                 .retrieve()
-                .bodyToMono(byte[].class);
+                .onStatus(status -> status.value() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(),
+                        response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class);
+    }
+
+    private WebClient.ResponseSpec artifactRequest(String runId, String path) {
+        return mlflowWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/get-artifact")
+                        .queryParam("run_id", runId)
+                        .queryParam("path", path)
+                        .build())
+                .retrieve();
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Failed to delete temporary artifact " + file + ": " + e.getMessage());
+        }
     }
 
     // Tag methods
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Void> setTag(String runId, String key, String value) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/set-tag")
@@ -243,6 +633,7 @@ public class MLflowFacadeService {
                 .bodyToMono(Void.class);
     }
 
+    @CacheEvict(value = "runs", key = "#runId")
     public Mono<Void> deleteTag(String runId, String key) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/runs/delete-tag")
@@ -267,6 +658,7 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    @Cacheable(value = "modelVersions", key = "#name + '/' + #version", sync = true)
     public Mono<Map> getModelVersion(String name, String version) {
         return mlflowWebClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -298,6 +690,7 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    @CacheEvict(value = "modelVersions", key = "#name + '/' + #version")
     public Mono<Map> updateModelVersion(String name, String version, String description, String stage) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/model-versions/update")
@@ -311,6 +704,8 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    // Archiving existing versions changes siblings too, so the whole cache is dropped
+    @CacheEvict(value = "modelVersions", allEntries = true)
     public Mono<Map> transitionModelVersionStage(String name, String version, String stage, String archiveExistingVersions) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/model-versions/transition-stage")
@@ -324,6 +719,7 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    @CacheEvict(value = "modelVersions", key = "#name + '/' + #version")
     public Mono<Map> deleteModelVersion(String name, String version) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/model-versions/delete")
@@ -387,6 +783,25 @@ public class MLflowFacadeService {
                 .bodyToMono(Map.class);
     }
 
+    public Mono<Map> searchRegisteredModelsPage(String filter, String pageToken, Integer maxResults) {
+        Map<String, Object> params = pageRequest(pageToken, maxResults);
+        return mlflowWebClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path("/api/2.0/mlflow/registered-models/search");
+                    if (filter != null && !filter.isEmpty()) {
+                        uriBuilder.queryParam("filter", filter);
+                    }
+                    params.forEach(uriBuilder::queryParam);
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .bodyToMono(Map.class);
+    }
+
+    public Flux<Map> streamRegisteredModels(String filter) {
+        return paginate(token -> searchRegisteredModelsPage(filter, token, null), "registered_models");
+    }
+
     public Mono<Map> updateRegisteredModel(String name, String description) {
         return mlflowWebClient.post()
                 .uri("/api/2.0/mlflow/registered-models/update")
@@ -403,26 +818,77 @@ public class MLflowFacadeService {
                 .uri("/api/2.0/mlflow/registered-models/delete")
                 .bodyValue(Map.of("name", name))
                 .retrieve()
-                .bodyToMono(Map.class);
+                .bodyToMono(Map.class)
+                .flatMap(response -> removeSearchDocument(SearchIndexService.MODEL, name).thenReturn(response));
+    }
+
+    // The delete already succeeded in MLflow, so a failure here only leaves the document until the next full pass
+    private Mono<Void> removeSearchDocument(String docType, String docKey) {
+        return Mono.fromRunnable(() -> searchIndexService.remove(docType, docKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    System.err.println("Failed to remove search document " + docType + "/" + docKey + ": " + error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
     }
 
     // ==================== ENHANCED DATA OPERATIONS ====================
 
     // Cached methods for better performance
-    @Cacheable(value = "experiments", key = "#root.methodName")
+    // sync = true lets concurrent callers share one in-flight MLflow request per key
+    @Cacheable(value = "experiments", key = "#root.methodName", sync = true)
     public Mono<Map> getCachedExperiments() {
         return listExperiments();
     }
 
-    @Cacheable(value = "registeredModels", key = "#root.methodName")
+    @Cacheable(value = "registeredModels", key = "#root.methodName", sync = true)
     public Mono<Map> getCachedRegisteredModels() {
         return listRegisteredModels();
     }
 
+    /**
+     * Run count and latest run start time of one experiment, from a single runs/search call of
+     * at most mlflow.run-count-limit runs. MLflow has no count API, so an experiment with more
+     * runs than that reports the limit with run_count_truncated set; MLflow returns newest runs
+     * first, so the latest start time is exact either way.
+     */
+    @Cacheable(value = "experimentRunStats", key = "#experimentId", sync = true)
+    public Mono<Map> getExperimentRunStats(String experimentId) {
+        return searchRunsPage(experimentId, null, null, null, Math.max(1, runCountLimit))
+                .map(response -> {
+                    List<Map> runs = response.get("runs") instanceof List list ? list : List.of();
+                    long latestStartTime = -1L;
+                    for (Map run : runs) {
+                        Long startTime = runStartTime(run);
+                        if (startTime != null && startTime > latestStartTime) {
+                            latestStartTime = startTime;
+                        }
+                    }
+                    Object nextPageToken = response.get("next_page_token");
+                    Map<String, Object> result = new HashMap<>();
+                    result.put("run_count", (long) runs.size());
+                    result.put("run_count_truncated", nextPageToken != null && !nextPageToken.toString().isEmpty());
+                    result.put("latest_run_start_time", latestStartTime >= 0 ? latestStartTime : null);
+                    return result;
+                });
+    }
+
     // Enhanced data transformation methods
+    // Run stats are fetched for all experiments in parallel, capped by mlflow.summary-concurrency
     public Mono<Map> getExperimentsWithSummary() {
         return listExperiments()
-                .map(this::transformExperimentsWithSummary);
+                .flatMap(experimentsResponse -> {
+                    List<Map> experiments = (List<Map>) experimentsResponse.get("experiments");
+                    if (experiments == null) {
+                        return Mono.just(experimentsResponse);
+                    }
+                    return Flux.fromIterable(experiments)
+                            .flatMapSequential(experiment -> runStatsFor((String) experiment.get("experiment_id")),
+                                    Math.max(1, summaryConcurrency))
+                            .collectList()
+                            .map(stats -> transformExperimentsWithSummary(experimentsResponse, stats));
+                });
     }
 
     public Mono<Map> getRunsWithMetrics(String experimentId) {
@@ -445,11 +911,12 @@ public class MLflowFacadeService {
     }
 
     // Data transformation helper methods
-    private Map transformExperimentsWithSummary(Map experimentsResponse) {
+    private Map transformExperimentsWithSummary(Map experimentsResponse, List<Map> runStats) {
         List<Map> experiments = (List<Map>) experimentsResponse.get("experiments");
         if (experiments != null) {
-            List<Map> enhancedExperiments = experiments.stream()
-                    .map(experiment -> {
+            List<Map> enhancedExperiments = IntStream.range(0, experiments.size())
+                    .mapToObj(i -> {
+                        Map experiment = experiments.get(i);
                         Map<String, Object> enhanced = new HashMap<>();
                         enhanced.put("experiment_id", experiment.get("experiment_id"));
                         enhanced.put("name", experiment.get("name"));
@@ -458,7 +925,9 @@ public class MLflowFacadeService {
                         enhanced.put("creation_time", experiment.get("creation_time"));
                         enhanced.put("last_update_time", experiment.get("last_update_time"));
                         enhanced.put("tags", experiment.get("tags"));
-                        enhanced.put("run_count", getRunCountForExperiment((String) experiment.get("experiment_id")));
+                        enhanced.put("run_count", runStats.get(i).get("run_count"));
+                        enhanced.put("run_count_truncated", runStats.get(i).get("run_count_truncated"));
+                        enhanced.put("latest_run_start_time", runStats.get(i).get("latest_run_start_time"));
                         return enhanced;
                     })
                     .collect(Collectors.toList());
@@ -514,10 +983,27 @@ public class MLflowFacadeService {
     }
 
     // Helper methods
-    private Long getRunCountForExperiment(String experimentId) {
-        // This would typically make an async call to get run count
-        // For now, return 0 as placeholder
-        return 0L;
+    // One failing experiment leaves its stats empty instead of failing the whole summary
+    private Mono<Map> runStatsFor(String experimentId) {
+        return self.getExperimentRunStats(experimentId)
+                .onErrorResume(e -> {
+                    System.err.println("Failed to load run stats for experiment " + experimentId + ": " + e.getMessage());
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(new HashMap<>());
+    }
+
+    private Long runStartTime(Map run) {
+        Object info = run.get("info");
+        Object startTime = info instanceof Map infoMap ? infoMap.get("start_time") : run.get("start_time");
+        if (startTime == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(startTime.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     private Long calculateRunDuration(Map run) {
@@ -579,4 +1065,33 @@ public class MLflowFacadeService {
         String filter = "current_stage = '" + stage + "'";
         return searchModelVersions(filter);
     }
+
+    // ==================== PAGINATION ====================
+
+    // Page size is capped at the configured limit so a client cursor cannot ask MLflow for everything at once
+    private Map<String, Object> pageRequest(String pageToken, Integer maxResults) {
+        int limit = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        Map<String, Object> request = new HashMap<>();
+        request.put("max_results", maxResults != null && maxResults > 0 ? Math.min(maxResults, limit) : limit);
+        if (pageToken != null && !pageToken.isEmpty()) {
+            request.put("page_token", pageToken);
+        }
+        return request;
+    }
+
+    /**
+     * Follows next_page_token until MLflow stops returning one, emitting the items of each page.
+     * Pages are requested on demand, so at most one page beyond what the subscriber consumed is held.
+     */
+    private Flux<Map> paginate(Function<String, Mono<Map>> fetchPage, String itemsKey) {
+        return fetchPage.apply(null)
+                .expand(page -> {
+                    Object token = page.get("next_page_token");
+                    return token instanceof String next && !next.isEmpty() ? fetchPage.apply(next) : Mono.empty();
+                })
+                .concatMapIterable(page -> {
+                    Object items = page.get(itemsKey);
+                    return items instanceof List<?> list ? (List<Map>) list : List.<Map>of();
+                }, 1);
+    }
 }
@@ -0,0 +1,190 @@
+package com.mlops.hub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces single-value metric, param and tag writes per run into runs/log-batch requests.
+ * The first write to an idle run opens a short window; everything logged for that run until it
+ * closes (or until a full batch has accumulated) goes to MLflow together. Each caller's Mono
+ * completes when the batch holding its entry has been accepted, so errors still reach the caller.
+ * A batch MLflow rejects as invalid is resent entry by entry, so one caller's bad entry does not
+ * fail the others.
+ */
+@Service
+public class MLflowLogBatcher {
+
+    @Autowired
+    private MLflowFacadeService mlflowFacadeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${mlflow.log-batch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mlflow.log-batch.window-ms:20}")
+    private long windowMs;
+
+    // Single-entry requests in flight while a rejected batch is sent again entry by entry
+    private static final int RESEND_CONCURRENCY = 4;
+
+    private final Map<String, RunBuffer> buffers = new ConcurrentHashMap<>();
+
+    private Counter entriesCounter;
+    private DistributionSummary batchSize;
+
+    @PostConstruct
+    void init() {
+        entriesCounter = Counter.builder("mlflow.log.batch.entries")
+                .description("Metrics, params and tags written through the log batcher")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("mlflow.log.batch.size")
+                .description("Entries sent per coalesced log-batch flush")
+                .register(meterRegistry);
+    }
+
+    public Mono<Void> logMetric(String runId, String key, double value, Long timestamp, Long step) {
+        Map<String, Object> metric = new HashMap<>();
+        metric.put("key", key);
+        metric.put("value", value);
+        metric.put("timestamp", timestamp != null ? timestamp : System.currentTimeMillis());
+        metric.put("step", step != null ? step : 0L);
+        return enqueue(runId, EntryType.METRIC, metric);
+    }
+
+    public Mono<Void> logParameter(String runId, String key, String value) {
+        return enqueue(runId, EntryType.PARAM, Map.of("key", key, "value", value));
+    }
+
+    public Mono<Void> setTag(String runId, String key, String value) {
+        return enqueue(runId, EntryType.TAG, Map.of("key", key, "value", value));
+    }
+
+    private Mono<Void> enqueue(String runId, EntryType type, Map<String, Object> entry) {
+        if (!enabled) {
+            return send(runId, type, entry);
+        }
+
+        return Mono.defer(() -> {
+            Sinks.One<Void> done = Sinks.one();
+            RunBuffer buffer;
+            boolean flushNow;
+            boolean opened;
+            // Retry if the buffer was closed by a flush between lookup and add
+            while (true) {
+                buffer = buffers.computeIfAbsent(runId, id -> new RunBuffer());
+                synchronized (buffer) {
+                    if (buffer.closed) {
+                        continue;
+                    }
+                    buffer.add(type, entry, done);
+                    opened = buffer.size() == 1;
+                    flushNow = buffer.size() >= MLflowFacadeService.MAX_BATCH_ENTITIES;
+                }
+                break;
+            }
+            entriesCounter.increment();
+
+            RunBuffer opening = buffer;
+            if (flushNow) {
+                flush(runId, opening);
+            } else if (opened) {
+                Mono.delay(Duration.ofMillis(windowMs)).subscribe(tick -> flush(runId, opening));
+            }
+            return done.asMono();
+        });
+    }
+
+    private void flush(String runId, RunBuffer buffer) {
+        synchronized (buffer) {
+            if (buffer.closed) {
+                return;
+            }
+            buffer.closed = true;
+            buffers.remove(runId, buffer);
+        }
+
+        batchSize.record(buffer.size());
+        mlflowFacadeService.logBatch(runId, buffer.metrics, buffer.params, buffer.tags)
+                .subscribe(
+                        ignored -> { },
+                        error -> {
+                            if (isClientError(error) && buffer.size() > 1) {
+                                resendEach(runId, buffer);
+                            } else {
+                                buffer.pending.forEach(entry -> entry.waiter().tryEmitError(error));
+                            }
+                        },
+                        () -> buffer.pending.forEach(entry -> entry.waiter().tryEmitEmpty()));
+    }
+
+    /**
+     * A rejected batch may hold one caller's bad entry next to valid ones, and log-batch is not
+     * atomic, so part of it may already be stored. Each entry is sent again on its own so every
+     * caller gets its own answer; re-logging an identical metric, param or tag is harmless.
+     */
+    private void resendEach(String runId, RunBuffer buffer) {
+        Flux.fromIterable(buffer.pending)
+                .flatMap(entry -> send(runId, entry.type(), entry.entry())
+                        .doOnError(error -> entry.waiter().tryEmitError(error))
+                        .doOnSuccess(ignored -> entry.waiter().tryEmitEmpty())
+                        .onErrorResume(error -> Mono.empty()), RESEND_CONCURRENCY)
+                .subscribe();
+    }
+
+    private Mono<Void> send(String runId, EntryType type, Map<String, Object> entry) {
+        return switch (type) {
+            case METRIC -> mlflowFacadeService.logBatch(runId, List.of(entry), List.of(), List.of());
+            case PARAM -> mlflowFacadeService.logBatch(runId, List.of(), List.of(entry), List.of());
+            case TAG -> mlflowFacadeService.logBatch(runId, List.of(), List.of(), List.of(entry));
+        };
+    }
+
+    private static boolean isClientError(Throwable error) {
+        return error instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
+    }
+
+    private enum EntryType { METRIC, PARAM, TAG }
+
+    private record Pending(EntryType type, Map<String, Object> entry, Sinks.One<Void> waiter) {
+    }
+
+    // Entries for one run collected during the current window
+    private static class RunBuffer {
+        final List<Map<String, Object>> metrics = new ArrayList<>();
+        final List<Map<String, Object>> params = new ArrayList<>();
+        final List<Map<String, Object>> tags = new ArrayList<>();
+        final List<Pending> pending = new ArrayList<>();
+        boolean closed;
+
+        void add(EntryType type, Map<String, Object> entry, Sinks.One<Void> waiter) {
+            switch (type) {
+                case METRIC -> metrics.add(entry);
+                case PARAM -> params.add(entry);
+                case TAG -> tags.add(entry);
+            }
+            pending.add(new Pending(type, entry, waiter));
+        }
+
+        int size() {
+            return pending.size();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.mlops.hub.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Reduces a metric history to a fixed number of points for plotting. Points are held in
+ * primitive arrays rather than one map per point, so long histories stay compact while they
+ * are collected page by page.
+ */
+public final class MetricDownsampler {
+
+    public enum Method { LTTB, MINMAX }
+
+    private MetricDownsampler() {
+    }
+
+    /**
+     * Growable step/timestamp/value columns for one metric. A bounded series never holds more
+     * than {@code limit} points: once full it is sorted and halved, keeping the lowest and
+     * highest point of each bucket, so a history of any length is reduced as it arrives.
+     */
+    public static final class Series {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final int limit;
+        private long[] steps;
+        private long[] timestamps;
+        private double[] values;
+        private int size;
+        private long total;
+
+        public Series() {
+            this(Integer.MAX_VALUE);
+        }
+
+        public Series(int limit) {
+            this.limit = Math.max(4, limit);
+            int capacity = Math.min(INITIAL_CAPACITY, this.limit);
+            steps = new long[capacity];
+            timestamps = new long[capacity];
+            values = new double[capacity];
+        }
+
+        public void add(long step, long timestamp, double value) {
+            total++;
+            if (size == limit) {
+                compact();
+            }
+            if (size == steps.length) {
+                int capacity = (int) Math.min((long) size * 2, limit);
+                steps = Arrays.copyOf(steps, capacity);
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            steps[size] = step;
+            timestamps[size] = timestamp;
+            values[size] = value;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Points added so far, including those dropped by compaction
+        public long total() {
+            return total;
+        }
+
+        private void compact() {
+            sortByStep();
+            int[] kept = minMax(this, limit / 2);
+            for (int i = 0; i < kept.length; i++) {
+                steps[i] = steps[kept[i]];
+                timestamps[i] = timestamps[kept[i]];
+                values[i] = values[kept[i]];
+            }
+            size = kept.length;
+        }
+
+        // MLflow does not promise step order, so sort only when the history arrives out of order
+        void sortByStep() {
+            boolean sorted = true;
+            for (int i = 1; i < size && sorted; i++) {
+                sorted = compare(i - 1, i) <= 0;
+            }
+            if (sorted) {
+                return;
+            }
+            int[] order = IntStream.range(0, size).boxed()
+                    .sorted(Comparator.comparingLong((Integer i) -> steps[i]).thenComparingLong(i -> timestamps[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            long[] sortedSteps = new long[size];
+            long[] sortedTimestamps = new long[size];
+            double[] sortedValues = new double[size];
+            for (int i = 0; i < size; i++) {
+                sortedSteps[i] = steps[order[i]];
+                sortedTimestamps[i] = timestamps[order[i]];
+                sortedValues[i] = values[order[i]];
+            }
+            steps = sortedSteps;
+            timestamps = sortedTimestamps;
+            values = sortedValues;
+        }
+
+        private int compare(int a, int b) {
+            int byStep = Long.compare(steps[a], steps[b]);
+            return byStep != 0 ? byStep : Long.compare(timestamps[a], timestamps[b]);
+        }
+
+        private Map<String, Object> point(int i) {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("step", steps[i]);
+            point.put("timestamp", timestamps[i]);
+            point.put("value", values[i]);
+            return point;
+        }
+    }
+
+    /**
+     * Picks at most {@code threshold} points of the series, in step order.
+     */
+    public static List<Map<String, Object>> downsample(Series series, int threshold, Method method) {
+        series.sortByStep();
+        int[] selected;
+        if (threshold <= 0 || series.size <= threshold) {
+            selected = IntStream.range(0, series.size).toArray();
+        } else if (method == Method.MINMAX) {
+            selected = minMax(series, threshold);
+        } else {
+            selected = lttb(series, threshold);
+        }
+
+        List<Map<String, Object>> points = new ArrayList<>(selected.length);
+        for (int i : selected) {
+            points.add(series.point(i));
+        }
+        return points;
+    }
+
+    // Largest-Triangle-Three-Buckets: keeps the point of each bucket that forms the largest
+    // triangle with the previously kept point and the average of the next bucket
+    static int[] lttb(Series series, int threshold) {
+        int n = series.size;
+        if (threshold < 3) {
+            return threshold == 1 ? new int[]{0} : new int[]{0, n - 1};
+        }
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (n - 2) / (threshold - 2);
+        int kept = 0;
+        selected[kept++] = 0;
+
+        int previous = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += series.steps[i];
+                avgY += series.values[i];
+            }
+            int nextCount = Math.max(1, nextEnd - nextStart);
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            double previousX = series.steps[previous];
+            double previousY = series.values[previous];
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((previousX - avgX) * (series.values[i] - previousY)
+                        - (previousX - series.steps[i]) * (avgY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[kept++] = chosen;
+            previous = chosen;
+        }
+        selected[kept] = n - 1;
+        return selected;
+    }
+
+    // Keeps the lowest and highest point of each bucket, so spikes survive any resolution
+    static int[] minMax(Series series, int threshold) {
+        int n = series.size;
+        int buckets = Math.max(1, threshold / 2);
+        double bucketSize = (double) n / buckets;
+        int[] selected = new int[buckets * 2];
+        int kept = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize);
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize), n);
+            if (start >= end) {
+                continue;
+            }
+            int min = start;
+            int max = start;
+            for (int i = start + 1; i < end; i++) {
+                if (series.values[i] < series.values[min]) {
+                    min = i;
+                }
+                if (series.values[i] > series.values[max]) {
+                    max = i;
+                }
+            }
+            selected[kept++] = Math.min(min, max);
+            if (min != max) {
+                selected[kept++] = Math.max(min, max);
+            }
+        }
+        return Arrays.copyOf(selected, kept);
+    }
+
+    /**
+     * Puts several series on one shared step axis of at most {@code maxPoints} steps. When the
+     * combined step range is wider than that, steps are grouped into equal-width buckets and each
+     * series contributes the mean of its points in a bucket (null where it has none). Each bucket
+     * is labelled with the last real step any series logged in it.
+     */
+    public static Map<String, Object> align(List<Series> seriesList, int maxPoints) {
+        long minStep = Long.MAX_VALUE;
+        long maxStep = Long.MIN_VALUE;
+        for (Series series : seriesList) {
+            series.sortByStep();
+            if (series.size > 0) {
+                minStep = Math.min(minStep, series.steps[0]);
+                maxStep = Math.max(maxStep, series.steps[series.size - 1]);
+            }
+        }
+
+        Map<String, Object> aligned = new LinkedHashMap<>();
+        if (minStep > maxStep) {
+            aligned.put("steps", new long[0]);
+            aligned.put("values", seriesList.stream().map(series -> new Double[0]).toList());
+            return aligned;
+        }
+
+        long range = maxStep - minStep + 1;
+        int buckets = (int) Math.min(range, Math.max(1, maxPoints));
+        long width = (range + buckets - 1) / buckets;
+
+        long[] bucketSteps = new long[buckets];
+        Arrays.fill(bucketSteps, Long.MIN_VALUE);
+        double[][] sums = new double[seriesList.size()][buckets];
+        int[][] counts = new int[seriesList.size()][buckets];
+        for (int s = 0; s < seriesList.size(); s++) {
+            Series series = seriesList.get(s);
+            for (int i = 0; i < series.size; i++) {
+                int bucket = (int) ((series.steps[i] - minStep) / width);
+                sums[s][bucket] += series.values[i];
+                counts[s][bucket]++;
+                bucketSteps[bucket] = Math.max(bucketSteps[bucket], series.steps[i]);
+            }
+        }
+
+        // Buckets no series logged into are dropped rather than sent as all-null columns
+        int[] used = IntStream.range(0, buckets).filter(b -> bucketSteps[b] != Long.MIN_VALUE).toArray();
+        long[] steps = new long[used.length];
+        List<Double[]> values = new ArrayList<>(seriesList.size());
+        for (int s = 0; s < seriesList.size(); s++) {
+            values.add(new Double[used.length]);
+        }
+        for (int k = 0; k < used.length; k++) {
+            int bucket = used[k];
+            steps[k] = bucketSteps[bucket];
+            for (int s = 0; s < seriesList.size(); s++) {
+                values.get(s)[k] = counts[s][bucket] > 0 ? sums[s][bucket] / counts[s][bucket] : null;
+            }
+        }
+        aligned.put("steps", steps);
+        aligned.put("values", values);
+        return aligned;
+    }
+}
@@ -0,0 +1,235 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.Experiment;
+import com.mlops.hub.entity.MlflowModelVersion;
+import com.mlops.hub.entity.MlflowRegisteredModel;
+import com.mlops.hub.entity.Run;
+import com.mlops.hub.repository.ExperimentRepository;
+import com.mlops.hub.repository.MlflowModelVersionRepository;
+import com.mlops.hub.repository.MlflowRegisteredModelRepository;
+import com.mlops.hub.repository.RunRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serves experiment, run and model listings from the tables MlflowSyncService keeps in step
+ * with MLflow. Responses have the same shape as the matching MLflowFacadeService calls, so
+ * controllers can switch between the two with mlflow.sync.serve-reads.
+ */
+@Service
+public class MlflowReadModelService {
+
+    @Autowired
+    private ExperimentRepository experimentRepository;
+
+    @Autowired
+    private RunRepository runRepository;
+
+    @Autowired
+    private MlflowRegisteredModelRepository registeredModelRepository;
+
+    @Autowired
+    private MlflowModelVersionRepository modelVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${mlflow.sync.enabled:false}")
+    private boolean syncEnabled;
+
+    @Value("${mlflow.sync.serve-reads:false}")
+    private boolean serveReads;
+
+    private TransactionTemplate readTemplate;
+
+    @PostConstruct
+    void init() {
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+    }
+
+    // The tables are only kept current while the sync runs, so serve-reads alone is not enough
+    public boolean isServingReads() {
+        return syncEnabled && serveReads;
+    }
+
+    public Mono<Map> getExperiments() {
+        return read(() -> {
+            List<Map<String, Object>> experiments = experimentRepository
+                    .findByLifecycleStageOrderByLastUpdateTimeDesc("active").stream()
+                    .map(this::toExperiment)
+                    .toList();
+            Map<String, Object> response = new HashMap<>();
+            response.put("experiments", experiments);
+            return response;
+        });
+    }
+
+    public Mono<Map> getRunsWithMetrics(String experimentId) {
+        return read(() -> {
+            List<Map<String, Object>> runs = runRepository
+                    .findByMlflowExperimentIdAndLifecycleStageOrderByStartTimeDesc(experimentId, "active").stream()
+                    .map(this::toRunWithMetrics)
+                    .toList();
+            Map<String, Object> response = new HashMap<>();
+            response.put("runs", runs);
+            return response;
+        });
+    }
+
+    public Mono<Map> getRegisteredModels() {
+        return read(() -> {
+            Map<String, List<MlflowModelVersion>> versionsByModel = modelVersionRepository.findAll().stream()
+                    .collect(Collectors.groupingBy(MlflowModelVersion::getName));
+            List<Map<String, Object>> models = registeredModelRepository.findAllByOrderByLastUpdatedTimestampDesc().stream()
+                    .map(model -> toRegisteredModel(model, versionsByModel.getOrDefault(model.getName(), List.of())))
+                    .toList();
+            Map<String, Object> response = new HashMap<>();
+            response.put("registered_models", models);
+            return response;
+        });
+    }
+
+    public Mono<Map> listModelVersions(String name) {
+        return read(() -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("model_versions", sortedVersions(modelVersionRepository.findByName(name)).stream()
+                    .map(this::toModelVersion)
+                    .toList());
+            return response;
+        });
+    }
+
+    // Same fields as MLflowFacadeService#getModelVersionsWithDetails, with is_latest filled in
+    public Mono<Map> getModelVersionsWithDetails(String name) {
+        return read(() -> {
+            List<MlflowModelVersion> versions = sortedVersions(modelVersionRepository.findByName(name));
+            String latest = versions.isEmpty() ? null : versions.get(versions.size() - 1).getVersion();
+            List<Map<String, Object>> details = versions.stream()
+                    .map(version -> {
+                        Map<String, Object> detail = toModelVersion(version);
+                        detail.put("is_latest", version.getVersion().equals(latest));
+                        return detail;
+                    })
+                    .toList();
+            Map<String, Object> response = new HashMap<>();
+            response.put("model_versions", details);
+            return response;
+        });
+    }
+
+    private Mono<Map> read(Supplier<Map<String, Object>> query) {
+        return Mono.fromCallable(() -> (Map) readTemplate.execute(status -> query.get()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Map<String, Object> toExperiment(Experiment experiment) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("experiment_id", experiment.getMlflowExperimentId());
+        result.put("name", experiment.getName());
+        result.put("lifecycle_stage", experiment.getLifecycleStage());
+        result.put("artifact_location", experiment.getArtifactLocation());
+        result.put("creation_time", orZero(experiment.getCreationTime()));
+        result.put("last_update_time", orZero(experiment.getLastUpdateTime()));
+        return result;
+    }
+
+    private Map<String, Object> toRunWithMetrics(Run run) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("metrics", keyValues(run.getMetrics()));
+        data.put("params", keyValues(run.getParams()));
+        data.put("tags", keyValues(run.getTags()));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("run_id", run.getMlflowRunId());
+        result.put("experiment_id", run.getMlflowExperimentId());
+        result.put("name", run.getName());
+        result.put("status", run.getStatus());
+        result.put("user_id", run.getUserId());
+        result.put("start_time", run.getStartTime());
+        result.put("end_time", run.getEndTime());
+        result.put("lifecycle_stage", run.getLifecycleStage());
+        result.put("artifact_uri", run.getArtifactUri());
+        result.put("data", data);
+        result.put("tags", data.get("tags"));
+        result.put("duration", run.getStartTime() != null && run.getEndTime() != null
+                ? run.getEndTime() - run.getStartTime() : 0L);
+        result.put("has_metrics", !run.getMetrics().isEmpty());
+        result.put("has_parameters", !run.getParams().isEmpty());
+        return result;
+    }
+
+    private Map<String, Object> toRegisteredModel(MlflowRegisteredModel model, List<MlflowModelVersion> versions) {
+        // Highest version per stage, as registered-models/search reports in latest_versions
+        Map<String, MlflowModelVersion> latestByStage = new LinkedHashMap<>();
+        for (MlflowModelVersion version : sortedVersions(versions)) {
+            latestByStage.put(version.getCurrentStage(), version);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("name", model.getName());
+        result.put("description", model.getDescription());
+        result.put("creation_timestamp", orZero(model.getCreationTimestamp()));
+        result.put("last_updated_timestamp", orZero(model.getLastUpdatedTimestamp()));
+        result.put("latest_versions", latestByStage.values().stream().map(this::toModelVersion).toList());
+        return result;
+    }
+
+    private Map<String, Object> toModelVersion(MlflowModelVersion version) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("name", version.getName());
+        result.put("version", version.getVersion());
+        result.put("current_stage", version.getCurrentStage());
+        result.put("status", version.getStatus());
+        result.put("description", version.getDescription());
+        result.put("source", version.getSource());
+        result.put("run_id", version.getRunId());
+        result.put("creation_timestamp", orZero(version.getCreationTimestamp()));
+        result.put("last_updated_timestamp", orZero(version.getLastUpdatedTimestamp()));
+        return result;
+    }
+
+    private static List<MlflowModelVersion> sortedVersions(List<MlflowModelVersion> versions) {
+        List<MlflowModelVersion> sorted = new ArrayList<>(versions);
+        sorted.sort(Comparator.comparingLong(version -> versionNumber(version.getVersion())));
+        return sorted;
+    }
+
+    private static long versionNumber(String version) {
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static List<Map<String, Object>> keyValues(Map<String, ?> entries) {
+        return entries.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    Map<String, Object> keyValue = new HashMap<>();
+                    keyValue.put("key", entry.getKey());
+                    keyValue.put("value", entry.getValue());
+                    return keyValue;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
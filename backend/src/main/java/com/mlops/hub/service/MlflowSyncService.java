@@ -0,0 +1,433 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.Experiment;
+import com.mlops.hub.entity.MlflowModelVersion;
+import com.mlops.hub.entity.MlflowRegisteredModel;
+import com.mlops.hub.entity.MlflowSyncCheckpoint;
+import com.mlops.hub.entity.Run;
+import com.mlops.hub.repository.ExperimentRepository;
+import com.mlops.hub.repository.MlflowModelVersionRepository;
+import com.mlops.hub.repository.MlflowRegisteredModelRepository;
+import com.mlops.hub.repository.MlflowSyncCheckpointRepository;
+import com.mlops.hub.repository.RunRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Background synchronizer that mirrors MLflow experiments, runs (with their latest metrics,
+ * params and tags), registered models and model versions into local tables, so list pages can
+ * be served from indexed queries instead of MLflow's search API.
+ *
+ * Each entity type keeps a checkpoint. Incremental passes only ask MLflow for what changed
+ * since the checkpoint's high-water mark (minus a small overlap for clock skew); a periodic full
+ * pass re-reads everything and removes rows MLflow no longer returns.
+ *
+ * Experiment deletions and restores move last_update_time, so they show up within one sync
+ * interval. MLflow keeps no update time for runs, though: deletions and restores of runs that
+ * have already finished, and tag, param and note edits to them, only reach the tables on the
+ * next full pass (mlflow.sync.full-interval-ms). Runs MLflow returns unchanged are not written,
+ * so their updated_at only moves when something about them did.
+ */
+@Service
+public class MlflowSyncService {
+
+    static final String EXPERIMENTS = "experiments";
+    static final String RUNS = "runs";
+    static final String REGISTERED_MODELS = "registered-models";
+    // Experiment ids sent per runs/search request
+    private static final int EXPERIMENT_IDS_PER_SEARCH = 100;
+
+    @Autowired
+    private MLflowFacadeService mlflowFacadeService;
+
+    @Autowired
+    private ExperimentRepository experimentRepository;
+
+    @Autowired
+    private RunRepository runRepository;
+
+    @Autowired
+    private MlflowRegisteredModelRepository registeredModelRepository;
+
+    @Autowired
+    private MlflowModelVersionRepository modelVersionRepository;
+
+    @Autowired
+    private MlflowSyncCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${mlflow.sync.enabled:false}")
+    private boolean enabled;
+
+    @Value("${mlflow.sync.batch-size:200}")
+    private int batchSize;
+
+    @Value("${mlflow.sync.overlap-ms:60000}")
+    private long overlapMs;
+
+    @Value("${mlflow.sync.full-interval-ms:3600000}")
+    private long fullIntervalMs;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${mlflow.sync.interval-ms:30000}",
+               initialDelayString = "${mlflow.sync.initial-delay-ms:60000}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runSync();
+        } catch (Exception e) {
+            System.err.println("MLflow sync failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Brings every mirrored entity type up to date.
+     * Returns false without doing anything if a sync is already running.
+     */
+    public boolean runSync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            syncExperiments();
+            syncRuns();
+            syncRegisteredModels();
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    void syncExperiments() {
+        MlflowSyncCheckpoint checkpoint = checkpoint(EXPERIMENTS);
+        boolean full = isFullPassDue(checkpoint);
+        LocalDateTime passStart = passStart();
+        long since = full ? 0L : Math.max(0L, checkpoint.getHighWater() - overlapMs);
+        String filter = since > 0 ? "last_update_time >= " + since : null;
+
+        long highWater = checkpoint.getHighWater();
+        // ALL so experiments deleted since the last pass come back with their new lifecycle_stage
+        for (List<Map> batch : mlflowFacadeService.streamExperiments(filter, "ALL").buffer(batchSize).toIterable()) {
+            transactionTemplate.executeWithoutResult(status -> upsertExperiments(batch, passStart));
+            for (Map experiment : batch) {
+                Long lastUpdate = asLong(experiment.get("last_update_time"));
+                if (lastUpdate != null) {
+                    highWater = Math.max(highWater, lastUpdate);
+                }
+            }
+        }
+        if (full) {
+            experimentRepository.markDeletedSyncedBefore(passStart);
+        }
+        finish(checkpoint, highWater, full, passStart);
+    }
+
+    // MLflow runs carry no last-update time, so an incremental pass picks up runs started or ended
+    // since the checkpoint plus every run still RUNNING (their latest metrics keep changing)
+    void syncRuns() {
+        MlflowSyncCheckpoint checkpoint = checkpoint(RUNS);
+        boolean full = isFullPassDue(checkpoint);
+        LocalDateTime passStart = passStart();
+        long passStartMillis = System.currentTimeMillis();
+        long since = Math.max(0L, checkpoint.getHighWater() - overlapMs);
+        List<String> filters = full
+                ? Collections.singletonList(null)
+                : List.of("attributes.start_time >= " + since,
+                          "attributes.end_time >= " + since,
+                          "attributes.status = 'RUNNING'");
+
+        List<String> experimentIds = experimentRepository.findByLifecycleStageOrderByLastUpdateTimeDesc("active").stream()
+                .map(Experiment::getMlflowExperimentId)
+                .filter(Objects::nonNull)
+                .toList();
+        for (int i = 0; i < experimentIds.size(); i += EXPERIMENT_IDS_PER_SEARCH) {
+            String ids = String.join(",", experimentIds.subList(i, Math.min(i + EXPERIMENT_IDS_PER_SEARCH, experimentIds.size())));
+            for (String filter : filters) {
+                for (List<Map> batch : mlflowFacadeService.streamRuns(ids, filter, "ALL").buffer(batchSize).toIterable()) {
+                    transactionTemplate.executeWithoutResult(status -> upsertRuns(batch, passStart, full));
+                }
+            }
+        }
+        if (full) {
+            runRepository.deleteBySyncedAtBefore(passStart);
+        }
+        finish(checkpoint, passStartMillis, full, passStart);
+    }
+
+    // registered-models/search has no timestamp filter, so models are listed in full and only the
+    // ones whose last_updated_timestamp moved have their versions re-read
+    void syncRegisteredModels() {
+        MlflowSyncCheckpoint checkpoint = checkpoint(REGISTERED_MODELS);
+        boolean full = isFullPassDue(checkpoint);
+        LocalDateTime passStart = passStart();
+
+        long highWater = checkpoint.getHighWater();
+        for (List<Map> batch : mlflowFacadeService.streamRegisteredModels(null).buffer(batchSize).toIterable()) {
+            Map<String, MlflowRegisteredModel> existing = registeredModelRepository
+                    .findAllById(batch.stream().map(model -> (String) model.get("name")).toList()).stream()
+                    .collect(Collectors.toMap(MlflowRegisteredModel::getName, Function.identity()));
+
+            List<MlflowRegisteredModel> changed = new ArrayList<>();
+            for (Map model : batch) {
+                String name = (String) model.get("name");
+                Long lastUpdated = asLong(model.get("last_updated_timestamp"));
+                MlflowRegisteredModel row = existing.get(name);
+                if (!full && row != null && Objects.equals(row.getLastUpdatedTimestamp(), lastUpdated)) {
+                    continue;
+                }
+                if (row == null) {
+                    row = new MlflowRegisteredModel();
+                    row.setName(name);
+                }
+                row.setDescription((String) model.get("description"));
+                row.setCreationTimestamp(asLong(model.get("creation_timestamp")));
+                row.setLastUpdatedTimestamp(lastUpdated);
+                row.setSyncedAt(passStart);
+                changed.add(row);
+                if (lastUpdated != null) {
+                    highWater = Math.max(highWater, lastUpdated);
+                }
+            }
+            registeredModelRepository.saveAll(changed);
+            for (MlflowRegisteredModel model : changed) {
+                syncModelVersions(model.getName(), passStart);
+            }
+        }
+        if (full) {
+            modelVersionRepository.deleteSyncedBefore(passStart);
+            registeredModelRepository.deleteSyncedBefore(passStart);
+        }
+        finish(checkpoint, highWater, full, passStart);
+    }
+
+    private void syncModelVersions(String name, LocalDateTime passStart) {
+        Map response = mlflowFacadeService.listModelVersions(name).block();
+        List<Map> versions = response != null && response.get("model_versions") instanceof List<?> list
+                ? (List<Map>) list : List.of();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, MlflowModelVersion> existing = modelVersionRepository.findByName(name).stream()
+                    .collect(Collectors.toMap(MlflowModelVersion::getVersion, Function.identity()));
+            List<MlflowModelVersion> rows = new ArrayList<>();
+            for (Map version : versions) {
+                String number = String.valueOf(version.get("version"));
+                MlflowModelVersion row = existing.getOrDefault(number, new MlflowModelVersion());
+                row.setName(name);
+                row.setVersion(number);
+                row.setCurrentStage((String) version.get("current_stage"));
+                row.setStatus((String) version.get("status"));
+                row.setDescription((String) version.get("description"));
+                row.setSource((String) version.get("source"));
+                row.setRunId((String) version.get("run_id"));
+                row.setCreationTimestamp(asLong(version.get("creation_timestamp")));
+                row.setLastUpdatedTimestamp(asLong(version.get("last_updated_timestamp")));
+                row.setSyncedAt(passStart);
+                rows.add(row);
+            }
+            modelVersionRepository.saveAll(rows);
+        });
+        modelVersionRepository.deleteByNameSyncedBefore(name, passStart);
+    }
+
+    private void upsertExperiments(List<Map> batch, LocalDateTime passStart) {
+        Map<String, Experiment> existing = experimentRepository
+                .findByMlflowExperimentIdIn(batch.stream().map(experiment -> (String) experiment.get("experiment_id")).toList())
+                .stream()
+                .collect(Collectors.toMap(Experiment::getMlflowExperimentId, Function.identity()));
+        List<Experiment> rows = new ArrayList<>();
+        for (Map experiment : batch) {
+            String experimentId = (String) experiment.get("experiment_id");
+            Experiment row = existing.getOrDefault(experimentId, new Experiment());
+            row.setMlflowExperimentId(experimentId);
+            row.setName((String) experiment.get("name"));
+            row.setLifecycleStage((String) experiment.get("lifecycle_stage"));
+            row.setArtifactLocation((String) experiment.get("artifact_location"));
+            row.setCreationTime(asLong(experiment.get("creation_time")));
+            row.setLastUpdateTime(asLong(experiment.get("last_update_time")));
+            row.setSyncedAt(passStart);
+            rows.add(row);
+        }
+        experimentRepository.saveAll(rows);
+    }
+
+    private void upsertRuns(List<Map> batch, LocalDateTime passStart, boolean full) {
+        List<String> runIds = new ArrayList<>();
+        List<String> experimentIds = new ArrayList<>();
+        for (Map run : batch) {
+            Map info = section(run, "info");
+            runIds.add((String) info.get("run_id"));
+            experimentIds.add((String) info.get("experiment_id"));
+        }
+        Map<String, Run> existing = runRepository.findByMlflowRunIdIn(runIds).stream()
+                .collect(Collectors.toMap(Run::getMlflowRunId, Function.identity()));
+        Map<String, Experiment> experiments = experimentRepository.findByMlflowExperimentIdIn(experimentIds).stream()
+                .collect(Collectors.toMap(Experiment::getMlflowExperimentId, Function.identity()));
+
+        List<Run> rows = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        for (Map run : batch) {
+            Map info = section(run, "info");
+            Map data = section(run, "data");
+            String runId = (String) info.get("run_id");
+            String experimentId = (String) info.get("experiment_id");
+            Run row = existing.getOrDefault(runId, new Run());
+            Experiment experiment = experiments.get(experimentId);
+            Object runName = info.get("run_name");
+            boolean changed = row.getId() == null;
+            changed |= update(row::getMlflowRunId, row::setMlflowRunId, runId);
+            changed |= update(row::getMlflowExperimentId, row::setMlflowExperimentId, experimentId);
+            if (!Objects.equals(idOf(row.getExperiment()), idOf(experiment))) {
+                row.setExperiment(experiment);
+                changed = true;
+            }
+            changed |= update(row::getName, row::setName, runName instanceof String name && !name.isEmpty() ? name : runId);
+            changed |= update(row::getStatus, row::setStatus, (String) info.get("status"));
+            changed |= update(row::getUserId, row::setUserId, (String) info.get("user_id"));
+            changed |= update(row::getStartTime, row::setStartTime, asLong(info.get("start_time")));
+            changed |= update(row::getEndTime, row::setEndTime, asLong(info.get("end_time")));
+            changed |= update(row::getLifecycleStage, row::setLifecycleStage, (String) info.get("lifecycle_stage"));
+            changed |= update(row::getArtifactUri, row::setArtifactUri, (String) info.get("artifact_uri"));
+            changed |= replace(row.getMetrics(), entries(data.get("metrics"), value -> asDouble(value)));
+            changed |= replace(row.getParams(), entries(data.get("params"), value -> value != null ? value.toString() : null));
+            changed |= replace(row.getTags(), entries(data.get("tags"), value -> value != null ? value.toString() : null));
+            if (changed) {
+                row.setSyncedAt(passStart);
+                rows.add(row);
+            } else {
+                unchanged.add(runId);
+            }
+        }
+        runRepository.saveAll(rows);
+        // A full pass prunes by synced_at, so unchanged runs are still marked as seen
+        if (full && !unchanged.isEmpty()) {
+            runRepository.markSynced(unchanged, passStart);
+        }
+    }
+
+    private static <T> boolean update(Supplier<T> getter, Consumer<T> setter, T value) {
+        if (Objects.equals(getter.get(), value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    private static Long idOf(Experiment experiment) {
+        return experiment != null ? experiment.getId() : null;
+    }
+
+    // Updates the persistent map in place so unchanged entries are not deleted and re-inserted
+    private static <V> boolean replace(Map<String, V> target, Map<String, V> source) {
+        boolean changed = target.keySet().retainAll(source.keySet());
+        for (Map.Entry<String, V> entry : source.entrySet()) {
+            if (!target.containsKey(entry.getKey()) || !Objects.equals(target.get(entry.getKey()), entry.getValue())) {
+                target.put(entry.getKey(), entry.getValue());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static <V> Map<String, V> entries(Object list, Function<Object, V> valueMapper) {
+        Map<String, V> entries = new HashMap<>();
+        if (list instanceof List<?> items) {
+            for (Object item : items) {
+                if (item instanceof Map entry && entry.get("key") instanceof String key) {
+                    entries.put(key, valueMapper.apply(entry.get("value")));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static Map section(Map run, String name) {
+        return run.get(name) instanceof Map section ? section : Map.of();
+    }
+
+    private MlflowSyncCheckpoint checkpoint(String name) {
+        return checkpointRepository.findById(name)
+                .orElseGet(() -> {
+                    MlflowSyncCheckpoint created = new MlflowSyncCheckpoint();
+                    created.setName(name);
+                    return created;
+                });
+    }
+
+    // Truncated so the timestamp compares equal once stored; otherwise rows written by this pass
+    // could look older than it and be pruned
+    private static LocalDateTime passStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private boolean isFullPassDue(MlflowSyncCheckpoint checkpoint) {
+        return checkpoint.getLastFullSyncAt() == null
+                || checkpoint.getLastFullSyncAt().plusNanos(fullIntervalMs * 1_000_000L).isBefore(LocalDateTime.now());
+    }
+
+    private void finish(MlflowSyncCheckpoint checkpoint, long highWater, boolean full, LocalDateTime passStart) {
+        checkpoint.setHighWater(highWater);
+        if (full) {
+            checkpoint.setLastFullSyncAt(passStart);
+        }
+        checkpointRepository.save(checkpoint);
+    }
+
+    // MLflow serialises int64 fields as either numbers or strings
+    private static Long asLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text && !text.isEmpty()) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Double asDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && !text.isEmpty()) {
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
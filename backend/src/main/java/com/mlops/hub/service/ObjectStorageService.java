@@ -3,9 +3,16 @@ package com.mlops.hub.service;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import io.minio.messages.Item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,11 +21,24 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ObjectStorageService {
 
+    // S3 DeleteObjects accepts at most 1000 keys per request
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    // S3 ListObjectsV2 returns at most 1000 keys per request
+    private static final int MAX_LIST_PAGE_SIZE = 1000;
+
+    // Header a presigned upload must carry; the store checks the body against it and keeps it with the object
+    public static final String SHA256_CHECKSUM_HEADER = "x-amz-checksum-sha256";
+
     @Autowired
     private MinioClient minioClient;
 
@@ -70,4 +90,198 @@ public class ObjectStorageService {
 
         return fileNames;
     }
+
+    /**
+     * Lists one page of objects under a prefix, in key order, starting after the given key.
+     * Only about one page is ever fetched from storage, whatever the size of the prefix.
+     */
+    public Map<String, Object> listFilesPage(String prefix, String startAfter, int maxKeys, boolean recursive) throws Exception {
+        int pageSize = Math.max(1, Math.min(maxKeys, MAX_LIST_PAGE_SIZE));
+        ListObjectsArgs.Builder args = ListObjectsArgs.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .recursive(recursive)
+                .maxKeys(Math.min(pageSize + 1, MAX_LIST_PAGE_SIZE));
+        if (startAfter != null && !startAfter.isEmpty()) {
+            args.startAfter(startAfter);
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        boolean truncated = false;
+        for (Result<Item> result : minioClient.listObjects(args.build())) {
+            if (items.size() == pageSize) {
+                // One more key exists, so there is a next page
+                truncated = true;
+                break;
+            }
+            items.add(toEntry(result.get()));
+        }
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("prefix", prefix);
+        page.put("items", items);
+        page.put("truncated", truncated);
+        page.put("nextStartAfter", truncated ? nextStartAfter(items.get(items.size() - 1)) : null);
+        return page;
+    }
+
+    /**
+     * Visits every object under a prefix as storage returns it, holding at most one listing page in memory.
+     */
+    public void forEachFile(String prefix, boolean recursive, ObjectVisitor visitor) throws Exception {
+        Iterable<Result<Item>> results = minioClient.listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .recursive(recursive)
+                        .maxKeys(MAX_LIST_PAGE_SIZE)
+                        .build()
+        );
+
+        for (Result<Item> result : results) {
+            visitor.visit(toEntry(result.get()));
+        }
+    }
+
+    @FunctionalInterface
+    public interface ObjectVisitor {
+        void visit(Map<String, Object> entry) throws Exception;
+    }
+
+    /**
+     * Removes objects with batched DeleteObjects requests.
+     * Returns the objects that could not be removed, mapped to the error message.
+     */
+    public Map<String, String> deleteFiles(Collection<String> objectNames) throws Exception {
+        Map<String, String> failures = new HashMap<>();
+        List<DeleteObject> batch = new ArrayList<>(Math.min(objectNames.size(), DELETE_BATCH_SIZE));
+        for (String objectName : objectNames) {
+            batch.add(new DeleteObject(objectName));
+            if (batch.size() == DELETE_BATCH_SIZE) {
+                removeBatch(batch, failures);
+                batch = new ArrayList<>(DELETE_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            removeBatch(batch, failures);
+        }
+        return failures;
+    }
+
+    /**
+     * Lists objects under a prefix, returning each object name with its size.
+     */
+    public Map<String, Long> listFileSizes(String prefix) throws Exception {
+        Map<String, Long> sizes = new HashMap<>();
+        Iterable<Result<Item>> results = minioClient.listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .recursive(true)
+                        .build()
+        );
+
+        for (Result<Item> result : results) {
+            Item item = result.get();
+            sizes.put(item.objectName(), item.size());
+        }
+
+        return sizes;
+    }
+
+    public StatObjectResponse statFile(String objectName) throws Exception {
+        return minioClient.statObject(
+                StatObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .build()
+        );
+    }
+
+    // HEAD only returns stored checksums when asked for them
+    public StatObjectResponse statFileWithChecksum(String objectName) throws Exception {
+        return minioClient.statObject(
+                StatObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .extraHeaders(Map.of("x-amz-checksum-mode", "ENABLED"))
+                        .build()
+        );
+    }
+
+    /**
+     * The SHA-256 the store verified the object's bytes against when it was written, as hex;
+     * null if the upload carried none, or for multipart uploads, whose checksum is not of the whole object.
+     */
+    public String getSha256Checksum(StatObjectResponse stat) {
+        String checksum = stat.headers().get(SHA256_CHECKSUM_HEADER);
+        if (checksum == null || checksum.contains("-")) {
+            return null;
+        }
+        try {
+            String hex = FileDigests.base64ToHex(checksum);
+            return hex.length() == 64 ? hex : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public String getPresignedUploadUrl(String objectName, int expirySeconds) throws Exception {
+        return minioClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                        .method(Method.PUT)
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .expiry(expirySeconds)
+                        .build()
+        );
+    }
+
+    public String getPresignedDownloadUrl(String objectName, String downloadName, int expirySeconds) throws Exception {
+        return minioClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                        .method(Method.GET)
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .expiry(expirySeconds)
+                        .extraQueryParams(Map.of("response-content-disposition",
+                                "attachment; filename=\"" + downloadName + "\""))
+                        .build()
+        );
+    }
+
+    // Every key under a listed directory sorts after the directory itself, so the cursor has to
+    // skip past all of them or the next page would return the same directory again
+    private static String nextStartAfter(Map<String, Object> last) {
+        String name = (String) last.get("name");
+        return Boolean.TRUE.equals(last.get("directory"))
+                ? name + new String(Character.toChars(Character.MAX_CODE_POINT))
+                : name;
+    }
+
+    private Map<String, Object> toEntry(Item item) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("name", item.objectName());
+        entry.put("directory", item.isDir());
+        entry.put("size", item.isDir() ? null : item.size());
+        // S3 returns the ETag wrapped in quotes
+        entry.put("etag", item.etag() != null ? item.etag().replace("\"", "") : null);
+        entry.put("lastModified", item.isDir() ? null : item.lastModified().toString());
+        return entry;
+    }
+
+    private void removeBatch(List<DeleteObject> batch, Map<String, String> failures) throws Exception {
+        // The request is only sent once the results are iterated
+        Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                RemoveObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .objects(batch)
+                        .build()
+        );
+
+        for (Result<DeleteError> result : results) {
+            DeleteError error = result.get();
+            failures.put(error.objectName(), error.message());
+        }
+    }
 }
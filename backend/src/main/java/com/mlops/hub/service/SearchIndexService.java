@@ -0,0 +1,272 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.Dataset;
+import com.mlops.hub.entity.Entrypoint;
+import com.mlops.hub.entity.MlflowRegisteredModel;
+import com.mlops.hub.entity.Run;
+import com.mlops.hub.entity.SearchDocument;
+import com.mlops.hub.repository.DatasetRepository;
+import com.mlops.hub.repository.EntrypointRepository;
+import com.mlops.hub.repository.MlflowModelVersionRepository;
+import com.mlops.hub.repository.MlflowRegisteredModelRepository;
+import com.mlops.hub.repository.RunRepository;
+import com.mlops.hub.repository.SearchDocumentRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the search_documents index in step with runs, registered models, datasets and
+ * entrypoints. Each pass re-indexes rows whose update time is at or after the newest one
+ * already indexed for that type; a periodic full pass re-indexes everything and drops
+ * documents whose source is gone. Runs MLflow has deleted are left out, and sources deleted
+ * through this service drop their document straight away.
+ */
+@Service
+public class SearchIndexService {
+
+    static final String RUN = "run";
+    static final String MODEL = "model";
+    static final String DATASET = "dataset";
+    static final String ENTRYPOINT = "entrypoint";
+
+    @Autowired
+    private SearchDocumentRepository searchDocumentRepository;
+
+    @Autowired
+    private RunRepository runRepository;
+
+    @Autowired
+    private MlflowRegisteredModelRepository registeredModelRepository;
+
+    @Autowired
+    private MlflowModelVersionRepository modelVersionRepository;
+
+    @Autowired
+    private DatasetRepository datasetRepository;
+
+    @Autowired
+    private EntrypointRepository entrypointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.index.batch-size:500}")
+    private int batchSize;
+
+    @Value("${search.index.full-interval-ms:86400000}")
+    private long fullIntervalMs;
+
+    private TransactionTemplate transactionTemplate;
+    private volatile LocalDateTime lastFullPassAt;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.interval-ms:60000}",
+               initialDelayString = "${search.index.initial-delay-ms:30000}")
+    public void scheduledIndex() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (lastFullPassAt == null) {
+                // Taken from the index rather than starting empty, so a restart does not force a full reindex
+                lastFullPassAt = searchDocumentRepository.findMinIndexedAt();
+            }
+            boolean full = lastFullPassAt == null
+                    || lastFullPassAt.plusNanos(fullIntervalMs * 1_000_000L).isBefore(LocalDateTime.now());
+            runPass(full);
+        } catch (Exception e) {
+            System.err.println("Search indexing failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Indexes every source type. Returns false without doing anything if a pass is already running.
+     */
+    public boolean runPass(boolean full) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            LocalDateTime passStart = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            if (!full) {
+                // A full pass drops these anyway, since it no longer re-indexes them
+                LocalDateTime since = searchDocumentRepository.findMaxSourceUpdatedAt(RUN);
+                if (since != null) {
+                    remove(RUN, runRepository.findInactiveMlflowRunIdsUpdatedSince(since));
+                }
+            }
+            indexSource(RUN, "id", full, passStart,
+                    (since, page) -> since == null
+                            ? runRepository.findActiveMlflowRuns(page)
+                            : runRepository.findActiveMlflowRunsUpdatedSince(since, page),
+                    this::toDocument);
+            indexSource(MODEL, "name", full, passStart,
+                    (since, page) -> since == null
+                            ? registeredModelRepository.findAll(page)
+                            : registeredModelRepository.findBySyncedAtGreaterThanEqual(since, page),
+                    this::toDocument);
+            indexSource(DATASET, "id", full, passStart,
+                    (since, page) -> since == null
+                            ? datasetRepository.findAll(page)
+                            : datasetRepository.findByUpdatedAtGreaterThanEqual(since, page),
+                    this::toDocument);
+            indexSource(ENTRYPOINT, "id", full, passStart,
+                    (since, page) -> since == null
+                            ? entrypointRepository.findAll(page)
+                            : entrypointRepository.findByUpdatedAtGreaterThanEqual(since, page),
+                    this::toDocument);
+            if (full) {
+                lastFullPassAt = passStart;
+            }
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public void remove(String docType, String docKey) {
+        remove(docType, List.of(docKey));
+    }
+
+    private void remove(String docType, List<String> docKeys) {
+        if (!docKeys.isEmpty()) {
+            searchDocumentRepository.deleteByDocTypeAndDocKeys(docType, docKeys);
+        }
+    }
+
+    private <T> void indexSource(String docType, String keyProperty, boolean full, LocalDateTime passStart,
+                                             BiFunction<LocalDateTime, Pageable, Page<T>> changedSince,
+                                             Function<T, SearchDocument> toDocument) {
+        LocalDateTime since = full ? null : searchDocumentRepository.findMaxSourceUpdatedAt(docType);
+        Pageable pageable = PageRequest.of(0, batchSize, Sort.by(keyProperty));
+        boolean hasNext = true;
+        while (hasNext) {
+            Pageable current = pageable;
+            // Sources are converted inside the transaction so lazy run metrics, params and tags load
+            hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Page<T> page = changedSince.apply(since, current);
+                upsert(docType, page.getContent().stream().map(toDocument).filter(Objects::nonNull).toList(), passStart);
+                return page.hasNext();
+            }));
+            pageable = pageable.next();
+        }
+        if (full) {
+            searchDocumentRepository.deleteByDocTypeIndexedBefore(docType, passStart);
+        }
+    }
+
+    private void upsert(String docType, List<SearchDocument> documents, LocalDateTime passStart) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        Map<String, SearchDocument> existing = searchDocumentRepository
+                .findByDocTypeAndDocKeyIn(docType, documents.stream().map(SearchDocument::getDocKey).toList()).stream()
+                .collect(Collectors.toMap(SearchDocument::getDocKey, Function.identity()));
+        List<SearchDocument> rows = new ArrayList<>(documents.size());
+        for (SearchDocument document : documents) {
+            SearchDocument row = existing.getOrDefault(document.getDocKey(), document);
+            row.setDocType(docType);
+            row.setTitle(document.getTitle());
+            row.setDescription(document.getDescription());
+            row.setContent(document.getContent());
+            row.setStatus(document.getStatus());
+            row.setOwner(document.getOwner());
+            row.setSourceUpdatedAt(document.getSourceUpdatedAt());
+            row.setIndexedAt(passStart);
+            rows.add(row);
+        }
+        searchDocumentRepository.saveAll(rows);
+    }
+
+    SearchDocument toDocument(Run run) {
+        SearchDocument document = document(run.getMlflowRunId(), run.getName(), run.getTags().get("mlflow.note.content"));
+        document.setContent(text(Stream.of(
+                join(run.getTags(), ":"),
+                join(run.getParams(), "="),
+                String.join(" ", run.getMetrics().keySet()))));
+        document.setStatus(run.getStatus());
+        document.setOwner(run.getUserId());
+        document.setSourceUpdatedAt(run.getUpdatedAt());
+        return document;
+    }
+
+    SearchDocument toDocument(MlflowRegisteredModel model) {
+        SearchDocument document = document(model.getName(), model.getName(), model.getDescription());
+        // Stages and versions, so "production" or a source path finds the model
+        document.setContent(text(modelVersionRepository.findByName(model.getName()).stream()
+                .flatMap(version -> Stream.of(version.getCurrentStage(), version.getSource()))));
+        document.setSourceUpdatedAt(model.getSyncedAt());
+        return document;
+    }
+
+    SearchDocument toDocument(Dataset dataset) {
+        SearchDocument document = document(String.valueOf(dataset.getId()), dataset.getName(), dataset.getDescription());
+        document.setContent(text(Stream.of(dataset.getFileFormat(), dataset.getDatasetUuid())));
+        document.setSourceUpdatedAt(dataset.getUpdatedAt());
+        return document;
+    }
+
+    SearchDocument toDocument(Entrypoint entrypoint) {
+        SearchDocument document = document(String.valueOf(entrypoint.getId()), entrypoint.getName(), entrypoint.getDescription());
+        // Tags are stored as a JSON array; quotes and brackets carry no search terms
+        String tags = entrypoint.getTags() != null ? entrypoint.getTags().replaceAll("[\\[\\]\"]", " ") : null;
+        document.setContent(text(Stream.of(entrypoint.getType(), entrypoint.getModelName(), entrypoint.getModelType(),
+                entrypoint.getInferenceServiceName(), entrypoint.getPath(), tags)));
+        document.setStatus(entrypoint.getStatus());
+        document.setOwner(entrypoint.getOwnerUsername());
+        document.setSourceUpdatedAt(entrypoint.getUpdatedAt());
+        return document;
+    }
+
+    private static SearchDocument document(String key, String title, String description) {
+        SearchDocument document = new SearchDocument();
+        document.setDocKey(key);
+        document.setTitle(title != null ? truncate(title, 500) : key);
+        document.setDescription(description);
+        return document;
+    }
+
+    private static String join(Map<String, String> entries, String separator) {
+        return entries.entrySet().stream()
+                .map(entry -> entry.getKey() + separator + entry.getValue())
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String text(Stream<String> parts) {
+        return parts.filter(part -> part != null && !part.isBlank()).collect(Collectors.joining(" "));
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
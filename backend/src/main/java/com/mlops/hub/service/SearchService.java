@@ -0,0 +1,88 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.repository.SearchDocumentRepository;
+import com.mlops.hub.repository.SearchFacetRow;
+import com.mlops.hub.repository.SearchHitRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked, faceted search over the unified search index.
+ */
+@Service
+public class SearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    // Longest query accepted; longer input is not a search term, and would only slow trigram matching
+    static final int MAX_QUERY_LENGTH = 200;
+
+    @Autowired
+    private SearchDocumentRepository searchDocumentRepository;
+
+    public Map<String, Object> search(String query, String type, String status, String owner, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        String trimmed = query.trim();
+        String docType = blankToNull(type);
+        String docStatus = blankToNull(status);
+        String docOwner = blankToNull(owner);
+
+        long started = System.nanoTime();
+        List<SearchHitRow> hits = searchDocumentRepository.search(trimmed, docType, docStatus, docOwner, size, (long) page * size);
+        // The first page usually holds every match, which saves the count query
+        long total = page == 0 && hits.size() < size
+                ? hits.size()
+                : searchDocumentRepository.countMatches(trimmed, docType, docStatus, docOwner);
+        List<SearchFacetRow> facetRows = searchDocumentRepository.facets(trimmed, docType, docStatus, docOwner);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("query", trimmed);
+        result.put("page", page);
+        result.put("size", size);
+        result.put("total", total);
+        result.put("results", hits.stream().map(SearchService::toResult).toList());
+        result.put("facets", toFacets(facetRows));
+        result.put("took_ms", (System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private static Map<String, Object> toResult(SearchHitRow hit) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("type", hit.getDocType());
+        result.put("id", hit.getDocKey());
+        result.put("title", hit.getTitle());
+        result.put("description", hit.getDescription());
+        result.put("status", hit.getStatus());
+        result.put("owner", hit.getOwner());
+        result.put("updated_at", hit.getSourceUpdatedAt());
+        result.put("score", hit.getScore());
+        return result;
+    }
+
+    private static Map<String, Map<String, Long>> toFacets(List<SearchFacetRow> rows) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("type", new LinkedHashMap<>());
+        facets.put("status", new LinkedHashMap<>());
+        facets.put("owner", new LinkedHashMap<>());
+        for (SearchFacetRow row : rows) {
+            facets.computeIfAbsent(row.getFacet(), facet -> new LinkedHashMap<>()).put(row.getValue(), row.getCount());
+        }
+        return facets;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
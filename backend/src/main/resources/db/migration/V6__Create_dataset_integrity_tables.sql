@@ -0,0 +1,26 @@
+-- Create dataset_integrity_issues table to record objects that no longer match their stored digest
+CREATE TABLE dataset_integrity_issues (
+    id BIGSERIAL PRIMARY KEY,
+    file_id VARCHAR(255) NOT NULL,
+    version_id BIGINT NOT NULL REFERENCES dataset_versions(id) ON DELETE CASCADE,
+    file_path VARCHAR(1000) NOT NULL,
+    issue_type VARCHAR(50) NOT NULL, -- MISSING, DIGEST_MISMATCH, READ_ERROR
+    expected_digest VARCHAR(255),
+    actual_digest VARCHAR(255),
+    message TEXT,
+    first_detected_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_detected_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create dataset_scrub_checkpoints table so an interrupted scrub pass resumes where it stopped
+CREATE TABLE dataset_scrub_checkpoints (
+    name VARCHAR(100) PRIMARY KEY,
+    last_file_id BIGINT NOT NULL DEFAULT 0,
+    pass_started_at TIMESTAMP,
+    last_pass_completed_at TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes for dataset_integrity_issues
+CREATE INDEX idx_dataset_integrity_issues_file_id ON dataset_integrity_issues(file_id);
+CREATE INDEX idx_dataset_integrity_issues_issue_type ON dataset_integrity_issues(issue_type);
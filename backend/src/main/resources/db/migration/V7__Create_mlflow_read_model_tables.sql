@@ -0,0 +1,85 @@
+-- Local read model of MLflow experiments, runs, registered models and model versions,
+-- kept up to date by the background MLflow synchronizer
+
+-- Mirror MLflow experiment fields onto the existing experiments table
+ALTER TABLE experiments ADD COLUMN lifecycle_stage VARCHAR(50);
+ALTER TABLE experiments ADD COLUMN artifact_location VARCHAR(1000);
+ALTER TABLE experiments ADD COLUMN creation_time BIGINT;
+ALTER TABLE experiments ADD COLUMN last_update_time BIGINT;
+ALTER TABLE experiments ADD COLUMN synced_at TIMESTAMP;
+
+-- Mirror MLflow run fields onto the existing runs table
+ALTER TABLE runs ADD COLUMN mlflow_experiment_id VARCHAR(255);
+ALTER TABLE runs ADD COLUMN user_id VARCHAR(255);
+ALTER TABLE runs ADD COLUMN start_time BIGINT;
+ALTER TABLE runs ADD COLUMN end_time BIGINT;
+ALTER TABLE runs ADD COLUMN lifecycle_stage VARCHAR(50);
+ALTER TABLE runs ADD COLUMN artifact_uri VARCHAR(1000);
+ALTER TABLE runs ADD COLUMN synced_at TIMESTAMP;
+
+-- Create run_latest_metrics table holding the latest value of each run metric
+CREATE TABLE run_latest_metrics (
+    run_id BIGINT NOT NULL REFERENCES runs(id) ON DELETE CASCADE,
+    metric_key VARCHAR(250) NOT NULL,
+    metric_value DOUBLE PRECISION,
+    PRIMARY KEY (run_id, metric_key)
+);
+
+-- Create run_params table
+CREATE TABLE run_params (
+    run_id BIGINT NOT NULL REFERENCES runs(id) ON DELETE CASCADE,
+    param_key VARCHAR(250) NOT NULL,
+    param_value VARCHAR(8000),
+    PRIMARY KEY (run_id, param_key)
+);
+
+-- Create run_tags table
+CREATE TABLE run_tags (
+    run_id BIGINT NOT NULL REFERENCES runs(id) ON DELETE CASCADE,
+    tag_key VARCHAR(250) NOT NULL,
+    tag_value VARCHAR(8000),
+    PRIMARY KEY (run_id, tag_key)
+);
+
+-- Create mlflow_registered_models table
+CREATE TABLE mlflow_registered_models (
+    name VARCHAR(255) PRIMARY KEY,
+    description TEXT,
+    creation_timestamp BIGINT,
+    last_updated_timestamp BIGINT,
+    synced_at TIMESTAMP
+);
+
+-- Create mlflow_model_versions table
+CREATE TABLE mlflow_model_versions (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    version VARCHAR(50) NOT NULL,
+    current_stage VARCHAR(50),
+    status VARCHAR(50),
+    description TEXT,
+    source VARCHAR(1000),
+    run_id VARCHAR(255),
+    creation_timestamp BIGINT,
+    last_updated_timestamp BIGINT,
+    synced_at TIMESTAMP,
+    UNIQUE (name, version)
+);
+
+-- Create mlflow_sync_checkpoints table so incremental sync resumes from its high-water mark
+CREATE TABLE mlflow_sync_checkpoints (
+    name VARCHAR(100) PRIMARY KEY,
+    high_water BIGINT NOT NULL DEFAULT 0,
+    last_full_sync_at TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes for the read model
+CREATE UNIQUE INDEX idx_experiments_mlflow_experiment_id ON experiments(mlflow_experiment_id);
+CREATE INDEX idx_experiments_last_update_time ON experiments(last_update_time);
+CREATE UNIQUE INDEX idx_runs_mlflow_run_id ON runs(mlflow_run_id);
+CREATE INDEX idx_runs_mlflow_experiment_id_start_time ON runs(mlflow_experiment_id, start_time DESC);
+CREATE INDEX idx_runs_synced_at ON runs(synced_at);
+CREATE INDEX idx_run_latest_metrics_key_value ON run_latest_metrics(metric_key, metric_value);
+CREATE INDEX idx_mlflow_registered_models_last_updated ON mlflow_registered_models(last_updated_timestamp);
+CREATE INDEX idx_mlflow_model_versions_run_id ON mlflow_model_versions(run_id);
@@ -0,0 +1,28 @@
+-- Unified search index over runs, registered models, datasets and entrypoints
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Create search_documents table; search_vector is maintained by PostgreSQL from the text columns
+CREATE TABLE search_documents (
+    id BIGSERIAL PRIMARY KEY,
+    doc_type VARCHAR(50) NOT NULL, -- run, model, dataset, entrypoint
+    doc_key VARCHAR(255) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    description TEXT,
+    content TEXT,
+    status VARCHAR(50),
+    owner VARCHAR(255),
+    source_updated_at TIMESTAMP,
+    indexed_at TIMESTAMP,
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'C')
+    ) STORED,
+    UNIQUE (doc_type, doc_key)
+);
+
+-- Create indexes for search_documents
+CREATE INDEX idx_search_documents_vector ON search_documents USING GIN (search_vector);
+CREATE INDEX idx_search_documents_title_trgm ON search_documents USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_search_documents_facets ON search_documents(doc_type, status, owner);
+CREATE INDEX idx_search_documents_type_source_updated ON search_documents(doc_type, source_updated_at);
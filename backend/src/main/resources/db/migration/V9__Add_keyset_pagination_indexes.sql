@@ -0,0 +1,8 @@
+-- Keyset pagination reads entrypoint history newest first by (created_at, id); this index
+-- serves both the first page and every later seek, and covers the old entrypoint_id index
+CREATE INDEX idx_entrypoint_history_entrypoint_created_id
+    ON entrypoint_history(entrypoint_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_entrypoint_history_entrypoint_id;
+
+-- Datasets, inference services and entrypoints page on their primary keys, and dataset
+-- versions on the existing unique (dataset_id, version_number) index
@@ -0,0 +1,184 @@
+package com.mlops.hub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig(CacheConfigTest.Config.class)
+@TestPropertySource(properties = {
+        "cache.caches.modelVersions.maximum-size=2",
+        "cache.caches.runs.expire-after-write-ms=100"
+})
+class CacheConfigTest {
+
+    @Autowired
+    private SlowLookup slowLookup;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        slowLookup.reset();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void testCachesResolvedValueNotColdMono() {
+        Map first = slowLookup.experiments().block();
+        Map second = slowLookup.experiments().block();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(slowLookup.callCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() {
+        Flux.range(0, 20)
+                .flatMap(i -> slowLookup.models())
+                .collectList()
+                .block();
+
+        assertThat(slowLookup.callCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailedLoadsAreNotCached() {
+        slowLookup.setFail(true);
+        assertThatThrownBy(() -> slowLookup.runs().block()).hasMessageContaining("MLflow unavailable");
+
+        slowLookup.setFail(false);
+        assertThat(slowLookup.runs().block()).containsEntry("call", 2);
+    }
+
+    @Test
+    void testPerCachePoliciesOverrideDefaults() {
+        for (int i = 0; i < 10; i++) {
+            slowLookup.version(String.valueOf(i)).block();
+        }
+
+        CaffeineCache versions = (CaffeineCache) cacheManager.getCache("modelVersions");
+        versions.getNativeCache().cleanUp();
+        assertThat(versions.getNativeCache().estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(versions.getNativeCache().stats().evictionCount()).isGreaterThan(0);
+
+        CaffeineCache runs = (CaffeineCache) cacheManager.getCache("runs");
+        assertThat(runs.getNativeCache().policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofMillis(100));
+        assertThat(versions.getNativeCache().policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                .isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void testEvictionDropsEntryAfterWriteCompletes() {
+        slowLookup.run("r1").block();
+        slowLookup.update("r1").block();
+        slowLookup.run("r1").block();
+
+        assertThat(slowLookup.callCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testHitRatioGaugePerCache() {
+        slowLookup.run("r2").block();
+        slowLookup.run("r2").block();
+
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "runs").gauge().value()).isGreaterThan(0.0);
+        assertThat(meterRegistry.find("cache.hit.ratio").gauges()).hasSize(CacheConfig.CACHE_NAMES.size());
+    }
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+        @Bean
+        SlowLookup slowLookup() {
+            return new SlowLookup();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    static class SlowLookup {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean fail;
+
+        public void reset() {
+            calls.set(0);
+            fail = false;
+        }
+
+        public int callCount() {
+            return calls.get();
+        }
+
+        public void setFail(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Cacheable(value = "experiments", key = "#root.methodName", sync = true)
+        public Mono<Map> experiments() {
+            return load();
+        }
+
+        @Cacheable(value = "registeredModels", key = "#root.methodName", sync = true)
+        public Mono<Map> models() {
+            return load();
+        }
+
+        @Cacheable(value = "runs", key = "#root.methodName", sync = true)
+        public Mono<Map> runs() {
+            return load();
+        }
+
+        @Cacheable(value = "runs", key = "#runId", sync = true)
+        public Mono<Map> run(String runId) {
+            return load();
+        }
+
+        @CacheEvict(value = "runs", key = "#runId")
+        public Mono<Map> update(String runId) {
+            return load();
+        }
+
+        @Cacheable(value = "modelVersions", key = "'model/' + #version", sync = true)
+        public Mono<Map> version(String version) {
+            return load();
+        }
+
+        private Mono<Map> load() {
+            return Mono.defer(() -> {
+                int call = calls.incrementAndGet();
+                if (fail) {
+                    return Mono.error(new IllegalStateException("MLflow unavailable"));
+                }
+                return Mono.just((Map) Map.of("call", call));
+            }).delayElement(Duration.ofMillis(50));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.mlops.hub.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives many parallel MinIO calls through the configured HTTP layer against an in-process
+ * S3 stand-in, to check that connections are reused and in-flight requests stay capped.
+ */
+class ObjectStorageConfigTest {
+
+    private static final int MAX_REQUESTS_PER_HOST = 4;
+    private static final int OPERATIONS = 64;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testParallelTransfersReuseConnectionsWithinDispatcherLimit() throws Exception {
+        ObjectStorageConfig config = new ObjectStorageConfig();
+        ReflectionTestUtils.setField(config, "endpoint", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "accessKey", "minioadmin");
+        ReflectionTestUtils.setField(config, "secretKey", "minioadmin");
+        ReflectionTestUtils.setField(config, "region", "us-east-1");
+        ReflectionTestUtils.setField(config, "maxIdleConnections", MAX_REQUESTS_PER_HOST);
+        ReflectionTestUtils.setField(config, "keepAliveMs", 60000L);
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(config, "readTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(config, "writeTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(config, "maxRequests", 64);
+        ReflectionTestUtils.setField(config, "maxRequestsPerHost", MAX_REQUESTS_PER_HOST);
+
+        OkHttpClient httpClient = config.minioHttpClient(meterRegistry);
+        MinioClient minioClient = config.minioClient(httpClient);
+        byte[] payload = "a,b,c\n1,2,3\n".getBytes(StandardCharsets.UTF_8);
+
+        // Many more callers than the dispatcher allows per host
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<byte[]>> transfers = new ArrayList<>();
+            for (int i = 0; i < OPERATIONS; i++) {
+                String object = "datasets/1/versions/v1/part-" + i + ".csv";
+                transfers.add(callers.submit(() -> {
+                    minioClient.putObject(PutObjectArgs.builder()
+                            .bucket("mlops-hub")
+                            .object(object)
+                            .stream(new ByteArrayInputStream(payload), payload.length, -1)
+                            .build());
+                    try (InputStream in = minioClient.getObject(GetObjectArgs.builder()
+                            .bucket("mlops-hub")
+                            .object(object)
+                            .build())) {
+                        return in.readAllBytes();
+                    }
+                }));
+            }
+            for (Future<byte[]> transfer : transfers) {
+                assertThat(transfer.get()).isEqualTo(payload);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_REQUESTS_PER_HOST);
+        // 128 requests share a handful of keep-alive connections; open GET bodies hold theirs a little longer
+        assertThat(clientPorts.size()).isLessThan(OPERATIONS / 2);
+        assertThat(meterRegistry.get("minio.http.connection.count").tag("state", "idle").gauge().value())
+                .isGreaterThan(0);
+        assertThat(meterRegistry.get("minio.http.requests").timers())
+                .allSatisfy(timer -> assertThat(timer.count()).isGreaterThan(0));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            exchange.getRequestBody().readAllBytes();
+            // Enough latency for callers to pile up behind the dispatcher limit
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Leave before responding, so a caller reusing the slot is never counted twice
+            inFlight.decrementAndGet();
+        }
+
+        if ("PUT".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().add("ETag", "\"etag\"");
+            exchange.sendResponseHeaders(200, -1);
+        } else {
+            byte[] content = "a,b,c\n1,2,3\n".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/csv");
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,178 @@
+package com.mlops.hub.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpClientsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private OutboundHttpClients clients;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Answers 503 while failuresLeft is positive, then a small JSON body
+        server.createContext("/flaky", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            if (failuresLeft.getAndDecrement() > 0) {
+                respond(exchange, 503, "{}");
+            } else {
+                respond(exchange, 200, "{\"ok\":true}");
+            }
+        });
+        server.createContext("/large", exchange -> respond(exchange, 200, "{\"data\":\"" + "x".repeat(4096) + "\"}"));
+        server.createContext("/flaky-large", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, failuresLeft.getAndDecrement() > 0 ? 503 : 200, "{\"data\":\"" + "x".repeat(4096) + "\"}");
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        environment.setProperty("http.client.upstreams.test.retry-post-path-suffixes", "/flaky/search");
+        environment.setProperty("http.client.upstreams.small.max-response-bytes", "1024");
+        clients = new OutboundHttpClients();
+        ReflectionTestUtils.setField(clients, "environment", environment);
+        ReflectionTestUtils.setField(clients, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(clients, "maxConnections", 10);
+        ReflectionTestUtils.setField(clients, "pendingAcquireTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(clients, "connectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(clients, "responseTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(clients, "maxIdleTimeMs", 30000L);
+        ReflectionTestUtils.setField(clients, "maxResponseBytes", 1_000_000);
+        ReflectionTestUtils.setField(clients, "maxRetries", 2);
+        ReflectionTestUtils.setField(clients, "retryBackoffMs", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void testWebClientRetriesIdempotentCallsAndRecordsEachAttempt() {
+        failuresLeft.set(2);
+        WebClient webClient = clients.webClient("test", baseUrl);
+
+        Map body = webClient.get().uri("/flaky").retrieve().bodyToMono(Map.class).block();
+
+        assertThat(body).containsEntry("ok", true);
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(meterRegistry.get(OutboundHttpClients.METRIC).tag("upstream", "test").tag("status", "503").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(OutboundHttpClients.METRIC).tag("upstream", "test").tag("outcome", "SUCCESS").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testWebClientReturnsLastFailureOnceRetriesAreUsedUp() {
+        failuresLeft.set(10);
+        WebClient webClient = clients.webClient("test", baseUrl);
+
+        assertThatThrownBy(() -> webClient.get().uri("/flaky").retrieve().bodyToMono(Map.class).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testWebClientRetriesOnlyConfiguredPosts() {
+        failuresLeft.set(1);
+        WebClient webClient = clients.webClient("test", baseUrl);
+
+        assertThatThrownBy(() -> webClient.post().uri("/flaky").retrieve().bodyToMono(Map.class).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(requests.get()).isEqualTo(1);
+
+        failuresLeft.set(1);
+        assertThat(webClient.post().uri("/flaky/search").retrieve().bodyToMono(Map.class).block()).containsEntry("ok", true);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testWebClientLeavesRetriesToCallersThatRetryThemselves() {
+        failuresLeft.set(1);
+        WebClient webClient = clients.webClient("test", baseUrl);
+
+        assertThatThrownBy(() -> webClient.get().uri("/flaky")
+                .attribute(OutboundHttpClients.RETRIED_BY_CALLER, true)
+                .retrieve().bodyToMono(Map.class).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testWebClientEnforcesResponseSizeLimit() {
+        WebClient webClient = clients.webClient("small", baseUrl);
+
+        assertThatThrownBy(() -> webClient.get().uri("/large").retrieve().bodyToMono(Map.class).block())
+                .hasRootCauseInstanceOf(DataBufferLimitException.class);
+    }
+
+    @Test
+    void testRestTemplateRetriesAndLimitsResponses() {
+        failuresLeft.set(1);
+        RestTemplate restTemplate = clients.restTemplate("test");
+
+        assertThat(restTemplate.getForObject(baseUrl + "/flaky", Map.class)).containsEntry("ok", true);
+        assertThat(requests.get()).isEqualTo(2);
+
+        failuresLeft.set(1);
+        assertThatThrownBy(() -> restTemplate.postForObject(baseUrl + "/flaky", Map.of(), Map.class))
+                .isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+
+        assertThatThrownBy(() -> clients.restTemplate("small").getForObject(baseUrl + "/large", Map.class))
+                .isInstanceOf(RestClientException.class)
+                .hasStackTraceContaining("byte limit");
+        assertThat(meterRegistry.get(OutboundHttpClients.METRIC).tag("upstream", "small").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRestTemplateRetriedAttemptsAreLimitedAndRecorded() {
+        failuresLeft.set(1);
+
+        assertThatThrownBy(() -> clients.restTemplate("small").getForObject(baseUrl + "/flaky-large", Map.class))
+                .isInstanceOf(RestClientException.class)
+                .hasStackTraceContaining("byte limit");
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(meterRegistry.get(OutboundHttpClients.METRIC).tag("upstream", "small").tag("status", "503").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(OutboundHttpClients.METRIC).tag("upstream", "small").tag("status", "200").timer().count())
+                .isEqualTo(1);
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
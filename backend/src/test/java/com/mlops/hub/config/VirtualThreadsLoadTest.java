@@ -0,0 +1,161 @@
+package com.mlops.hub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives more concurrent blocking requests than Tomcat has worker threads, with and without
+ * spring.threads.virtual.enabled, against a minimal web context.
+ */
+class VirtualThreadsLoadTest {
+
+    private static final int TOMCAT_MAX_THREADS = 4;
+    private static final int CONCURRENT_REQUESTS = 32;
+    private static final long BLOCKING_MS = 200;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+    private static final Object lock = new Object();
+
+    @BeforeEach
+    void setUp() {
+        inFlight.set(0);
+        peakInFlight.set(0);
+    }
+
+    @Test
+    void testPlatformThreadsCapConcurrencyAtTomcatPool() throws Exception {
+        try (ConfigurableApplicationContext context = start(false)) {
+            long elapsedMs = load(context, "/blocking", CONCURRENT_REQUESTS);
+
+            assertThat(peakInFlight.get()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+            // Requests queue behind the pool in waves
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(CONCURRENT_REQUESTS / TOMCAT_MAX_THREADS * BLOCKING_MS);
+        }
+    }
+
+    @Test
+    void testVirtualThreadsScaleBeyondTomcatPool() throws Exception {
+        try (ConfigurableApplicationContext context = start(true)) {
+            long elapsedMs = load(context, "/blocking", CONCURRENT_REQUESTS);
+
+            assertThat(peakInFlight.get()).isGreaterThan(TOMCAT_MAX_THREADS);
+            assertThat(elapsedMs).isLessThan(CONCURRENT_REQUESTS / TOMCAT_MAX_THREADS * BLOCKING_MS);
+        }
+    }
+
+    // JEP 491 stops synchronized from pinning in JDK 24, so there is nothing to record from there on
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_23)
+    void testPinningMonitorRecordsBlockingInsideSynchronized() throws Exception {
+        try (ConfigurableApplicationContext context = start(true)) {
+            load(context, "/pinning", 4);
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            // JFR delivers events to the stream about once a second
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (registry.timer("virtual.threads.pinned").count() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(registry.timer("virtual.threads.pinned").count()).isPositive();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(LoadTestApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.main.banner-mode=off");
+    }
+
+    private static long load(ConfigurableApplicationContext context, String path, int requests) throws Exception {
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        URI uri = URI.create("http://localhost:" + port + path);
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            long started = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertThat(response.get().statusCode()).isEqualTo(200);
+            }
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class})
+    @Import({BlockingController.class, VirtualThreadPinningMonitor.class})
+    static class LoadTestApplication {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @RestController
+    static class BlockingController {
+
+        // Stands in for a JDBC, RestTemplate or MinIO call
+        @GetMapping("/blocking")
+        String blocking() throws InterruptedException {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BLOCKING_MS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+        }
+
+        @GetMapping("/pinning")
+        String pinning() throws InterruptedException {
+            synchronized (lock) {
+                Thread.sleep(30);
+            }
+            return "pinned";
+        }
+    }
+}
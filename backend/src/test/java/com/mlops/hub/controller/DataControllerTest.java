@@ -1,7 +1,9 @@
 package com.mlops.hub.controller;
 
 import com.mlops.hub.config.TestSecurityConfig;
+import com.mlops.hub.service.ExperimentMetricsService;
 import com.mlops.hub.service.MLflowFacadeService;
+import com.mlops.hub.service.MlflowReadModelService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +35,12 @@ public class DataControllerTest {
     @MockBean
     private MLflowFacadeService mlflowFacadeService;
 
+    @MockBean
+    private ExperimentMetricsService experimentMetricsService;
+
+    @MockBean
+    private MlflowReadModelService mlflowReadModelService;
+
     private Map<String, Object> sampleExperimentsResponse;
     private Map<String, Object> sampleRegisteredModelsResponse;
 
@@ -166,4 +174,33 @@ public class DataControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(header().string("Access-Control-Allow-Origin", "*"));
     }
+
+    @Test
+    void testGetExperimentMetricsOverview_Success() throws Exception {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("experiment_id", "1");
+        metrics.put("total_runs", 2);
+        metrics.put("metrics", Map.of("accuracy", Map.of("count", 2, "mean", 0.9, "best_run_id", "run2")));
+        when(experimentMetricsService.getExperimentMetrics("1")).thenReturn(Mono.just(metrics));
+
+        mockMvc.perform(get("/api/data/dashboard/experiments/1/metrics")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    void testGetMetricsForRun_Success() throws Exception {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("run_id", "run1");
+        summary.put("metric_key", "loss");
+        summary.put("count", 3L);
+        when(experimentMetricsService.getRunMetricSummary("run1", "loss")).thenReturn(Mono.just(summary));
+
+        mockMvc.perform(get("/api/data/runs/run1/metrics")
+                        .param("metricKey", "loss")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
 }
@@ -5,26 +5,38 @@ import com.mlops.hub.entity.Dataset;
 import com.mlops.hub.entity.DatasetVersion;
 import com.mlops.hub.entity.DatasetFile;
 import com.mlops.hub.repository.DatasetRepository;
+import com.mlops.hub.service.DatasetDiffService;
 import com.mlops.hub.service.DatasetService;
 import com.mlops.hub.service.DatasetVersionService;
+import com.mlops.hub.service.KeysetPage;
 import com.mlops.hub.config.TestSecurityConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,8 +58,14 @@ public class DatasetControllerTest {
     @MockBean
     private DatasetVersionService datasetVersionService;
 
+    @MockBean
+    private DatasetDiffService datasetDiffService;
+
     private ObjectMapper objectMapper;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
@@ -86,16 +104,38 @@ public class DatasetControllerTest {
         dataset2.setName("Dataset 2");
         dataset2.setDescription("Description 2");
         
-        when(datasetService.getAllDatasets()).thenReturn(List.of(dataset1, dataset2));
+        when(datasetService.getDatasetsPage(null, null)).thenReturn(new KeysetPage<>(List.of(dataset1, dataset2), null));
 
         mockMvc.perform(get("/api/datasets"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetPage.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].name").value("Dataset 1"))
                 .andExpect(jsonPath("$[1].name").value("Dataset 2"));
     }
 
+    @Test
+    void testGetAllDatasetsReturnsNextCursorHeader() throws Exception {
+        Dataset dataset = new Dataset();
+        dataset.setId(1L);
+        dataset.setName("Dataset 1");
+        when(datasetService.getDatasetsPage("abc", 1)).thenReturn(new KeysetPage<>(List.of(dataset), "next"));
+
+        mockMvc.perform(get("/api/datasets").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(KeysetPage.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void testGetAllDatasetsRejectsInvalidCursor() throws Exception {
+        when(datasetService.getDatasetsPage("bogus", null)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/datasets").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetDatasetById() throws Exception {
         Dataset dataset = new Dataset();
@@ -183,6 +223,8 @@ public class DatasetControllerTest {
 
     @Test
     void testCorsHeaders() throws Exception {
+        when(datasetService.getDatasetsPage(null, null)).thenReturn(new KeysetPage<>(List.of(), null));
+
         mockMvc.perform(get("/api/datasets")
                         .header("Origin", "http://localhost:3000"))
                 .andExpect(status().isOk())
@@ -294,13 +336,19 @@ public class DatasetControllerTest {
         file.setFileSize((long) fileContent.length);
         file.setVersionId(1L);
         
-        List<DatasetFile> files = List.of(file);
-        when(datasetVersionService.getFilesByVersion(datasetId, versionId)).thenReturn(files);
-        when(datasetVersionService.downloadFile(datasetId, versionId, fileId)).thenReturn(fileContent);
+        Path stored = Files.write(tempDir.resolve("test-data.csv"), fileContent);
+        when(datasetVersionService.getFile(datasetId, versionId, fileId)).thenReturn(Optional.of(file));
+        when(datasetVersionService.openFile(file)).thenReturn(FileChannel.open(stored, StandardOpenOption.READ));
 
         // When & Then: Verify download endpoint returns correct headers and content
-        mockMvc.perform(get("/api/datasets/{datasetId}/versions/{versionId}/files/{fileId}/download",
+        MvcResult result = mockMvc.perform(get("/api/datasets/{datasetId}/versions/{versionId}/files/{fileId}/download",
                         datasetId, versionId, fileId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Let the body finish streaming before dispatching, or the two race on the response
+        result.getAsyncResult();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_OCTET_STREAM_VALUE))
                 .andExpect(header().string("Content-Disposition", containsString("attachment")))
@@ -329,10 +377,8 @@ public class DatasetControllerTest {
         String versionId = "v1.0";
         String fileId = "non-existent-file";
         
-        // Return empty file list (file not found)
-        when(datasetVersionService.getFilesByVersion(datasetId, versionId)).thenReturn(List.of());
-        when(datasetVersionService.downloadFile(datasetId, versionId, fileId))
-                .thenReturn(new byte[0]);
+        // File is not part of the version
+        when(datasetVersionService.getFile(datasetId, versionId, fileId)).thenReturn(Optional.empty());
 
         // When & Then: Should return 404
         mockMvc.perform(get("/api/datasets/{datasetId}/versions/{versionId}/files/{fileId}/download",
@@ -373,7 +419,7 @@ public class DatasetControllerTest {
         version2.setCreatedAt(LocalDateTime.now());
         
         List<DatasetVersion> versions = List.of(version1, version2);
-        when(datasetVersionService.getVersionsByDatasetId(datasetId)).thenReturn(versions);
+        when(datasetVersionService.getVersionsPage(datasetId, null, null)).thenReturn(new KeysetPage<>(versions, null));
 
         // When & Then: Verify versions endpoint structure
         mockMvc.perform(get("/api/datasets/{datasetId}/versions", datasetId))
@@ -422,4 +468,93 @@ public class DatasetControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
     }
+
+    @Test
+    void testBulkUploadReportsPerFileResults() throws Exception {
+        // Given: Two files, one of which fails to upload
+        Long datasetId = 1L;
+        String versionId = "v1.0";
+        MockMultipartFile first = new MockMultipartFile("files", "a.csv", "text/csv", "a,b".getBytes());
+        MockMultipartFile second = new MockMultipartFile("files", "b.csv", "text/csv", "c,d".getBytes());
+
+        Map<String, Object> result = Map.of(
+                "total", 2,
+                "succeeded", 1,
+                "failed", 1,
+                "results", List.of(
+                        Map.of("fileName", "a.csv", "status", "success"),
+                        Map.of("fileName", "b.csv", "status", "error", "error", "upload failed")));
+        when(datasetVersionService.uploadFiles(eq(datasetId), eq(versionId), anyList())).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(multipart("/api/datasets/{datasetId}/versions/{versionId}/files/bulk", datasetId, versionId)
+                        .file(first)
+                        .file(second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("error"));
+    }
+
+    @Test
+    void testBulkDeleteRequiresFileIds() throws Exception {
+        mockMvc.perform(post("/api/datasets/{datasetId}/versions/{versionId}/files/bulk-delete", 1L, "v1.0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileIds\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testDiffVersions() throws Exception {
+        Map<String, Object> diff = Map.of(
+                "summary", Map.of("added", 1, "removed", 0, "modified", 1, "unchanged", 3, "sizeDelta", 120),
+                "added", List.of(Map.of("fileName", "new.csv", "sizeDelta", 100)));
+        when(datasetDiffService.diffVersions(1L, "v12", "v13")).thenReturn(diff);
+
+        mockMvc.perform(get("/api/datasets/{datasetId}/versions/diff", 1L)
+                        .param("base", "v12")
+                        .param("target", "v13"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary.modified").value(1))
+                .andExpect(jsonPath("$.added[0].fileName").value("new.csv"));
+    }
+
+    @Test
+    void testDiffRowsRejectsUnsupportedFile() throws Exception {
+        when(datasetDiffService.resolveRowDiffFiles(1L, "v12", "v13", "model.bin"))
+                .thenThrow(new IllegalArgumentException("Row-level diff is only supported for CSV and JSONL files"));
+
+        mockMvc.perform(get("/api/datasets/{datasetId}/versions/diff/rows", 1L)
+                        .param("base", "v12")
+                        .param("target", "v13")
+                        .param("fileName", "model.bin"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPresignUploadReturnsUrlAndRequiredHeaders() throws Exception {
+        Map<String, Object> upload = Map.of(
+                "url", "http://minio:9000/mlops-hub/datasets/1/versions/v1/big.csv?X-Amz-Signature=abc",
+                "method", "PUT",
+                "headers", Map.of("x-amz-checksum-sha256", "qqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqo="));
+        when(datasetVersionService.presignUpload(1L, "v1", "big.csv", "a".repeat(64))).thenReturn(upload);
+
+        mockMvc.perform(post("/api/datasets/1/versions/v1/files/presigned-upload")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("fileName", "big.csv", "sha256", "a".repeat(64)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.method").value("PUT"))
+                .andExpect(jsonPath("$.headers['x-amz-checksum-sha256']").value("qqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqqo="));
+    }
+
+    @Test
+    void testCompleteUploadRejectsDigestMismatch() throws Exception {
+        when(datasetVersionService.completeUpload(1L, "v1", "big.csv", "a".repeat(64)))
+                .thenThrow(new IllegalArgumentException("Digest metadata of big.csv does not match the declared sha256"));
+
+        mockMvc.perform(post("/api/datasets/1/versions/v1/files/complete-upload")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("fileName", "big.csv", "sha256", "a".repeat(64)))))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,48 @@
+package com.mlops.hub.controller;
+
+import com.mlops.hub.config.TestSecurityConfig;
+import com.mlops.hub.service.DatasetScrubService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DatasetIntegrityController.class)
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+public class DatasetIntegrityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DatasetScrubService datasetScrubService;
+
+    @Test
+    void testGetScrubStatus() throws Exception {
+        when(datasetScrubService.getStatus()).thenReturn(Map.of("running", true, "progress", 0.5));
+
+        mockMvc.perform(get("/api/datasets/integrity/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(true))
+                .andExpect(jsonPath("$.progress").value(0.5));
+    }
+
+    @Test
+    void testTriggerScrubConflictsWhileRunning() throws Exception {
+        when(datasetScrubService.triggerPass()).thenReturn(false);
+
+        mockMvc.perform(post("/api/datasets/integrity/scrub"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.started").value(false));
+    }
+}
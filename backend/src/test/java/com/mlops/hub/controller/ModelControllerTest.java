@@ -2,6 +2,7 @@ package com.mlops.hub.controller;
 
 import com.mlops.hub.config.TestSecurityConfig;
 import com.mlops.hub.service.MLflowFacadeService;
+import com.mlops.hub.service.MlflowReadModelService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +34,9 @@ public class ModelControllerTest {
     @MockBean
     private MLflowFacadeService mlflowFacadeService;
 
+    @MockBean
+    private MlflowReadModelService mlflowReadModelService;
+
     private Map<String, Object> sampleRegisteredModelsResponse;
     private Map<String, Object> sampleRegisteredModelResponse;
     private Map<String, Object> sampleModelVersionsResponse;
@@ -1,25 +1,50 @@
 package com.mlops.hub.controller;
 
 import com.mlops.hub.config.TestSecurityConfig;
+import com.mlops.hub.service.ExperimentMetricsService;
 import com.mlops.hub.service.MLflowFacadeService;
+import com.mlops.hub.service.MLflowLogBatcher;
+import com.mlops.hub.service.MetricDownsampler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(RunController.class)
@@ -33,9 +58,18 @@ class RunControllerTest {
     @MockBean
     private MLflowFacadeService mlflowFacadeService;
 
+    @MockBean
+    private MLflowLogBatcher mlflowLogBatcher;
+
+    @MockBean
+    private ExperimentMetricsService experimentMetricsService;
+
     private Map<String, Object> sampleArtifactsResponse;
     private byte[] sampleArtifactContent;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
         sampleArtifactsResponse = new HashMap<>();
@@ -69,14 +103,52 @@ class RunControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testGetArtifactTree_Success() throws Exception {
+        Map<String, Object> tree = Map.of("run_id", "test-run-id", "files", List.of(), "total_size", 1024L, "file_count", 3L);
+        when(mlflowFacadeService.getArtifactTree("test-run-id")).thenReturn(Mono.just(tree));
+
+        MvcResult result = mockMvc.perform(get("/api/runs/test-run-id/artifacts/tree"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total_size").value(1024))
+                .andExpect(jsonPath("$.file_count").value(3));
+    }
+
+    @Test
+    void testGetArtifactTree_RunNotFound() throws Exception {
+        when(mlflowFacadeService.getArtifactTree("missing"))
+            .thenReturn(Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null)));
+
+        MvcResult result = mockMvc.perform(get("/api/runs/missing/artifacts/tree"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testDownloadArtifact_Success() throws Exception {
-        when(mlflowFacadeService.downloadArtifact("test-run-id", "iris_model/MLmodel"))
-            .thenReturn(Mono.just(sampleArtifactContent));
+        Path artifact = Files.write(tempDir.resolve("MLmodel"), sampleArtifactContent);
+        when(mlflowFacadeService.openArtifact("test-run-id", "iris_model/MLmodel"))
+            .thenReturn(Mono.fromCallable(() -> FileChannel.open(artifact, StandardOpenOption.READ)));
 
-        mockMvc.perform(get("/api/runs/test-run-id/artifacts/download")
+        MvcResult result = mockMvc.perform(get("/api/runs/test-run-id/artifacts/download")
                 .param("path", "iris_model/MLmodel"))
-                .andExpect(status().isOk());
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // The Mono resolves first, then the body is streamed in a second async step
+        MvcResult streamed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn();
+        streamed.getAsyncResult();
+
+        assertThat(streamed.getResponse().getContentAsByteArray()).isEqualTo(sampleArtifactContent);
     }
 
     @Test
@@ -91,7 +163,7 @@ class RunControllerTest {
 
     @Test
     void testDownloadArtifactError() throws Exception {
-        when(mlflowFacadeService.downloadArtifact("test-run-id", "nonexistent/file.txt"))
+        when(mlflowFacadeService.openArtifact("test-run-id", "nonexistent/file.txt"))
             .thenReturn(Mono.error(new RuntimeException("Download failed")));
 
         mockMvc.perform(get("/api/runs/test-run-id/artifacts/download")
@@ -115,4 +187,153 @@ class RunControllerTest {
         mockMvc.perform(get("/api/runs/test-run-id/artifacts/download"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStreamRunsAsNdjson() throws Exception {
+        when(mlflowFacadeService.streamRuns("1", null, null))
+            .thenReturn(Flux.just(Map.of("info", Map.of("run_id", "r1")), Map.of("info", Map.of("run_id", "r2"))));
+
+        MvcResult result = mockMvc.perform(get("/api/runs/search/stream")
+                .param("experiment_ids", "1")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).contains("r2");
+    }
+
+    @Test
+    void testLogMetricGoesThroughBatcher() throws Exception {
+        when(mlflowLogBatcher.logMetric("test-run-id", "loss", 0.25, null, 3L)).thenReturn(Mono.empty());
+
+        MvcResult result = mockMvc.perform(post("/api/runs/test-run-id/metrics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key\":\"loss\",\"value\":0.25,\"step\":3}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testLogBatch() throws Exception {
+        when(mlflowFacadeService.logBatch(eq("test-run-id"), any(), any(), any())).thenReturn(Mono.empty());
+
+        MvcResult result = mockMvc.perform(post("/api/runs/test-run-id/log-batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"metrics\":[{\"key\":\"acc\",\"value\":0.9}],\"params\":[{\"key\":\"lr\",\"value\":\"0.01\"}]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        verify(mlflowFacadeService).logBatch(eq("test-run-id"),
+                argThat(metrics -> metrics.size() == 1 && metrics.get(0).containsKey("timestamp")),
+                eq(List.of(Map.of("key", "lr", "value", "0.01"))), eq(List.of()));
+    }
+
+    @Test
+    void testLogBatchTreatsNullFieldsAsEmpty() throws Exception {
+        when(mlflowFacadeService.logBatch(eq("test-run-id"), any(), any(), any())).thenReturn(Mono.empty());
+
+        MvcResult result = mockMvc.perform(post("/api/runs/test-run-id/log-batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"metrics\":null,\"params\":null,\"tags\":[{\"key\":\"stage\",\"value\":\"train\"}]}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        verify(mlflowFacadeService).logBatch(eq("test-run-id"), eq(List.of()), eq(List.of()),
+                eq(List.of(Map.of("key", "stage", "value", "train"))));
+    }
+
+    @Test
+    void testDownsampledMetricHistory() throws Exception {
+        when(experimentMetricsService.getDownsampledHistory("test-run-id", "loss", 200,
+                MetricDownsampler.Method.MINMAX, 10L, null, null, null))
+            .thenReturn(Mono.just(Map.of("returned_points", 2, "points", List.of(
+                    Map.of("step", 10, "value", 0.9), Map.of("step", 20, "value", 0.1)))));
+
+        MvcResult result = mockMvc.perform(get("/api/runs/test-run-id/metrics/loss/history/downsampled")
+                .param("points", "200")
+                .param("method", "minmax")
+                .param("minStep", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.returned_points").value(2));
+    }
+
+    @Test
+    void testDownsampledMetricHistoryRejectsUnknownMethod() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/runs/test-run-id/metrics/loss/history/downsampled")
+                .param("method", "average"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCompareRuns() throws Exception {
+        when(experimentMetricsService.compareRuns(List.of("r1", "r2"), List.of("loss"), 300, null, null))
+            .thenReturn(Mono.just(Map.of("steps", new long[]{0, 1}, "series", List.of())));
+
+        MvcResult result = mockMvc.perform(post("/api/runs/compare")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"run_ids\":[\"r1\",\"r2\"],\"metric_keys\":[\"loss\"],\"points\":300}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.steps[1]").value(1));
+    }
+
+    @Test
+    void testCompareRunsRequiresRunIds() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/runs/compare")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"metric_keys\":[\"loss\"]}"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStreamArtifactPassesRangeHeadersThrough() throws Exception {
+        HttpHeaders upstreamHeaders = new HttpHeaders();
+        upstreamHeaders.setETag("\"v1\"");
+        upstreamHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes 0-4/21");
+        upstreamHeaders.setContentLength(5);
+        Flux<DataBuffer> body = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("test ".getBytes()));
+        when(mlflowFacadeService.streamArtifact(eq("test-run-id"), eq("model/weights.bin"), any()))
+            .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(upstreamHeaders).body(body)));
+
+        MvcResult result = mockMvc.perform(get("/api/runs/test-run-id/artifacts/stream")
+                .param("path", "model/weights.bin")
+                .header(HttpHeaders.RANGE, "bytes=0-4"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult streamed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-4/21"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("weights.bin")))
+                .andReturn();
+        streamed.getAsyncResult();
+
+        assertThat(streamed.getResponse().getContentAsString()).isEqualTo("test ");
+        verify(mlflowFacadeService).streamArtifact(eq("test-run-id"), eq("model/weights.bin"),
+                argThat(headers -> "bytes=0-4".equals(headers.getFirst(HttpHeaders.RANGE))));
+    }
+}
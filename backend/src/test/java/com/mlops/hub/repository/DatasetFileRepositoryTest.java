@@ -0,0 +1,91 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.Dataset;
+import com.mlops.hub.entity.DatasetFile;
+import com.mlops.hub.entity.DatasetVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class DatasetFileRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DatasetFileRepository datasetFileRepository;
+
+    private DatasetVersion base;
+    private DatasetVersion target;
+
+    @BeforeEach
+    void setUp() {
+        Dataset dataset = new Dataset();
+        dataset.setName("Diff Dataset");
+        entityManager.persist(dataset);
+
+        base = createVersion(dataset, 12);
+        target = createVersion(dataset, 13);
+    }
+
+    @Test
+    void testDiffVersionsPivotsBothManifests() {
+        // Given
+        createFile(base, "same.csv", "d1", 10L);
+        createFile(target, "same.csv", "d1", 10L);
+        createFile(base, "changed.csv", "d2", 20L);
+        createFile(target, "changed.csv", "d3", 25L);
+        createFile(base, "removed.csv", "d4", 30L);
+        createFile(target, "added.csv", "d5", 40L);
+        entityManager.flush();
+
+        // When
+        List<DatasetFileDiffRow> rows = datasetFileRepository.diffVersions(base.getId(), target.getId());
+
+        // Then
+        assertThat(rows).extracting(DatasetFileDiffRow::getFileName)
+                .containsExactly("added.csv", "changed.csv", "removed.csv", "same.csv");
+
+        DatasetFileDiffRow added = rows.get(0);
+        assertThat(added.getBaseDigest()).isNull();
+        assertThat(added.getTargetSize()).isEqualTo(40L);
+
+        DatasetFileDiffRow changed = rows.get(1);
+        assertThat(changed.getBaseDigest()).isEqualTo("d2");
+        assertThat(changed.getTargetDigest()).isEqualTo("d3");
+        assertThat(changed.getTargetSize() - changed.getBaseSize()).isEqualTo(5L);
+
+        assertThat(rows.get(2).getTargetDigest()).isNull();
+        assertThat(rows.get(3).getBaseDigest()).isEqualTo(rows.get(3).getTargetDigest());
+    }
+
+    private DatasetVersion createVersion(Dataset dataset, int number) {
+        DatasetVersion version = new DatasetVersion();
+        version.setVersionId(UUID.randomUUID().toString());
+        version.setDatasetId(dataset.getId());
+        version.setVersionNumber(number);
+        version.setStatus(DatasetVersion.VersionStatus.COMMITTED);
+        return entityManager.persist(version);
+    }
+
+    private void createFile(DatasetVersion version, String fileName, String digest, Long size) {
+        DatasetFile file = new DatasetFile();
+        file.setFileId(UUID.randomUUID().toString());
+        file.setVersionId(version.getId());
+        file.setFileName(fileName);
+        file.setFilePath("datasets/" + version.getDatasetId() + "/versions/" + version.getVersionId() + "/" + fileName);
+        file.setFileSize(size);
+        file.setDigest(digest);
+        entityManager.persist(file);
+    }
+}
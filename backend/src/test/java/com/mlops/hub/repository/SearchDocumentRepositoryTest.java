@@ -0,0 +1,100 @@
+package com.mlops.hub.repository;
+
+import com.mlops.hub.entity.SearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// The search queries use tsvector, pg_trgm and websearch_to_tsquery, so they run against real
+// PostgreSQL with the Flyway schema; skipped where Docker is not available
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public class SearchDocumentRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private SearchDocumentRepository searchDocumentRepository;
+
+    private final LocalDateTime indexedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        searchDocumentRepository.saveAllAndFlush(List.of(
+                document("run", "r1", "resnet-baseline", "FINISHED", "alice", indexedAt),
+                document("run", "r2", "resnet-finetune", "FAILED", "bob", indexedAt.plusHours(1)),
+                document("model", "resnet-classifier", "resnet-classifier", null, null, indexedAt.plusHours(2)),
+                document("dataset", "1", "sentiment", null, "alice", indexedAt.plusHours(3))));
+    }
+
+    @Test
+    void testSearchMatchesWordsAndMisspelledTitles() {
+        List<SearchHitRow> hits = searchDocumentRepository.search("resnet", null, null, null, 10, 0);
+        assertThat(hits).extracting(SearchHitRow::getDocKey)
+                .containsExactlyInAnyOrder("r1", "r2", "resnet-classifier");
+        assertThat(hits).extracting(SearchHitRow::getScore).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+
+        // No word matches, but the title is close enough in trigrams
+        assertThat(searchDocumentRepository.search("sentimnet", null, null, null, 10, 0))
+                .extracting(SearchHitRow::getDocKey).containsExactly("1");
+    }
+
+    @Test
+    void testFiltersAndCount() {
+        assertThat(searchDocumentRepository.countMatches("resnet", "run", null, null)).isEqualTo(2);
+        assertThat(searchDocumentRepository.search("resnet", "run", "FAILED", null, 10, 0))
+                .extracting(SearchHitRow::getDocKey).containsExactly("r2");
+        assertThat(searchDocumentRepository.search("resnet", null, null, null, 1, 1)).hasSize(1);
+    }
+
+    @Test
+    void testFacetsAreCountedWithoutTheirOwnFilter() {
+        List<SearchFacetRow> facets = searchDocumentRepository.facets("resnet", null, "FINISHED", null);
+
+        assertThat(facets).extracting(SearchFacetRow::getFacet, SearchFacetRow::getValue, SearchFacetRow::getCount)
+                .containsExactlyInAnyOrder(
+                        tuple("type", "run", 1L),
+                        // The status filter narrows the other facets but not the status facet itself
+                        tuple("status", "FINISHED", 1L),
+                        tuple("status", "FAILED", 1L),
+                        tuple("owner", "alice", 1L));
+    }
+
+    @Test
+    void testFindMinIndexedAt() {
+        assertThat(searchDocumentRepository.findMinIndexedAt()).isEqualTo(indexedAt);
+    }
+
+    private static SearchDocument document(String type, String key, String title, String status, String owner,
+                                           LocalDateTime indexedAt) {
+        SearchDocument document = new SearchDocument();
+        document.setDocType(type);
+        document.setDocKey(key);
+        document.setTitle(title);
+        document.setStatus(status);
+        document.setOwner(owner);
+        document.setIndexedAt(indexedAt);
+        return document;
+    }
+}
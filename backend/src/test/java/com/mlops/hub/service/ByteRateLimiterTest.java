@@ -0,0 +1,30 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRateLimiterTest {
+
+    @Test
+    void testThrottlesReadsBeyondTheBurst() throws Exception {
+        ByteRateLimiter limiter = new ByteRateLimiter(1000);
+
+        long start = System.nanoTime();
+        limiter.acquire(1000); // the initial burst is free
+        limiter.acquire(500);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(400);
+    }
+
+    @Test
+    void testNonPositiveRateDisablesLimiting() throws Exception {
+        ByteRateLimiter limiter = new ByteRateLimiter(0);
+
+        long start = System.nanoTime();
+        limiter.acquire(Long.MAX_VALUE);
+
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(100);
+    }
+}
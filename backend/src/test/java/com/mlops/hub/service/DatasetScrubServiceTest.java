@@ -0,0 +1,203 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.DatasetFile;
+import com.mlops.hub.entity.DatasetIntegrityIssue;
+import com.mlops.hub.entity.DatasetScrubCheckpoint;
+import com.mlops.hub.entity.DatasetVersion;
+import com.mlops.hub.repository.DatasetFileRepository;
+import com.mlops.hub.repository.DatasetIntegrityIssueRepository;
+import com.mlops.hub.repository.DatasetScrubCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetScrubServiceTest {
+
+    @Mock
+    private DatasetFileRepository datasetFileRepository;
+
+    @Mock
+    private DatasetIntegrityIssueRepository integrityIssueRepository;
+
+    @Mock
+    private DatasetScrubCheckpointRepository checkpointRepository;
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    @InjectMocks
+    private DatasetScrubService datasetScrubService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Executor directExecutor = Runnable::run;
+        ReflectionTestUtils.setField(datasetScrubService, "scrubExecutor", directExecutor);
+        ReflectionTestUtils.setField(datasetScrubService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(datasetScrubService, "batchSize", 2);
+        datasetScrubService.init();
+
+        when(checkpointRepository.save(any(DatasetScrubCheckpoint.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testRunPassRecordsMismatchedAndMissingObjects() throws Exception {
+        DatasetFile intact = datasetFile(1L, "a.csv", "good content");
+        DatasetFile corrupted = datasetFile(2L, "b.csv", "original content");
+        DatasetFile missing = datasetFile(3L, "c.csv", "gone");
+
+        when(checkpointRepository.findById(DatasetScrubService.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+        when(datasetFileRepository.countByVersionStatusAfterId(DatasetVersion.VersionStatus.COMMITTED, 0L)).thenReturn(3L);
+        when(datasetFileRepository.findByVersionStatusAfterId(eq(DatasetVersion.VersionStatus.COMMITTED), any(), any()))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(1);
+                    return afterId == 0L ? List.of(intact, corrupted) : afterId == 2L ? List.of(missing) : List.of();
+                });
+        when(objectStorageService.downloadFile(anyString())).thenAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            if (path.endsWith("c.csv")) {
+                throw new ErrorResponseException(
+                        new ErrorResponse("NoSuchKey", "Object does not exist", "bucket", path, path, null, null), null, null);
+            }
+            String content = path.endsWith("a.csv") ? "good content" : "tampered content";
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        });
+        when(integrityIssueRepository.findByFileIdAndIssueType(anyString(), any())).thenReturn(Optional.empty());
+
+        assertThat(datasetScrubService.runPass()).isTrue();
+
+        ArgumentCaptor<DatasetIntegrityIssue> issues = ArgumentCaptor.forClass(DatasetIntegrityIssue.class);
+        verify(integrityIssueRepository, atLeastOnce()).save(issues.capture());
+        assertThat(issues.getAllValues()).extracting(DatasetIntegrityIssue::getIssueType)
+                .containsExactly(DatasetIntegrityIssue.IssueType.DIGEST_MISMATCH, DatasetIntegrityIssue.IssueType.MISSING);
+        verify(integrityIssueRepository).deleteByFileId("file-1");
+
+        ArgumentCaptor<DatasetScrubCheckpoint> checkpoints = ArgumentCaptor.forClass(DatasetScrubCheckpoint.class);
+        verify(checkpointRepository, atLeastOnce()).save(checkpoints.capture());
+        DatasetScrubCheckpoint last = checkpoints.getValue();
+        assertThat(last.getLastFileId()).isEqualTo(0L);
+        assertThat(last.getLastPassCompletedAt()).isNotNull();
+        assertThat(meterRegistry.counter("dataset.scrub.files").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("dataset.scrub.issues", "type", "MISSING").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testRunPassResumesFromCheckpoint() throws Exception {
+        DatasetScrubCheckpoint checkpoint = new DatasetScrubCheckpoint();
+        checkpoint.setName(DatasetScrubService.CHECKPOINT_NAME);
+        checkpoint.setLastFileId(40L);
+        checkpoint.setPassStartedAt(java.time.LocalDateTime.now().minusHours(1));
+        DatasetFile next = datasetFile(41L, "d.csv", "content");
+
+        when(checkpointRepository.findById(DatasetScrubService.CHECKPOINT_NAME)).thenReturn(Optional.of(checkpoint));
+        when(datasetFileRepository.countByVersionStatusAfterId(DatasetVersion.VersionStatus.COMMITTED, 40L)).thenReturn(1L);
+        when(datasetFileRepository.findByVersionStatusAfterId(eq(DatasetVersion.VersionStatus.COMMITTED), eq(40L), any()))
+                .thenReturn(List.of(next));
+        when(datasetFileRepository.findByVersionStatusAfterId(eq(DatasetVersion.VersionStatus.COMMITTED), eq(41L), any()))
+                .thenReturn(List.of());
+        when(objectStorageService.downloadFile(next.getFilePath()))
+                .thenReturn(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(datasetScrubService.runPass()).isTrue();
+
+        verify(objectStorageService).downloadFile(next.getFilePath());
+        assertThat(datasetScrubService.getStatus().get("filesScrubbed")).isEqualTo(1L);
+    }
+
+    @Test
+    void testTriggeredPassHoldsTheRunningFlagUntilItFinishes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(checkpointRepository.findById(DatasetScrubService.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+        when(datasetFileRepository.countByVersionStatusAfterId(DatasetVersion.VersionStatus.COMMITTED, 0L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        assertThat(datasetScrubService.triggerPass()).isTrue();
+        // The flag is taken before the background pass starts, so nothing else can slip in
+        assertThat(datasetScrubService.triggerPass()).isFalse();
+        assertThat(datasetScrubService.runPass()).isFalse();
+
+        release.countDown();
+        AtomicBoolean running = (AtomicBoolean) ReflectionTestUtils.getField(datasetScrubService, "running");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (running.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(running.get()).isFalse();
+        verify(datasetFileRepository, times(1)).countByVersionStatusAfterId(DatasetVersion.VersionStatus.COMMITTED, 0L);
+    }
+
+    @Test
+    void testScheduledPassDoesNotHoldTheSchedulerThread() throws Exception {
+        ReflectionTestUtils.setField(datasetScrubService, "enabled", true);
+        CountDownLatch release = new CountDownLatch(1);
+        when(checkpointRepository.findById(DatasetScrubService.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+        when(datasetFileRepository.countByVersionStatusAfterId(DatasetVersion.VersionStatus.COMMITTED, 0L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        // One thread, as with the default scheduling pool
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        try {
+            CountDownLatch otherJobRan = new CountDownLatch(1);
+            scheduler.execute(datasetScrubService::scheduledScrub);
+            scheduler.execute(otherJobRan::countDown);
+
+            assertThat(otherJobRan.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(datasetScrubService.getStatus().get("running")).isEqualTo(true);
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+        AtomicBoolean running = (AtomicBoolean) ReflectionTestUtils.getField(datasetScrubService, "running");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (running.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(running.get()).isFalse();
+    }
+
+    private DatasetFile datasetFile(Long id, String fileName, String content) throws Exception {
+        DatasetFile file = new DatasetFile();
+        file.setId(id);
+        file.setFileId("file-" + id);
+        file.setVersionId(10L);
+        file.setFileName(fileName);
+        file.setFilePath("datasets/1/versions/v1/" + fileName);
+        file.setDigest(FileDigests.sha256Hex(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+        return file;
+    }
+}
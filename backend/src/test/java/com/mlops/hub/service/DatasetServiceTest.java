@@ -8,12 +8,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -25,6 +28,8 @@ public class DatasetServiceTest {
     @Autowired
     private DatasetRepository datasetRepository;
 
+    private final SearchIndexService searchIndexService = mock(SearchIndexService.class);
+
     private DatasetService datasetService;
     private Dataset testDataset;
 
@@ -50,6 +55,8 @@ public class DatasetServiceTest {
             }
         }
 
+        ReflectionTestUtils.setField(datasetService, "searchIndexService", searchIndexService);
+
         testDataset = new Dataset();
         testDataset.setName("Test Dataset");
         testDataset.setDescription("Test Description");
@@ -146,6 +153,7 @@ public class DatasetServiceTest {
         // Then
         assertThat(result).isTrue();
         assertThat(datasetRepository.findById(testDataset.getId())).isEmpty();
+        verify(searchIndexService).remove(SearchIndexService.DATASET, String.valueOf(testDataset.getId()));
     }
 
     @Test
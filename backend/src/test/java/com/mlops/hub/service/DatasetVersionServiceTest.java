@@ -0,0 +1,206 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.DatasetFile;
+import com.mlops.hub.entity.DatasetVersion;
+import com.mlops.hub.repository.DatasetFileRepository;
+import com.mlops.hub.repository.DatasetRepository;
+import com.mlops.hub.repository.DatasetVersionRepository;
+import io.minio.StatObjectResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetVersionServiceTest {
+
+    @Mock
+    private DatasetVersionRepository datasetVersionRepository;
+
+    @Mock
+    private DatasetFileRepository datasetFileRepository;
+
+    @Mock
+    private DatasetRepository datasetRepository;
+
+    @Mock
+    private ObjectStorageService objectStorageService;
+
+    @InjectMocks
+    private DatasetVersionService datasetVersionService;
+
+    private DatasetVersion draftVersion;
+
+    @BeforeEach
+    void setUp() {
+        // Run the parallel work inline so the tests stay deterministic
+        Executor directExecutor = Runnable::run;
+        ReflectionTestUtils.setField(datasetVersionService, "datasetFileExecutor", directExecutor);
+
+        draftVersion = new DatasetVersion();
+        draftVersion.setId(10L);
+        draftVersion.setVersionId("v1");
+        draftVersion.setDatasetId(1L);
+        draftVersion.setStatus(DatasetVersion.VersionStatus.DRAFT);
+    }
+
+    @Test
+    void testUploadFilesReportsPerFileResults() throws Exception {
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(datasetFileRepository.save(any(DatasetFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            if (invocation.<String>getArgument(0).endsWith("/b.csv")) {
+                throw new RuntimeException("storage unavailable");
+            }
+            return null;
+        }).when(objectStorageService).uploadFile(anyString(), any());
+
+        MockMultipartFile first = new MockMultipartFile("files", "a.csv", "text/csv", "a,b".getBytes());
+        MockMultipartFile second = new MockMultipartFile("files", "b.csv", "text/csv", "c,d".getBytes());
+
+        Map<String, Object> result = datasetVersionService.uploadFiles(1L, "v1", List.of(first, second));
+
+        assertThat(result.get("total")).isEqualTo(2);
+        assertThat(result.get("succeeded")).isEqualTo(1L);
+        assertThat(result.get("failed")).isEqualTo(1L);
+        List<Map<String, Object>> results = (List<Map<String, Object>>) result.get("results");
+        assertThat(results.get(0).get("status")).isEqualTo("success");
+        assertThat(results.get(1).get("status")).isEqualTo("error");
+        assertThat(results.get(1).get("error")).isEqualTo("storage unavailable");
+    }
+
+    @Test
+    void testDeleteFilesKeepsRowsThatFailedToDelete() throws Exception {
+        DatasetFile kept = datasetFile("f1", "a.csv");
+        DatasetFile removed = datasetFile("f2", "b.csv");
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(datasetFileRepository.findByVersionIdAndFileIdIn(eq(10L), anyCollection()))
+                .thenReturn(List.of(kept, removed));
+        when(objectStorageService.deleteFiles(anyCollection()))
+                .thenReturn(Map.of(kept.getFilePath(), "Access Denied"));
+
+        Map<String, Object> result = datasetVersionService.deleteFiles(1L, "v1", List.of("f1", "f2", "f3"));
+
+        List<Map<String, Object>> results = (List<Map<String, Object>>) result.get("results");
+        assertThat(results).extracting(r -> r.get("status")).containsExactly("error", "deleted", "not_found");
+        verify(datasetFileRepository).deleteAll(List.of(removed));
+    }
+
+    @Test
+    void testVerifyVersionDetectsMissingAndResizedObjects() throws Exception {
+        DatasetFile ok = datasetFile("f1", "a.csv");
+        DatasetFile missing = datasetFile("f2", "abc.csv");
+        DatasetFile resized = datasetFile("f3", "b.csv");
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(datasetFileRepository.findByVersionIdOrderByCreatedAtAsc(10L)).thenReturn(List.of(ok, missing, resized));
+        when(objectStorageService.listFileSizes(anyString())).thenAnswer(invocation -> {
+            String prefix = invocation.getArgument(0);
+            return prefix.endsWith("/a")
+                    ? Map.of(ok.getFilePath(), 3L)
+                    : Map.of(resized.getFilePath(), 7L);
+        });
+
+        Map<String, Object> result = datasetVersionService.verifyVersion(1L, "v1");
+
+        List<Map<String, Object>> results = (List<Map<String, Object>>) result.get("results");
+        assertThat(results).extracting(r -> r.get("status")).containsExactly("ok", "missing", "size_mismatch");
+        assertThat(result.get("failed")).isEqualTo(2L);
+    }
+
+    @Test
+    void testCompleteUploadRecordsFileWhenStoredChecksumMatchesDigest() throws Exception {
+        String digest = FileDigests.sha256Hex(new ByteArrayInputStream("id,label\n1,cat\n".getBytes(StandardCharsets.UTF_8)));
+        StatObjectResponse stat = mock(StatObjectResponse.class);
+        when(stat.size()).thenReturn(42L);
+        when(stat.contentType()).thenReturn("text/csv");
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(objectStorageService.statFileWithChecksum("datasets/1/versions/v1/big.csv")).thenReturn(stat);
+        when(objectStorageService.getSha256Checksum(stat)).thenReturn(digest);
+        when(datasetFileRepository.save(any(DatasetFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DatasetFile file = datasetVersionService.completeUpload(1L, "v1", "big.csv", digest.toUpperCase());
+
+        assertThat(file.getFilePath()).isEqualTo("datasets/1/versions/v1/big.csv");
+        assertThat(file.getFileSize()).isEqualTo(42L);
+        assertThat(file.getFileFormat()).isEqualTo("CSV");
+        assertThat(file.getDigest()).isEqualTo(digest);
+        // The store already checked the bytes, so they are not read back
+        verify(objectStorageService, never()).downloadFile(anyString());
+    }
+
+    @Test
+    void testCompleteUploadRejectsAndRemovesObjectWithWrongChecksum() throws Exception {
+        StatObjectResponse stat = mock(StatObjectResponse.class);
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(objectStorageService.statFileWithChecksum("datasets/1/versions/v1/big.csv")).thenReturn(stat);
+        when(objectStorageService.getSha256Checksum(stat)).thenReturn("b".repeat(64));
+
+        assertThatThrownBy(() -> datasetVersionService.completeUpload(1L, "v1", "big.csv", "a".repeat(64)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Content of big.csv");
+        verify(objectStorageService).deleteFile("datasets/1/versions/v1/big.csv");
+        verify(datasetFileRepository, never()).save(any());
+    }
+
+    @Test
+    void testCompleteUploadRejectsObjectUploadedWithoutChecksum() throws Exception {
+        // The checksum header is not signed into the URL, so a client can leave it out
+        StatObjectResponse stat = mock(StatObjectResponse.class);
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(objectStorageService.statFileWithChecksum("datasets/1/versions/v1/big.csv")).thenReturn(stat);
+        when(objectStorageService.getSha256Checksum(stat)).thenReturn(null);
+
+        assertThatThrownBy(() -> datasetVersionService.completeUpload(1L, "v1", "big.csv", "a".repeat(64)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ObjectStorageService.SHA256_CHECKSUM_HEADER);
+        verify(objectStorageService).deleteFile("datasets/1/versions/v1/big.csv");
+        verify(datasetFileRepository, never()).save(any());
+    }
+
+    @Test
+    void testPresignUploadAsksForBase64Checksum() throws Exception {
+        String digest = FileDigests.sha256Hex(new ByteArrayInputStream(new byte[0]));
+        when(datasetVersionRepository.findByDatasetIdAndVersionId(1L, "v1")).thenReturn(Optional.of(draftVersion));
+        when(objectStorageService.getPresignedUploadUrl(eq("datasets/1/versions/v1/big.csv"), anyInt())).thenReturn("http://minio/put");
+
+        Map<String, Object> upload = datasetVersionService.presignUpload(1L, "v1", "big.csv", digest);
+
+        assertThat(upload.get("headers")).isEqualTo(Map.of(
+                ObjectStorageService.SHA256_CHECKSUM_HEADER, "47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU="));
+    }
+
+    private DatasetFile datasetFile(String fileId, String fileName) {
+        DatasetFile file = new DatasetFile();
+        file.setFileId(fileId);
+        file.setVersionId(10L);
+        file.setFileName(fileName);
+        file.setFilePath("datasets/1/versions/v1/" + fileName);
+        file.setFileSize(3L);
+        file.setDigest("digest-" + fileId);
+        return file;
+    }
+}
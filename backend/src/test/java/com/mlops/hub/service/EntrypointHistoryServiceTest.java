@@ -0,0 +1,99 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.EntrypointHistory;
+import com.mlops.hub.repository.EntrypointHistoryRepository;
+import com.mlops.hub.repository.EntrypointHistorySummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(EntrypointHistoryService.class)
+class EntrypointHistoryServiceTest {
+
+    @Autowired
+    private EntrypointHistoryService historyService;
+
+    @Autowired
+    private EntrypointHistoryRepository historyRepository;
+
+    @Test
+    void testHistoryPagesWalkEveryRowOnceNewestFirst() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        // Three calls share a timestamp, so the cursor has to break ties on id
+        List<Long> expected = new ArrayList<>();
+        for (LocalDateTime createdAt : List.of(base, base.plusSeconds(1), base.plusSeconds(1), base.plusSeconds(1), base.plusSeconds(2))) {
+            expected.add(history(1L, createdAt).getId());
+        }
+        history(2L, base.plusSeconds(5));
+        List<Long> newestFirst = List.of(expected.get(4), expected.get(3), expected.get(2), expected.get(1), expected.get(0));
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<EntrypointHistorySummary> page = historyService.getHistoryPage(1L, cursor, 2);
+            page.items().forEach(history -> seen.add(history.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(newestFirst);
+        assertThat(pages).isEqualTo(3);
+        assertThat(historyService.getHistoryPage(1L, null, null).nextCursor()).isNull();
+    }
+
+    @Test
+    void testListingCarriesPreviewsAndItemCarriesFullBodies() {
+        EntrypointHistory history = new EntrypointHistory();
+        history.setEntrypointId(1L);
+        history.setStatus("success");
+        history.setStatusCode(200);
+        history.setElapsedTimeMs(42L);
+        history.setRequestBody("x".repeat(5000));
+        history.setResponseBody("{\"label\":\"joy\"}");
+        history = historyRepository.saveAndFlush(history);
+
+        EntrypointHistorySummary summary = historyService.getRecentHistory(1L, 10).get(0);
+        assertThat(summary.getId()).isEqualTo(history.getId());
+        assertThat(summary.getStatusCode()).isEqualTo(200);
+        assertThat(summary.getElapsedTimeMs()).isEqualTo(42L);
+        assertThat(summary.getRequestPreview()).hasSize(100);
+        assertThat(summary.getResponsePreview()).isEqualTo("{\"label\":\"joy\"}");
+        assertThat(summary.getCreatedAt()).isNotNull();
+
+        assertThat(historyService.getHistoryItem(1L, history.getId()).orElseThrow().getRequestBody()).hasSize(5000);
+        // Items are only found under their own entrypoint
+        assertThat(historyService.getHistoryItem(2L, history.getId())).isEmpty();
+    }
+
+    @Test
+    void testRejectsInvalidCursorAndLimit() {
+        assertThatThrownBy(() -> historyService.getHistoryPage(1L, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> historyService.getHistoryPage(1L, null, KeysetPage.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> historyService.getHistoryPage(1L, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EntrypointHistory history(Long entrypointId, LocalDateTime createdAt) {
+        EntrypointHistory history = new EntrypointHistory();
+        history.setEntrypointId(entrypointId);
+        history.setStatus("success");
+        history = historyRepository.saveAndFlush(history);
+        // createdAt is stamped on insert; backdate it to build the ordering under test
+        history.setCreatedAt(createdAt);
+        return historyRepository.saveAndFlush(history);
+    }
+}
@@ -0,0 +1,197 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExperimentMetricsServiceTest {
+
+    @Mock
+    private MLflowFacadeService mlflowFacadeService;
+
+    @InjectMocks
+    private ExperimentMetricsService experimentMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(experimentMetricsService, "refreshIntervalMs", 0L);
+        ReflectionTestUtils.setField(experimentMetricsService, "fullRefreshIntervalMs", 3600000L);
+        ReflectionTestUtils.setField(experimentMetricsService, "maxExperiments", 10L);
+        ReflectionTestUtils.setField(experimentMetricsService, "lowerIsBetter", "loss");
+        ReflectionTestUtils.setField(experimentMetricsService, "self", experimentMetricsService);
+        experimentMetricsService.init();
+    }
+
+    @Test
+    void testAggregatesMetricsAcrossRuns() {
+        when(mlflowFacadeService.streamRuns(eq("1"), anyString(), any())).thenReturn(Flux.just(
+                run("r1", 100L, Map.of("accuracy", 0.80, "loss", 0.40)),
+                run("r2", 200L, Map.of("accuracy", 0.90, "loss", 0.30)),
+                run("r3", 300L, Map.of("accuracy", 0.85))));
+
+        Map<String, Object> result = experimentMetricsService.getExperimentMetrics("1").block();
+
+        assertThat(result.get("total_runs")).isEqualTo(3);
+        Map<String, Map<String, Object>> metrics = (Map<String, Map<String, Object>>) result.get("metrics");
+        Map<String, Object> accuracy = metrics.get("accuracy");
+        assertThat(accuracy.get("count")).isEqualTo(3L);
+        assertThat(accuracy.get("min")).isEqualTo(0.80);
+        assertThat((double) accuracy.get("mean")).isCloseTo(0.85, offset(1e-9));
+        assertThat(accuracy.get("best_run_id")).isEqualTo("r2");
+        assertThat(metrics.get("loss").get("goal")).isEqualTo("minimize");
+        assertThat(metrics.get("loss").get("best_run_id")).isEqualTo("r2");
+    }
+
+    @Test
+    void testRefreshFoldsOnlyRunsFinishedSinceLastLoad() {
+        ArgumentCaptor<String> filters = ArgumentCaptor.forClass(String.class);
+        when(mlflowFacadeService.streamRuns(eq("1"), filters.capture(), any()))
+                .thenReturn(Flux.just(run("r1", 100L, Map.of("accuracy", 0.5))))
+                // The boundary run comes back again and must not be counted twice
+                .thenReturn(Flux.just(
+                        run("r1", 100L, Map.of("accuracy", 0.5)),
+                        run("r2", 150L, Map.of("accuracy", 0.7))));
+
+        experimentMetricsService.getExperimentMetrics("1").block();
+        // Stale snapshot is served while the refresh runs in the background
+        experimentMetricsService.getExperimentMetrics("1").block();
+        verify(mlflowFacadeService, timeout(1000).times(2)).streamRuns(eq("1"), anyString(), any());
+
+        Map<String, Object> refreshed = awaitTotalRuns("1", 2);
+        Map<String, Object> accuracy = ((Map<String, Map<String, Object>>) refreshed.get("metrics")).get("accuracy");
+        assertThat(accuracy.get("count")).isEqualTo(2L);
+        assertThat(accuracy.get("max")).isEqualTo(0.7);
+
+        List<String> captured = filters.getAllValues();
+        assertThat(captured.get(0)).isEqualTo("attributes.status = 'FINISHED'");
+        assertThat(captured.get(1)).contains("attributes.end_time >= 100");
+    }
+
+    @Test
+    void testConcurrentFirstReadsShareOneLoad() {
+        when(mlflowFacadeService.streamRuns(eq("1"), anyString(), any()))
+                .thenReturn(Flux.just(run("r1", 100L, Map.of("accuracy", 0.5))).delayElements(Duration.ofMillis(50)));
+
+        Flux.range(0, 10)
+                .flatMap(i -> experimentMetricsService.getExperimentMetrics("1"))
+                .blockLast();
+
+        verify(mlflowFacadeService, after(100).times(1)).streamRuns(eq("1"), anyString(), any());
+    }
+
+    @Test
+    void testRunMetricSummary() {
+        when(mlflowFacadeService.getMetricHistory("r1", "loss")).thenReturn(Mono.just(Map.of("metrics", List.of(
+                Map.of("key", "loss", "value", 0.9, "step", 0, "timestamp", 1L),
+                Map.of("key", "loss", "value", 0.3, "step", 2, "timestamp", 3L),
+                Map.of("key", "loss", "value", 0.5, "step", 1, "timestamp", 2L)))));
+
+        Map<String, Object> summary = experimentMetricsService.getRunMetricSummary("r1", "loss").block();
+
+        assertThat(summary.get("count")).isEqualTo(3L);
+        assertThat(summary.get("min")).isEqualTo(0.3);
+        assertThat(summary.get("max")).isEqualTo(0.9);
+        assertThat(summary.get("last")).isEqualTo(0.3);
+        assertThat(summary.get("last_step")).isEqualTo(2);
+    }
+
+    @Test
+    void testDownsampledHistoryStartsEachSubscriptionFromAnEmptySeries() {
+        when(mlflowFacadeService.streamMetricHistory("r1", "loss")).thenReturn(Flux.range(0, 5000)
+                .map(step -> (Map) Map.of("step", step, "value", step == 1234 ? 9.0 : 1.0, "timestamp", (long) step)));
+
+        Mono<Map<String, Object>> history = experimentMetricsService.getDownsampledHistory(
+                "r1", "loss", 50, MetricDownsampler.Method.MINMAX, null, null, null, null);
+        Map<String, Object> first = history.block();
+        Map<String, Object> second = history.block();
+
+        assertThat(first.get("total_points")).isEqualTo(5000L);
+        assertThat(second.get("total_points")).isEqualTo(5000L);
+        assertThat(second.get("returned_points")).isEqualTo(first.get("returned_points"));
+        assertThat((List<Map<String, Object>>) second.get("points")).anyMatch(point -> point.get("value").equals(9.0));
+    }
+
+    @Test
+    void testCompareRunsFetchesInParallelAndReturnsColumns() {
+        ReflectionTestUtils.setField(experimentMetricsService, "compareConcurrency", 4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(mlflowFacadeService.streamMetricHistory(anyString(), eq("loss"))).thenAnswer(invocation -> Flux.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Flux.<Map>just(Map.of("step", 0, "value", 1.0, "timestamp", 1L),
+                            Map.of("step", 1, "value", 0.5, "timestamp", 2L));
+                })
+                .delayElements(Duration.ofMillis(20))
+                .doOnComplete(inFlight::decrementAndGet));
+
+        List<String> runIds = IntStream.range(0, 12).mapToObj(i -> "r" + i).toList();
+        Map<String, Object> comparison = experimentMetricsService.compareRuns(runIds, List.of("loss"), 100, null, null).block();
+
+        assertThat((long[]) comparison.get("steps")).containsExactly(0L, 1L);
+        List<Map<String, Object>> series = (List<Map<String, Object>>) comparison.get("series");
+        assertThat(series).hasSize(12);
+        assertThat(series.get(3).get("run_id")).isEqualTo("r3");
+        assertThat((Double[]) series.get(3).get("values")).containsExactly(1.0, 0.5);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void testCompareRunsAlignsCachedDownsampledHistories() {
+        ReflectionTestUtils.setField(experimentMetricsService, "compareConcurrency", 2);
+        ExperimentMetricsService self = spy(experimentMetricsService);
+        ReflectionTestUtils.setField(experimentMetricsService, "self", self);
+        when(mlflowFacadeService.streamMetricHistory(anyString(), eq("loss"))).thenAnswer(invocation -> Flux.range(0, 5000)
+                .map(step -> (Map) Map.of("step", step, "value", 1.0, "timestamp", (long) step)));
+
+        Map<String, Object> comparison = experimentMetricsService.compareRuns(List.of("r1", "r2"), List.of("loss"), 100, null, null).block();
+
+        verify(self).getDownsampledHistory("r1", "loss", 100, MetricDownsampler.Method.LTTB, null, null, null, null);
+        verify(self).getDownsampledHistory("r2", "loss", 100, MetricDownsampler.Method.LTTB, null, null, null, null);
+        List<Map<String, Object>> series = (List<Map<String, Object>>) comparison.get("series");
+        assertThat(series.get(0).get("total_points")).isEqualTo(5000L);
+        assertThat((Double[]) series.get(1).get("values")).hasSizeLessThanOrEqualTo(100).containsOnly(1.0);
+    }
+
+    private Map<String, Object> awaitTotalRuns(String experimentId, int expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        Map<String, Object> result;
+        do {
+            result = experimentMetricsService.getExperimentMetrics(experimentId).block();
+        } while (!Integer.valueOf(expected).equals(result.get("total_runs")) && System.currentTimeMillis() < deadline);
+        return result;
+    }
+
+    private static Map run(String runId, long endTime, Map<String, Double> metrics) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        metrics.forEach((key, value) -> entries.add(Map.of("key", key, "value", value)));
+        return Map.of(
+                "info", Map.of("run_id", runId, "status", "FINISHED", "end_time", endTime),
+                "data", Map.of("metrics", entries));
+    }
+}
@@ -0,0 +1,222 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.config.OutboundHttpClients;
+import com.mlops.hub.entity.Experiment;
+import com.mlops.hub.entity.Run;
+import com.mlops.hub.repository.ExperimentRepository;
+import com.mlops.hub.repository.RunRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExperimentServiceTest {
+
+    private final ExperimentRepository experimentRepository = mock(ExperimentRepository.class);
+    private final RunRepository runRepository = mock(RunRepository.class);
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private ExperimentService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testCreateExperimentRetriesTransientFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        service = service(request -> attempts.incrementAndGet() < 3
+                ? json(HttpStatus.SERVICE_UNAVAILABLE, "{}")
+                : json(HttpStatus.OK, "{\"experiment_id\":\"7\"}"), 1);
+        when(experimentRepository.findByMlflowExperimentId("7")).thenReturn(Optional.empty());
+        when(experimentRepository.save(any(Experiment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Experiment created = service.createExperiment(experiment("churn")).block();
+
+        assertThat(created.getMlflowExperimentId()).isEqualTo("7");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testCreateExperimentRetryAdoptsExperimentAnEarlierAttemptCreated() {
+        AtomicInteger creates = new AtomicInteger();
+        service = service(request -> {
+            if (request.url().getPath().endsWith("/experiments/create")) {
+                // MLflow created the experiment but the response was lost
+                return creates.incrementAndGet() == 1
+                        ? json(HttpStatus.BAD_GATEWAY, "{}")
+                        : json(HttpStatus.CONFLICT, "{\"error_code\":\"RESOURCE_ALREADY_EXISTS\"}");
+            }
+            return json(HttpStatus.OK, "{\"experiment\":{\"experiment_id\":\"9\",\"name\":\"churn\",\"lifecycle_stage\":\"active\"}}");
+        }, 1);
+        Experiment existing = experiment("churn");
+        existing.setMlflowExperimentId("9");
+        when(experimentRepository.findByMlflowExperimentId("9")).thenReturn(Optional.of(existing));
+
+        assertThat(service.createExperiment(experiment("churn")).block()).isSameAs(existing);
+        // The local row already exists, so nothing new is inserted
+        verify(experimentRepository, times(0)).save(any(Experiment.class));
+    }
+
+    @Test
+    void testCreateExperimentWithTakenNameFailsOnFirstAttempt() {
+        service = service(request -> json(HttpStatus.CONFLICT, "{\"error_code\":\"RESOURCE_ALREADY_EXISTS\"}"), 1);
+
+        assertThatThrownBy(() -> service.createExperiment(experiment("churn")).block())
+                .isInstanceOf(WebClientResponseException.Conflict.class);
+        assertThat(paths).containsExactly("/api/2.0/mlflow/experiments/create");
+        verify(experimentRepository, times(0)).save(any(Experiment.class));
+    }
+
+    @Test
+    void testCreateExperimentRetryDoesNotAdoptDeletedExperiment() {
+        AtomicInteger creates = new AtomicInteger();
+        service = service(request -> {
+            if (request.url().getPath().endsWith("/experiments/create")) {
+                return creates.incrementAndGet() == 1
+                        ? json(HttpStatus.BAD_GATEWAY, "{}")
+                        : json(HttpStatus.CONFLICT, "{\"error_code\":\"RESOURCE_ALREADY_EXISTS\"}");
+            }
+            return json(HttpStatus.OK, "{\"experiment\":{\"experiment_id\":\"9\",\"name\":\"churn\",\"lifecycle_stage\":\"deleted\"}}");
+        }, 1);
+
+        assertThatThrownBy(() -> service.createExperiment(experiment("churn")).block())
+                .isInstanceOf(WebClientResponseException.Conflict.class);
+        verify(experimentRepository, times(0)).save(any(Experiment.class));
+    }
+
+    @Test
+    void testClientErrorsAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        service = service(request -> {
+            attempts.incrementAndGet();
+            return json(HttpStatus.BAD_REQUEST, "{\"error_code\":\"INVALID_PARAMETER_VALUE\"}");
+        }, 1);
+
+        assertThatThrownBy(() -> service.createExperiment(experiment("bad/name")).block())
+                .isInstanceOf(WebClientResponseException.BadRequest.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testCreateRunRetryFindsRunByRequestIdInsteadOfCreatingAnother() {
+        AtomicInteger creates = new AtomicInteger();
+        service = service(request -> {
+            if (request.url().getPath().endsWith("/runs/create")) {
+                creates.incrementAndGet();
+                // MLflow created the run but the response was lost
+                return json(HttpStatus.BAD_GATEWAY, "{}");
+            }
+            return json(HttpStatus.OK, "{\"runs\":[{\"info\":{\"run_id\":\"r1\"}}]}");
+        }, 1);
+        Experiment experiment = experiment("churn");
+        experiment.setMlflowExperimentId("7");
+        when(experimentRepository.findById(1L)).thenReturn(Optional.of(experiment));
+        when(runRepository.findByMlflowRunId("r1")).thenReturn(Optional.empty());
+        when(runRepository.save(any(Run.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Run created = service.createRun(1L, new Run()).block();
+
+        assertThat(created.getMlflowRunId()).isEqualTo("r1");
+        assertThat(created.getExperiment()).isSameAs(experiment);
+        assertThat(creates.get()).isEqualTo(1);
+        assertThat(paths).containsExactly("/api/2.0/mlflow/runs/create", "/api/2.0/mlflow/runs/search");
+    }
+
+    @Test
+    void testCreateRunForMissingExperimentIsEmpty() {
+        service = service(request -> json(HttpStatus.OK, "{}"), 1);
+        when(experimentRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThat(service.createRun(1L, new Run()).blockOptional()).isEmpty();
+        assertThat(paths).isEmpty();
+    }
+
+    @Test
+    void testConcurrentCreationsAreNotCappedByDbThreads() {
+        Duration mlflowLatency = Duration.ofMillis(200);
+        AtomicInteger ids = new AtomicInteger();
+        // Two DB threads and no threads parked on MLflow: the round trips overlap
+        service = service(request -> Mono.delay(mlflowLatency)
+                .then(json(HttpStatus.OK, "{\"experiment_id\":\"" + ids.incrementAndGet() + "\"}")), 2);
+        when(experimentRepository.findByMlflowExperimentId(anyString())).thenReturn(Optional.empty());
+        Set<String> dbThreads = ConcurrentHashMap.newKeySet();
+        when(experimentRepository.save(any(Experiment.class))).thenAnswer(invocation -> {
+            dbThreads.add(Thread.currentThread().getName());
+            return invocation.getArgument(0);
+        });
+
+        int creations = 50;
+        long started = System.nanoTime();
+        List<Experiment> created = Flux.range(0, creations)
+                .flatMap(i -> service.createExperiment(experiment("exp-" + i)), creations)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(created).hasSize(creations);
+        // Blocking calls on two threads would take creations / 2 round trips
+        assertThat(elapsedMs).isLessThan(creations / 2 * mlflowLatency.toMillis() / 4);
+        assertThat(dbThreads).allMatch(name -> name.startsWith("experiment-db")).hasSizeLessThanOrEqualTo(2);
+    }
+
+    private ExperimentService service(ExchangeFunction mlflow, int dbWriteConcurrency) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    // withRetries is the only retry layer, so the client's retry filter must stand aside
+                    assertThat(request.attribute(OutboundHttpClients.RETRIED_BY_CALLER)).contains(true);
+                    paths.add(request.url().getPath());
+                    return mlflow.exchange(request);
+                })
+                .build();
+        ExperimentService experimentService = new ExperimentService();
+        ReflectionTestUtils.setField(experimentService, "mlflowWebClient", webClient);
+        ReflectionTestUtils.setField(experimentService, "experimentRepository", experimentRepository);
+        ReflectionTestUtils.setField(experimentService, "runRepository", runRepository);
+        ReflectionTestUtils.setField(experimentService, "maxRetries", 3);
+        ReflectionTestUtils.setField(experimentService, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(experimentService, "dbWriteConcurrency", dbWriteConcurrency);
+        experimentService.init();
+        return experimentService;
+    }
+
+    private static Mono<ClientResponse> json(HttpStatus status, String body) {
+        return Mono.just(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private static Experiment experiment(String name) {
+        Experiment experiment = new Experiment();
+        experiment.setName(name);
+        return experiment;
+    }
+}
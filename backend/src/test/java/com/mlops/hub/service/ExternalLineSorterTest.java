@@ -0,0 +1,50 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalLineSorterTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void testSortsAcrossManySpilledRuns() throws Exception {
+        List<String> lines = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            lines.add("row-" + random.nextInt(1000) + ",value-" + i);
+        }
+
+        // A tiny budget forces one run per few lines and several merge passes
+        ExternalLineSorter sorter = new ExternalLineSorter(workDir, 1024, 4);
+        Path sorted = sorter.sort(new BufferedReader(new StringReader(String.join("\n", lines))));
+
+        List<String> expected = new ArrayList<>(lines);
+        Collections.sort(expected);
+        assertThat(Files.readAllLines(sorted, StandardCharsets.UTF_8)).isEqualTo(expected);
+        try (var files = Files.list(workDir)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testSortsEmptyInput() throws Exception {
+        ExternalLineSorter sorter = new ExternalLineSorter(workDir, 1024, 4);
+        Path sorted = sorter.sort(new BufferedReader(new StringReader("")));
+
+        assertThat(Files.readAllLines(sorted, StandardCharsets.UTF_8)).isEmpty();
+    }
+}
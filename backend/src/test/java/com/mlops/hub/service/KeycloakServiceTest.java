@@ -0,0 +1,154 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.config.KeycloakConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeycloakServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final KeycloakConfig keycloakConfig = mock(KeycloakConfig.class);
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private KeycloakTokenManager tokenManager;
+    private KeycloakService service;
+
+    @BeforeEach
+    void setUp() {
+        when(keycloakConfig.getTokenUrl()).thenReturn("http://keycloak/token");
+        when(keycloakConfig.getUserInfoUrl()).thenReturn("http://keycloak/userinfo");
+
+        tokenManager = new KeycloakTokenManager();
+        ReflectionTestUtils.setField(tokenManager, "keycloakConfig", keycloakConfig);
+        ReflectionTestUtils.setField(tokenManager, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(tokenManager, "refreshSkewMs", 30000L);
+        ReflectionTestUtils.setField(tokenManager, "clock", clockAt(NOW));
+
+        service = new KeycloakService();
+        ReflectionTestUtils.setField(service, "keycloakConfig", keycloakConfig);
+        ReflectionTestUtils.setField(service, "restTemplate", restTemplate);
+        ReflectionTestUtils.setField(service, "keycloakTokenManager", tokenManager);
+        ReflectionTestUtils.setField(service, "userInfoMaximumSize", 100L);
+        ReflectionTestUtils.setField(service, "userInfoTtlMs", 60000L);
+        ReflectionTestUtils.setField(service, "clock", clockAt(NOW));
+        service.init();
+    }
+
+    @Test
+    void testAdminTokenIsReusedUntilShortlyBeforeExpiry() {
+        AtomicInteger fetches = new AtomicInteger();
+        when(restTemplate.postForEntity(eq("http://keycloak/token"), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> ResponseEntity.ok(Map.of(
+                        "access_token", "token-" + fetches.incrementAndGet(), "expires_in", 300)));
+
+        assertThat(service.getAdminToken()).isEqualTo("token-1");
+        ReflectionTestUtils.setField(tokenManager, "clock", clockAt(NOW.plusSeconds(269)));
+        assertThat(service.getAdminToken()).isEqualTo("token-1");
+
+        // Within the 30s skew of the 300s lifetime
+        ReflectionTestUtils.setField(tokenManager, "clock", clockAt(NOW.plusSeconds(270)));
+        assertThat(service.getAdminToken()).isEqualTo("token-2");
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testConcurrentCallersShareOneRefresh() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class))).thenAnswer(invocation -> {
+            fetches.incrementAndGet();
+            fetchStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(Map.of("access_token", "shared", "expires_in", 300));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(service::getAdminToken));
+            }
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("shared");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailedAdminTokenFetchIsNotCached() {
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.UNAUTHORIZED))
+                .thenReturn(ResponseEntity.ok(Map.of("access_token", "recovered", "expires_in", 300)));
+
+        assertThatThrownBy(service::getAdminToken).isInstanceOf(HttpClientErrorException.class);
+        assertThat(service.getAdminToken()).isEqualTo("recovered");
+    }
+
+    @Test
+    void testUserInfoIsCachedPerToken() {
+        stubUserInfo();
+
+        assertThat(service.getUserInfo("token-a", NOW.plusSeconds(600)).get("sub")).isEqualTo("user");
+        service.getUserInfo("token-a", NOW.plusSeconds(600));
+        service.getUserInfo("token-b", NOW.plusSeconds(600));
+
+        verify(restTemplate, times(2)).exchange(eq("http://keycloak/userinfo"), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class));
+    }
+
+    @Test
+    void testUserInfoForExpiredTokenIsNotCached() {
+        stubUserInfo();
+
+        service.getUserInfo("token-a", NOW.minus(Duration.ofSeconds(1)));
+        service.getUserInfo("token-a", NOW.minus(Duration.ofSeconds(1)));
+
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class));
+    }
+
+    private void stubUserInfo() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(ResponseEntity.ok(Map.of("sub", "user")));
+    }
+
+    private static Clock clockAt(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+}
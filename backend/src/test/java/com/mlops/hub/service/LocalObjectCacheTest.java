@@ -0,0 +1,112 @@
+package com.mlops.hub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalObjectCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalObjectCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cache = newCache(10);
+    }
+
+    @Test
+    void testLoadsOnceAndServesHitsFromDisk() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LocalObjectCache.ObjectLoader loader = () -> {
+            loads.incrementAndGet();
+            return new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8));
+        };
+
+        assertThat(read(cache.openOrLoad("dataset:abc", loader))).isEqualTo("hello");
+        assertThat(read(cache.openOrLoad("dataset:abc", loader))).isEqualTo("hello");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("object.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("object.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntries() throws Exception {
+        read(cache.openOrLoad("a", () -> content("aaaa")));
+        read(cache.openOrLoad("b", () -> content("bbbb")));
+        read(cache.open("a"));
+        read(cache.openOrLoad("c", () -> content("cccc")));
+
+        assertThat(cache.open("b")).isNull();
+        assertThat(read(cache.open("a"))).isEqualTo("aaaa");
+        assertThat(read(cache.open("c"))).isEqualTo("cccc");
+        assertThat(cache.getCurrentBytes()).isEqualTo(8);
+        assertThat(meterRegistry.get("object.cache.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testEvictedEntryStaysReadableWhileOpen() throws Exception {
+        FileChannel serving = cache.openOrLoad("a", () -> content("aaaaaaaa"));
+        read(cache.openOrLoad("b", () -> content("bbbbbbbb")));
+
+        assertThat(cache.open("a")).isNull();
+        assertThat(read(serving)).isEqualTo("aaaaaaaa");
+    }
+
+    @Test
+    void testRebuildsIndexFromExistingFiles() throws Exception {
+        read(cache.openOrLoad("a", () -> content("aaaa")));
+        Files.createFile(cacheDir.resolve("load-leftover.tmp"));
+
+        LocalObjectCache restarted = newCache(10);
+
+        assertThat(read(restarted.open("a"))).isEqualTo("aaaa");
+        assertThat(Files.exists(cacheDir.resolve("load-leftover.tmp"))).isFalse();
+    }
+
+    private LocalObjectCache newCache(long maxSizeBytes) throws Exception {
+        LocalObjectCache created = new LocalObjectCache();
+        ReflectionTestUtils.setField(created, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(created, "enabled", true);
+        ReflectionTestUtils.setField(created, "directory", cacheDir.toString());
+        ReflectionTestUtils.setField(created, "maxSizeBytes", maxSizeBytes);
+        created.init();
+        return created;
+    }
+
+    @Test
+    void testTransferCopiesFilesLargerThanOneMappedRegion() throws Exception {
+        FileChannel channel = cache.openOrLoad("large", () -> content("0123456789abcdef"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalObjectCache.transfer(channel, out, 5);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("0123456789abcdef");
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    private ByteArrayInputStream content(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(FileChannel channel) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalObjectCache.transfer(channel, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.mlops.hub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MLflowFacadeServiceArtifactCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private final AtomicInteger artifactFetches = new AtomicInteger();
+    private volatile String runStatus = "RUNNING";
+
+    @Test
+    void testArtifactsOfActiveRunsAreNotCached() throws Exception {
+        MLflowFacadeService service = service();
+
+        assertThat(read(service.openArtifact("r1", "model.pkl").block())).isEqualTo("version-1");
+        // An active run can overwrite its artifact; the next read must see the new bytes
+        assertThat(read(service.openArtifact("r1", "model.pkl").block())).isEqualTo("version-2");
+        assertThat(artifactFetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testArtifactsOfFinishedRunsAreCached() throws Exception {
+        runStatus = "FINISHED";
+        MLflowFacadeService service = service();
+
+        assertThat(read(service.openArtifact("r1", "model.pkl").block())).isEqualTo("version-1");
+        assertThat(read(service.openArtifact("r1", "model.pkl").block())).isEqualTo("version-1");
+        assertThat(artifactFetches.get()).isEqualTo(1);
+    }
+
+    private MLflowFacadeService service() throws Exception {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    boolean artifact = request.url().getPath().endsWith("/get-artifact");
+                    String body = artifact
+                            ? "version-" + artifactFetches.incrementAndGet()
+                            : "{\"run\":{\"info\":{\"run_id\":\"r1\",\"status\":\"" + runStatus + "\"}}}";
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, artifact
+                                    ? MediaType.APPLICATION_OCTET_STREAM_VALUE : MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+
+        LocalObjectCache cache = new LocalObjectCache();
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "directory", cacheDir.toString());
+        ReflectionTestUtils.setField(cache, "maxSizeBytes", 1024L);
+        cache.init();
+
+        MLflowFacadeService service = new MLflowFacadeService();
+        ReflectionTestUtils.setField(service, "mlflowWebClient", webClient);
+        ReflectionTestUtils.setField(service, "localObjectCache", cache);
+        ReflectionTestUtils.setField(service, "self", service);
+        return service;
+    }
+
+    private static String read(FileChannel channel) throws Exception {
+        try (channel) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            channel.read(buffer, 0);
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MLflowFacadeServiceArtifactTreeTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    // Directory path -> JSON page(s); "path#token" keys hold follow-up pages
+    private final Map<String, String> pages = Map.of(
+            "", "{\"files\":[{\"path\":\"model\",\"is_dir\":true},{\"path\":\"metrics.json\",\"is_dir\":false,\"file_size\":\"100\"}],"
+                    + "\"next_page_token\":\"p2\"}",
+            "#p2", "{\"files\":[{\"path\":\"plots\",\"is_dir\":true}]}",
+            "model", "{\"files\":[{\"path\":\"model/weights.bin\",\"is_dir\":false,\"file_size\":4000},"
+                    + "{\"path\":\"model/conf\",\"is_dir\":true}]}",
+            "model/conf", "{\"files\":[{\"path\":\"model/conf/config.yaml\",\"is_dir\":false,\"file_size\":20}]}",
+            "plots", "{\"files\":[{\"path\":\"plots/a.png\",\"is_dir\":false,\"file_size\":300},"
+                    + "{\"path\":\"plots/b.png\",\"is_dir\":false,\"file_size\":400}]}");
+
+    @Test
+    void testTreeFollowsPagesAndSumsSizes() {
+        Map<String, Object> tree = service(8).listArtifactTree("r1").block();
+
+        assertThat(tree.get("total_size")).isEqualTo(4820L);
+        assertThat(tree.get("file_count")).isEqualTo(5L);
+        assertThat(tree.get("directory_count")).isEqualTo(3L);
+
+        List<Map<String, Object>> files = (List<Map<String, Object>>) tree.get("files");
+        assertThat(files).extracting(file -> file.get("path")).containsExactly("model", "metrics.json", "plots");
+        Map<String, Object> model = files.get(0);
+        assertThat(model.get("total_size")).isEqualTo(4020L);
+        List<Map<String, Object>> modelChildren = (List<Map<String, Object>>) model.get("children");
+        assertThat(modelChildren.get(1).get("path")).isEqualTo("model/conf");
+        assertThat(((List<?>) modelChildren.get(1).get("children"))).hasSize(1);
+    }
+
+    @Test
+    void testSubdirectoryListingsAreBounded() {
+        service(1).listArtifactTree("r1").block();
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+    }
+
+    private MLflowFacadeService service(int concurrency) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    var query = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+                    String path = query.getFirst("path") != null ? query.getFirst("path") : "";
+                    String token = query.getFirst("page_token");
+                    String body = pages.get(token != null ? path + "#" + token : path);
+                    return Mono.defer(() -> {
+                                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                return Mono.delay(Duration.ofMillis(10));
+                            })
+                            .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(body)
+                                    .build())
+                            .doOnNext(response -> inFlight.decrementAndGet());
+                })
+                .build();
+        MLflowFacadeService service = new MLflowFacadeService();
+        ReflectionTestUtils.setField(service, "mlflowWebClient", webClient);
+        ReflectionTestUtils.setField(service, "artifactTreeConcurrency", concurrency);
+        return service;
+    }
+}
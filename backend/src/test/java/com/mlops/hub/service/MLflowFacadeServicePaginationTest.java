@@ -0,0 +1,113 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MLflowFacadeServicePaginationTest {
+
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    private MLflowFacadeService mlflowFacadeService;
+
+    @BeforeEach
+    void setUp() {
+        mlflowFacadeService = new MLflowFacadeService();
+        ReflectionTestUtils.setField(mlflowFacadeService, "pageSize", 2);
+    }
+
+    @Test
+    void testStreamRegisteredModelsFollowsNextPageToken() {
+        useResponses(
+                "{\"registered_models\":[{\"name\":\"a\"},{\"name\":\"b\"}],\"next_page_token\":\"t1\"}",
+                "{\"registered_models\":[{\"name\":\"c\"},{\"name\":\"d\"}],\"next_page_token\":\"t2\"}",
+                "{\"registered_models\":[{\"name\":\"e\"}]}");
+
+        StepVerifier.create(mlflowFacadeService.streamRegisteredModels(null).map(model -> model.get("name")))
+                .expectNext("a", "b", "c", "d", "e")
+                .verifyComplete();
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0).url().getQuery()).doesNotContain("page_token").contains("max_results=2");
+        assertThat(requests.get(1).url().getQuery()).contains("page_token=t1");
+        assertThat(requests.get(2).url().getQuery()).contains("page_token=t2");
+    }
+
+    @Test
+    void testStreamRunsFetchesPagesOnlyAsTheyAreConsumed() {
+        useResponses(
+                "{\"runs\":[{\"info\":{\"run_id\":\"r1\"}},{\"info\":{\"run_id\":\"r2\"}}],\"next_page_token\":\"t1\"}",
+                "{\"runs\":[{\"info\":{\"run_id\":\"r3\"}},{\"info\":{\"run_id\":\"r4\"}}],\"next_page_token\":\"t2\"}",
+                "{\"runs\":[{\"info\":{\"run_id\":\"r5\"}}],\"next_page_token\":\"t3\"}",
+                "{\"runs\":[]}");
+
+        StepVerifier.create(mlflowFacadeService.streamRuns("1", null, null), 1)
+                .expectNextCount(1)
+                .then(() -> assertThat(requests.size()).isLessThanOrEqualTo(2))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void testStreamExperimentsStopsWithoutToken() {
+        useResponses("{\"experiments\":[{\"experiment_id\":\"1\"}]}");
+
+        StepVerifier.create(mlflowFacadeService.streamExperiments(null))
+                .expectNextMatches(experiment -> "1".equals(experiment.get("experiment_id")))
+                .verifyComplete();
+
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void testPageSizeIsCappedForClientCursors() {
+        useResponses("{\"registered_models\":[],\"next_page_token\":\"t1\"}");
+
+        StepVerifier.create(mlflowFacadeService.searchRegisteredModelsPage("name LIKE 'a%'", "t0", 500))
+                .expectNextMatches(page -> "t1".equals(page.get("next_page_token")))
+                .verifyComplete();
+
+        assertThat(requests.get(0).url().getQuery()).contains("max_results=2").contains("page_token=t0");
+    }
+
+    @Test
+    void testStreamMetricHistoryFollowsNextPageToken() {
+        useResponses(
+                "{\"metrics\":[{\"step\":0,\"value\":1.0},{\"step\":1,\"value\":0.5}],\"next_page_token\":\"t1\"}",
+                "{\"metrics\":[{\"step\":2,\"value\":0.25}]}");
+
+        StepVerifier.create(mlflowFacadeService.streamMetricHistory("r1", "loss").map(point -> point.get("step")))
+                .expectNext(0, 1, 2)
+                .verifyComplete();
+
+        assertThat(requests.get(0).url().getQuery()).contains("metric_key=loss").contains("max_results=25000");
+        assertThat(requests.get(1).url().getQuery()).contains("page_token=t1");
+    }
+
+    private void useResponses(String... bodies) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    String body = bodies[Math.min(requests.size(), bodies.length) - 1];
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        ReflectionTestUtils.setField(mlflowFacadeService, "mlflowWebClient", webClient);
+    }
+}
@@ -0,0 +1,80 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MLflowFacadeServiceStreamingTest {
+
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger chunksSent = new AtomicInteger();
+
+    @Test
+    void testRangeRequestPassesThroughWithoutBuffering() {
+        MLflowFacadeService service = serviceAnswering(HttpStatus.PARTIAL_CONTENT, 1000);
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.RANGE, "bytes=0-1023");
+        requestHeaders.set(HttpHeaders.AUTHORIZATION, "Bearer user-token");
+
+        ResponseEntity<Flux<DataBuffer>> response = service.streamArtifact("r1", "model/weights.bin", requestHeaders).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-1023/4096000");
+        assertThat(requests.get(0).headers().getFirst(HttpHeaders.RANGE)).isEqualTo("bytes=0-1023");
+        // Only range and conditional headers are forwarded to MLflow
+        assertThat(requests.get(0).headers().containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+
+        // Nothing beyond the demanded chunks has been pulled from upstream
+        DataBuffer first = response.getBody().limitRate(1).blockFirst();
+        DataBufferUtils.release(first);
+        assertThat(chunksSent.get()).isLessThan(10);
+    }
+
+    @Test
+    void testUnsatisfiableRangeIsNotAnError() {
+        MLflowFacadeService service = serviceAnswering(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, 0);
+
+        ResponseEntity<Flux<DataBuffer>> response = service.streamArtifact("r1", "a.txt", new HttpHeaders()).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    }
+
+    private MLflowFacadeService serviceAnswering(HttpStatus status, int chunks) {
+        DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+        Flux<DataBuffer> body = Flux.range(0, chunks)
+                .doOnNext(i -> chunksSent.incrementAndGet())
+                .map(i -> factory.wrap(("chunk-" + i).getBytes(StandardCharsets.UTF_8)));
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.ETAG, "\"abc\"")
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes 0-1023/4096000")
+                            .body(body)
+                            .build());
+                })
+                .build();
+        MLflowFacadeService service = new MLflowFacadeService();
+        ReflectionTestUtils.setField(service, "mlflowWebClient", webClient);
+        return service;
+    }
+}
@@ -0,0 +1,142 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MLflowFacadeServiceSummaryTest {
+
+    private static final int EXPERIMENTS = 32;
+    private static final int CONCURRENCY = 8;
+    private static final long MLFLOW_LATENCY_MS = 100;
+
+    private final AtomicInteger runSearches = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private MLflowFacadeService mlflowFacadeService;
+
+    @BeforeEach
+    void setUp() {
+        mlflowFacadeService = new MLflowFacadeService();
+        ReflectionTestUtils.setField(mlflowFacadeService, "self", mlflowFacadeService);
+        ReflectionTestUtils.setField(mlflowFacadeService, "pageSize", 1000);
+        ReflectionTestUtils.setField(mlflowFacadeService, "summaryConcurrency", CONCURRENCY);
+        ReflectionTestUtils.setField(mlflowFacadeService, "runCountLimit", 1000);
+        ReflectionTestUtils.setField(mlflowFacadeService, "mlflowWebClient", stubMlflow());
+    }
+
+    @Test
+    void testSummaryFetchesRunStatsInParallelWithinCap() {
+        long start = System.nanoTime();
+        Map summary = mlflowFacadeService.getExperimentsWithSummary().block();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        List<Map> experiments = (List<Map>) summary.get("experiments");
+        assertThat(experiments).hasSize(EXPERIMENTS);
+        assertThat(experiments).extracting(experiment -> experiment.get("experiment_id"))
+                .containsExactlyElementsOf(IntStream.range(0, EXPERIMENTS).mapToObj(String::valueOf).toList());
+        assertThat(runSearches.get()).isEqualTo(EXPERIMENTS);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+        // Sequential calls would take EXPERIMENTS * latency
+        assertThat(elapsedMs).isLessThan(EXPERIMENTS * MLFLOW_LATENCY_MS / 2);
+    }
+
+    @Test
+    void testRunStatsCountRunsAndTrackLatestStart() {
+        Map summary = mlflowFacadeService.getExperimentsWithSummary().block();
+
+        Map experiment = ((List<Map>) summary.get("experiments")).get(0);
+        assertThat(experiment.get("run_count")).isEqualTo(3L);
+        assertThat(experiment.get("latest_run_start_time")).isEqualTo(3000L);
+        assertThat(experiment.get("run_count_truncated")).isEqualTo(false);
+    }
+
+    @Test
+    void testRunStatsUseOneBoundedSearchPerExperiment() {
+        ReflectionTestUtils.setField(mlflowFacadeService, "runCountLimit", 3);
+        ReflectionTestUtils.setField(mlflowFacadeService, "mlflowWebClient", WebClient.builder()
+                .exchangeFunction(request -> Mono.just(json(HttpStatus.OK, "{\"runs\":["
+                        + "{\"info\":{\"run_id\":\"c\",\"start_time\":3000}},"
+                        + "{\"info\":{\"run_id\":\"b\",\"start_time\":2000}},"
+                        + "{\"info\":{\"run_id\":\"a\",\"start_time\":1000}}],"
+                        + "\"next_page_token\":\"more\"}")))
+                .build());
+
+        // Subscribing twice must not accumulate into shared state
+        mlflowFacadeService.getExperimentRunStats("1").block();
+        Map stats = mlflowFacadeService.getExperimentRunStats("1").block();
+
+        assertThat(stats.get("run_count")).isEqualTo(3L);
+        assertThat(stats.get("run_count_truncated")).isEqualTo(true);
+        assertThat(stats.get("latest_run_start_time")).isEqualTo(3000L);
+    }
+
+    @Test
+    void testFailingExperimentDoesNotFailSummary() {
+        ReflectionTestUtils.setField(mlflowFacadeService, "mlflowWebClient", stubMlflow(5));
+
+        Map summary = mlflowFacadeService.getExperimentsWithSummary().block();
+
+        List<Map> experiments = (List<Map>) summary.get("experiments");
+        assertThat(experiments).hasSize(EXPERIMENTS);
+        assertThat(experiments.stream().filter(experiment -> experiment.get("run_count") == null).count())
+                .isEqualTo(1);
+    }
+
+    private WebClient stubMlflow() {
+        return stubMlflow(-1);
+    }
+
+    // Experiments come back at once; every runs/search takes MLFLOW_LATENCY_MS, and call `failingCall` errors
+    private WebClient stubMlflow(int failingCall) {
+        String experiments = IntStream.range(0, EXPERIMENTS)
+                .mapToObj(i -> "{\"experiment_id\":\"" + i + "\",\"name\":\"exp-" + i + "\"}")
+                .collect(Collectors.joining(",", "{\"experiments\":[", "]}"));
+        String runs = "{\"runs\":["
+                + "{\"info\":{\"run_id\":\"a\",\"start_time\":1000}},"
+                + "{\"info\":{\"run_id\":\"b\",\"start_time\":3000}},"
+                + "{\"info\":{\"run_id\":\"c\",\"start_time\":2000}}]}";
+
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    if (request.url().getPath().endsWith("/experiments/search")) {
+                        return Mono.just(json(HttpStatus.OK, experiments));
+                    }
+                    int call = runSearches.incrementAndGet();
+                    return Mono.defer(() -> {
+                                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                return Mono.delay(Duration.ofMillis(MLFLOW_LATENCY_MS));
+                            })
+                            .map(tick -> {
+                                // Leave before responding, so the caller taking the freed slot is never counted twice
+                                inFlight.decrementAndGet();
+                                return call == failingCall
+                                        ? json(HttpStatus.INTERNAL_SERVER_ERROR, "{}")
+                                        : json(HttpStatus.OK, runs);
+                            });
+                })
+                .build();
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
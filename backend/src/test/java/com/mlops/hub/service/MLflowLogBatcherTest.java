@@ -0,0 +1,153 @@
+package com.mlops.hub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MLflowLogBatcherTest {
+
+    @Mock
+    private MLflowFacadeService mlflowFacadeService;
+
+    @InjectMocks
+    private MLflowLogBatcher mlflowLogBatcher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mlflowLogBatcher, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(mlflowLogBatcher, "enabled", true);
+        ReflectionTestUtils.setField(mlflowLogBatcher, "windowMs", 50L);
+        mlflowLogBatcher.init();
+    }
+
+    @Test
+    void testConcurrentWritesForOneRunShareOneBatch() {
+        when(mlflowFacadeService.logBatch(eq("r1"), any(), any(), any())).thenReturn(Mono.empty());
+
+        Flux.merge(
+                Flux.range(0, 50).map(i -> mlflowLogBatcher.logMetric("r1", "m" + i, i, 1L, 0L)),
+                Flux.just(mlflowLogBatcher.logParameter("r1", "lr", "0.01"),
+                        mlflowLogBatcher.setTag("r1", "stage", "train")))
+                .flatMap(call -> call)
+                .blockLast();
+
+        ArgumentCaptor<List<Map<String, Object>>> metrics = ArgumentCaptor.forClass(List.class);
+        verify(mlflowFacadeService, times(1)).logBatch(eq("r1"), metrics.capture(), any(), any());
+        assertThat(metrics.getValue()).hasSize(50);
+        assertThat(meterRegistry.get("mlflow.log.batch.size").summary().max()).isEqualTo(52);
+    }
+
+    @Test
+    void testBatchFailureReachesEveryCaller() {
+        when(mlflowFacadeService.logBatch(eq("r1"), any(), any(), any()))
+                .thenReturn(Mono.error(new RuntimeException("RESOURCE_DOES_NOT_EXIST")));
+
+        Mono<Void> first = mlflowLogBatcher.logMetric("r1", "loss", 0.5, null, null).cache();
+        Mono<Void> second = mlflowLogBatcher.setTag("r1", "k", "v").cache();
+        first.subscribe(ignored -> { }, error -> { });
+        second.subscribe(ignored -> { }, error -> { });
+
+        assertThatThrownBy(first::block).hasMessageContaining("RESOURCE_DOES_NOT_EXIST");
+        assertThatThrownBy(second::block).hasMessageContaining("RESOURCE_DOES_NOT_EXIST");
+    }
+
+    @Test
+    void testRejectedBatchIsResentPerCaller() {
+        // MLflow rejects any request holding the bad param; the metric alone is accepted
+        when(mlflowFacadeService.logBatch(eq("r1"), any(), any(), any())).thenAnswer(invocation -> {
+            List<Map<String, Object>> params = invocation.getArgument(2);
+            return params.isEmpty()
+                    ? Mono.empty()
+                    : Mono.error(WebClientResponseException.create(400, "Bad Request", null,
+                            "{\"error_code\":\"INVALID_PARAMETER_VALUE\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        });
+
+        Mono<Void> valid = mlflowLogBatcher.logMetric("r1", "loss", 0.5, 1L, 0L).cache();
+        Mono<Void> invalid = mlflowLogBatcher.logParameter("r1", "lr", "x".repeat(10000)).cache();
+        valid.subscribe(ignored -> { }, error -> { });
+        invalid.subscribe(ignored -> { }, error -> { });
+
+        valid.block();
+        assertThatThrownBy(invalid::block).isInstanceOf(WebClientResponseException.class);
+        // One coalesced attempt, then one request per caller
+        verify(mlflowFacadeService, times(3)).logBatch(eq("r1"), any(), any(), any());
+    }
+
+    @Test
+    void testRunsAreBatchedSeparately() {
+        when(mlflowFacadeService.logBatch(any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        Flux.just(mlflowLogBatcher.logMetric("r1", "loss", 1, 1L, 0L),
+                        mlflowLogBatcher.logMetric("r2", "loss", 2, 1L, 0L))
+                .flatMap(call -> call)
+                .blockLast();
+
+        verify(mlflowFacadeService).logBatch(eq("r1"), any(), any(), any());
+        verify(mlflowFacadeService).logBatch(eq("r2"), any(), any(), any());
+    }
+
+    @Test
+    void testSplitBatchRespectsMlflowLimits() {
+        List<Map<String, Object>> metrics = entries(2500);
+        List<Map<String, Object>> params = entries(150);
+        List<Map<String, Object>> tags = new ArrayList<>(entries(10));
+        // A repeated tag key has to go to a later request
+        tags.add(Map.of("key", "k0", "value", "again"));
+
+        List<Map<String, Object>> batches = MLflowFacadeService.splitBatch("r1", metrics, params, tags);
+
+        int totalMetrics = 0;
+        int totalParams = 0;
+        int totalTags = 0;
+        for (Map<String, Object> batch : batches) {
+            List<?> batchMetrics = (List<?>) batch.get("metrics");
+            List<?> batchParams = (List<?>) batch.get("params");
+            List<Map<String, Object>> batchTags = (List<Map<String, Object>>) batch.get("tags");
+            assertThat(batchMetrics.size()).isLessThanOrEqualTo(MLflowFacadeService.MAX_BATCH_METRICS);
+            assertThat(batchParams.size()).isLessThanOrEqualTo(MLflowFacadeService.MAX_BATCH_PARAMS);
+            assertThat(batchTags.size()).isLessThanOrEqualTo(MLflowFacadeService.MAX_BATCH_TAGS);
+            assertThat(batchMetrics.size() + batchParams.size() + batchTags.size())
+                    .isLessThanOrEqualTo(MLflowFacadeService.MAX_BATCH_ENTITIES);
+            assertThat(batchTags.stream().map(tag -> tag.get("key")).distinct().count()).isEqualTo(batchTags.size());
+            totalMetrics += batchMetrics.size();
+            totalParams += batchParams.size();
+            totalTags += batchTags.size();
+        }
+        assertThat(totalMetrics).isEqualTo(2500);
+        assertThat(totalParams).isEqualTo(150);
+        assertThat(totalTags).isEqualTo(11);
+        assertThat(batches).hasSize(3);
+    }
+
+    private static List<Map<String, Object>> entries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Map.<String, Object>of("key", "k" + i, "value", String.valueOf(i)))
+                .toList();
+    }
+}
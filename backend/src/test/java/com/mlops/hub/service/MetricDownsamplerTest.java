@@ -0,0 +1,107 @@
+package com.mlops.hub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricDownsamplerTest {
+
+    @Test
+    void testLttbKeepsEndpointsAndPeak() {
+        MetricDownsampler.Series series = new MetricDownsampler.Series();
+        for (int step = 0; step < 100_000; step++) {
+            series.add(step, 1000L + step, step == 54_321 ? 100.0 : Math.sin(step / 1000.0));
+        }
+
+        List<Map<String, Object>> points = MetricDownsampler.downsample(series, 500, MetricDownsampler.Method.LTTB);
+
+        assertThat(points).hasSize(500);
+        assertThat(points.get(0).get("step")).isEqualTo(0L);
+        assertThat(points.get(499).get("step")).isEqualTo(99_999L);
+        assertThat(points).anyMatch(point -> point.get("value").equals(100.0));
+        assertThat(points).extracting(point -> (Long) point.get("step")).isSorted();
+    }
+
+    @Test
+    void testMinMaxKeepsExtremesOfEveryBucket() {
+        MetricDownsampler.Series series = new MetricDownsampler.Series();
+        for (int step = 0; step < 10_000; step++) {
+            series.add(step, step, step % 100 == 50 ? -1.0 : step % 100);
+        }
+
+        List<Map<String, Object>> points = MetricDownsampler.downsample(series, 200, MetricDownsampler.Method.MINMAX);
+
+        assertThat(points).hasSizeLessThanOrEqualTo(200);
+        assertThat(points).filteredOn(point -> point.get("value").equals(-1.0)).hasSize(100);
+        assertThat(points).extracting(point -> (Long) point.get("step")).isSorted();
+    }
+
+    @Test
+    void testShortSeriesIsReturnedSortedAndWhole() {
+        MetricDownsampler.Series series = new MetricDownsampler.Series();
+        series.add(2, 30, 0.2);
+        series.add(0, 10, 0.0);
+        series.add(1, 20, 0.1);
+
+        List<Map<String, Object>> points = MetricDownsampler.downsample(series, 500, MetricDownsampler.Method.LTTB);
+
+        assertThat(points).extracting(point -> point.get("step")).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void testBoundedSeriesCompactsAsPointsArriveAndKeepsSpikes() {
+        MetricDownsampler.Series series = new MetricDownsampler.Series(400);
+        for (int step = 99_999; step >= 0; step--) {
+            series.add(step, step, step == 54_321 ? 100.0 : Math.sin(step / 1000.0));
+            assertThat(series.size()).isLessThanOrEqualTo(400);
+        }
+
+        List<Map<String, Object>> points = MetricDownsampler.downsample(series, 100, MetricDownsampler.Method.LTTB);
+
+        assertThat(series.total()).isEqualTo(100_000L);
+        assertThat(points).hasSize(100);
+        assertThat(points).anyMatch(point -> point.get("value").equals(100.0));
+        assertThat(points).extracting(point -> (Long) point.get("step")).isSorted();
+    }
+
+    @Test
+    void testAlignPutsSeriesOnSharedSteps() {
+        MetricDownsampler.Series a = new MetricDownsampler.Series();
+        MetricDownsampler.Series b = new MetricDownsampler.Series();
+        a.add(0, 0, 1.0);
+        a.add(2, 0, 3.0);
+        b.add(1, 0, 10.0);
+        b.add(2, 0, 20.0);
+
+        Map<String, Object> aligned = MetricDownsampler.align(List.of(a, b), 100);
+
+        assertThat((long[]) aligned.get("steps")).containsExactly(0L, 1L, 2L);
+        List<Double[]> values = (List<Double[]>) aligned.get("values");
+        assertThat(values.get(0)).containsExactly(1.0, null, 3.0);
+        assertThat(values.get(1)).containsExactly(null, 10.0, 20.0);
+    }
+
+    @Test
+    void testAlignBucketsWideRanges() {
+        MetricDownsampler.Series a = new MetricDownsampler.Series();
+        MetricDownsampler.Series b = new MetricDownsampler.Series();
+        for (int step = 0; step < 100_000; step++) {
+            a.add(step, 0, 1.0);
+            if (step % 10 == 0) {
+                b.add(step, 0, 2.0);
+            }
+        }
+
+        Map<String, Object> aligned = MetricDownsampler.align(List.of(a, b), 1000);
+
+        long[] steps = (long[]) aligned.get("steps");
+        assertThat(steps).hasSize(1000);
+        assertThat(steps[steps.length - 1]).isEqualTo(99_999L);
+        List<Double[]> values = (List<Double[]>) aligned.get("values");
+        assertThat(values.get(0)).containsOnly(1.0);
+        assertThat(values.get(1)).containsOnly(2.0);
+    }
+}
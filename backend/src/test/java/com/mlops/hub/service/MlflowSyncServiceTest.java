@@ -0,0 +1,241 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.MlflowSyncCheckpoint;
+import com.mlops.hub.entity.Run;
+import com.mlops.hub.repository.ExperimentRepository;
+import com.mlops.hub.repository.MlflowModelVersionRepository;
+import com.mlops.hub.repository.MlflowRegisteredModelRepository;
+import com.mlops.hub.repository.MlflowSyncCheckpointRepository;
+import com.mlops.hub.repository.RunRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MlflowSyncService.class, MlflowReadModelService.class})
+// Each repository call commits, as it does when the scheduler runs a sync
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MlflowSyncServiceTest {
+
+    private static final long UPDATED = 1700000000000L;
+
+    @MockBean
+    private MLflowFacadeService mlflowFacadeService;
+
+    @Autowired
+    private MlflowSyncService mlflowSyncService;
+
+    @Autowired
+    private MlflowReadModelService mlflowReadModelService;
+
+    @Autowired
+    private ExperimentRepository experimentRepository;
+
+    @Autowired
+    private RunRepository runRepository;
+
+    @Autowired
+    private MlflowRegisteredModelRepository registeredModelRepository;
+
+    @Autowired
+    private MlflowModelVersionRepository modelVersionRepository;
+
+    @Autowired
+    private MlflowSyncCheckpointRepository checkpointRepository;
+
+    @AfterEach
+    void tearDown() {
+        runRepository.deleteAll();
+        experimentRepository.deleteAll();
+        modelVersionRepository.deleteAll();
+        registeredModelRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    @Test
+    void testFirstSyncMirrorsEverything() {
+        stubMlflow(List.of(run("r1", "RUNNING", Map.of("loss", 0.5))));
+
+        assertThat(mlflowSyncService.runSync()).isTrue();
+
+        Map experiments = mlflowReadModelService.getExperiments().block();
+        assertThat((List<Map>) experiments.get("experiments"))
+                .extracting(experiment -> experiment.get("experiment_id")).containsExactly("1");
+
+        List<Map> runs = (List<Map>) mlflowReadModelService.getRunsWithMetrics("1").block().get("runs");
+        assertThat(runs).hasSize(1);
+        assertThat(runs.get(0).get("run_id")).isEqualTo("r1");
+        assertThat(runs.get(0).get("has_metrics")).isEqualTo(true);
+        Map data = (Map) runs.get(0).get("data");
+        assertThat((List<Map>) data.get("metrics")).containsExactly(Map.of("key", "loss", "value", 0.5));
+        assertThat((List<Map>) data.get("params")).containsExactly(Map.of("key", "lr", "value", "0.01"));
+
+        List<Map> models = (List<Map>) mlflowReadModelService.getRegisteredModels().block().get("registered_models");
+        assertThat(models).extracting(model -> model.get("name")).containsExactly("classifier");
+        assertThat((List<Map>) models.get(0).get("latest_versions"))
+                .extracting(version -> version.get("version")).containsExactlyInAnyOrder("1", "2");
+
+        List<Map> versions = (List<Map>) mlflowReadModelService.getModelVersionsWithDetails("classifier").block().get("model_versions");
+        assertThat(versions).extracting(version -> version.get("is_latest")).containsExactly(false, true);
+    }
+
+    @Test
+    void testIncrementalSyncAsksOnlyForChanges() {
+        stubMlflow(List.of(run("r1", "RUNNING", Map.of("loss", 0.5))));
+        mlflowSyncService.runSync();
+
+        stubMlflow(List.of(run("r1", "FINISHED", Map.of("loss", 0.2, "accuracy", 0.9))));
+        mlflowSyncService.runSync();
+
+        ArgumentCaptor<String> experimentFilters = ArgumentCaptor.forClass(String.class);
+        verify(mlflowFacadeService, atLeastOnce()).streamExperiments(experimentFilters.capture(), eq("ALL"));
+        // Looks back the 60s overlap from the newest last_update_time seen
+        assertThat(experimentFilters.getAllValues().get(1)).isEqualTo("last_update_time >= " + (UPDATED - 60000L));
+        ArgumentCaptor<String> runFilters = ArgumentCaptor.forClass(String.class);
+        verify(mlflowFacadeService, atLeastOnce()).streamRuns(eq("1"), runFilters.capture(), eq("ALL"));
+        assertThat(runFilters.getAllValues()).contains("attributes.status = 'RUNNING'");
+        assertThat(runFilters.getAllValues()).anyMatch(filter -> filter != null && filter.startsWith("attributes.end_time >= "));
+
+        Map run = ((List<Map>) mlflowReadModelService.getRunsWithMetrics("1").block().get("runs")).get(0);
+        assertThat(run.get("status")).isEqualTo("FINISHED");
+        assertThat((List<Map>) ((Map) run.get("data")).get("metrics")).containsExactly(
+                Map.of("key", "accuracy", "value", 0.9), Map.of("key", "loss", "value", 0.2));
+        // Unchanged models are not re-read
+        verify(mlflowFacadeService, times(1)).listModelVersions("classifier");
+    }
+
+    @Test
+    void testFullPassRemovesWhatMlflowNoLongerReturns() {
+        stubMlflow(List.of(run("r1", "FINISHED", Map.of()), run("r2", "FINISHED", Map.of())));
+        mlflowSyncService.runSync();
+        expireFullPasses();
+
+        stubMlflow(List.of(run("r1", "FINISHED", Map.of())));
+        when(mlflowFacadeService.streamRegisteredModels(isNull())).thenReturn(Flux.empty());
+        mlflowSyncService.runSync();
+
+        List<Map> runs = (List<Map>) mlflowReadModelService.getRunsWithMetrics("1").block().get("runs");
+        assertThat(runs).extracting(run -> run.get("run_id")).containsExactly("r1");
+        assertThat((List<?>) mlflowReadModelService.getRegisteredModels().block().get("registered_models")).isEmpty();
+        assertThat(modelVersionRepository.count()).isZero();
+    }
+
+    @Test
+    void testFullPassPicksUpRunDeletions() {
+        stubMlflow(List.of(run("r1", "FINISHED", Map.of()), run("r2", "FINISHED", Map.of())));
+        mlflowSyncService.runSync();
+
+        // A finished run's times do not move when it is deleted, so only the unfiltered full pass sees it
+        stubMlflow(List.of());
+        when(mlflowFacadeService.streamRuns(eq("1"), isNull(), eq("ALL")))
+                .thenReturn(Flux.just(run("r1", "FINISHED", Map.of()), run("r2", "FINISHED", "deleted", Map.of())));
+        mlflowSyncService.runSync();
+        assertThat((List<Map>) mlflowReadModelService.getRunsWithMetrics("1").block().get("runs"))
+                .extracting(run -> run.get("run_id")).containsExactlyInAnyOrder("r1", "r2");
+        verify(mlflowFacadeService, never()).streamRuns(any(), any(), eq("DELETED_ONLY"));
+
+        expireFullPasses();
+        mlflowSyncService.runSync();
+
+        assertThat((List<Map>) mlflowReadModelService.getRunsWithMetrics("1").block().get("runs"))
+                .extracting(run -> run.get("run_id")).containsExactly("r1");
+
+        when(mlflowFacadeService.streamExperiments(any(), eq("ALL"))).thenReturn(Flux.just(experiment("deleted", UPDATED + 5000L)));
+        mlflowSyncService.runSync();
+
+        assertThat((List<?>) mlflowReadModelService.getExperiments().block().get("experiments")).isEmpty();
+    }
+
+    @Test
+    void testUnchangedRunsAreNotRewritten() {
+        stubMlflow(List.of(run("r1", "FINISHED", Map.of("loss", 0.5))));
+        mlflowSyncService.runSync();
+        Run synced = runRepository.findByMlflowRunId("r1").orElseThrow();
+
+        mlflowSyncService.runSync();
+        Run incremental = runRepository.findByMlflowRunId("r1").orElseThrow();
+        assertThat(incremental.getUpdatedAt()).isEqualTo(synced.getUpdatedAt());
+        assertThat(incremental.getSyncedAt()).isEqualTo(synced.getSyncedAt());
+
+        // A full pass still marks the run as seen, so it is not pruned, but leaves updated_at alone
+        expireFullPasses();
+        mlflowSyncService.runSync();
+        Run full = runRepository.findByMlflowRunId("r1").orElseThrow();
+        assertThat(full.getUpdatedAt()).isEqualTo(synced.getUpdatedAt());
+        assertThat(full.getSyncedAt()).isAfter(synced.getSyncedAt());
+    }
+
+    @Test
+    void testServeReadsNeedsSyncEnabled() {
+        MlflowReadModelService readModel = new MlflowReadModelService();
+        ReflectionTestUtils.setField(readModel, "serveReads", true);
+        assertThat(readModel.isServingReads()).isFalse();
+
+        ReflectionTestUtils.setField(readModel, "syncEnabled", true);
+        assertThat(readModel.isServingReads()).isTrue();
+    }
+
+    private void expireFullPasses() {
+        for (String name : List.of(MlflowSyncService.EXPERIMENTS, MlflowSyncService.RUNS, MlflowSyncService.REGISTERED_MODELS)) {
+            MlflowSyncCheckpoint checkpoint = checkpointRepository.findById(name).orElseThrow();
+            checkpoint.setLastFullSyncAt(LocalDateTime.now().minusDays(2));
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    private void stubMlflow(List<Map> runs) {
+        when(mlflowFacadeService.streamExperiments(any(), eq("ALL"))).thenReturn(Flux.just(experiment("active", UPDATED)));
+        when(mlflowFacadeService.streamRuns(eq("1"), any(), eq("ALL"))).thenReturn(Flux.fromIterable(runs));
+        when(mlflowFacadeService.streamRegisteredModels(isNull())).thenReturn(Flux.just(Map.of(
+                "name", "classifier", "creation_timestamp", 1000L, "last_updated_timestamp", 3000L)));
+        when(mlflowFacadeService.listModelVersions(anyString())).thenReturn(Mono.just(Map.of("model_versions", List.of(
+                Map.of("name", "classifier", "version", "1", "current_stage", "Production", "run_id", "r1"),
+                Map.of("name", "classifier", "version", "2", "current_stage", "Staging", "run_id", "r1")))));
+    }
+
+    private static Map experiment(String lifecycleStage, long lastUpdateTime) {
+        return Map.of("experiment_id", "1", "name", "exp", "lifecycle_stage", lifecycleStage,
+                "creation_time", UPDATED - 1000L, "last_update_time", lastUpdateTime);
+    }
+
+    private static Map run(String runId, String status, Map<String, Double> metrics) {
+        return run(runId, status, "active", metrics);
+    }
+
+    private static Map run(String runId, String status, String lifecycleStage, Map<String, Double> metrics) {
+        return Map.of(
+                "info", Map.of("run_id", runId, "experiment_id", "1", "status", status,
+                        "start_time", 1500L, "lifecycle_stage", lifecycleStage),
+                "data", Map.of(
+                        "metrics", metrics.entrySet().stream()
+                                .map(entry -> Map.of("key", entry.getKey(), "value", entry.getValue()))
+                                .toList(),
+                        "params", List.of(Map.of("key", "lr", "value", "0.01"))));
+    }
+}
@@ -0,0 +1,143 @@
+package com.mlops.hub.service;
+
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectStorageServiceTest {
+
+    @Mock
+    private MinioClient minioClient;
+
+    @InjectMocks
+    private ObjectStorageService objectStorageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(objectStorageService, "bucketName", "test-bucket");
+    }
+
+    @Test
+    void testListFilesPageReturnsCursorWhenMoreKeysExist() throws Exception {
+        Iterable<Result<Item>> listing = results(item("datasets/a.csv", 10), item("datasets/b.csv", 20), item("datasets/c.csv", 30));
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(listing);
+
+        Map<String, Object> page = objectStorageService.listFilesPage("datasets/", "datasets/0.csv", 2, true);
+
+        List<Map<String, Object>> items = (List<Map<String, Object>>) page.get("items");
+        assertThat(items).extracting(entry -> entry.get("name")).containsExactly("datasets/a.csv", "datasets/b.csv");
+        assertThat(items.get(0).get("etag")).isEqualTo("etag-datasets/a.csv");
+        assertThat(items.get(1).get("size")).isEqualTo(20L);
+        assertThat(page.get("truncated")).isEqualTo(true);
+        assertThat(page.get("nextStartAfter")).isEqualTo("datasets/b.csv");
+
+        ArgumentCaptor<ListObjectsArgs> args = ArgumentCaptor.forClass(ListObjectsArgs.class);
+        verify(minioClient).listObjects(args.capture());
+        assertThat(args.getValue().startAfter()).isEqualTo("datasets/0.csv");
+        assertThat(args.getValue().maxKeys()).isEqualTo(3);
+    }
+
+    @Test
+    void testListFilesPageEndsWithoutCursor() throws Exception {
+        Iterable<Result<Item>> listing = results(item("datasets/a.csv", 10));
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(listing);
+
+        Map<String, Object> page = objectStorageService.listFilesPage("datasets/", null, 2, true);
+
+        assertThat(page.get("truncated")).isEqualTo(false);
+        assertThat(page.get("nextStartAfter")).isNull();
+    }
+
+    @Test
+    void testNonRecursivePagesStepOverNestedPrefixes() throws Exception {
+        List<String> keys = List.of("datasets/a/1.csv", "datasets/a/2.csv", "datasets/b.csv", "datasets/c/d/3.csv");
+        // Lists like S3 does with a delimiter: keys after startAfter, folded into their first-level prefix
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenAnswer(invocation -> {
+            ListObjectsArgs args = invocation.getArgument(0);
+            List<Item> items = new ArrayList<>();
+            List<String> seen = new ArrayList<>();
+            for (String key : keys) {
+                if (args.startAfter() != null && key.compareTo(args.startAfter()) <= 0) {
+                    continue;
+                }
+                String rest = key.substring(args.prefix().length());
+                String name = rest.contains("/") ? args.prefix() + rest.substring(0, rest.indexOf('/') + 1) : key;
+                if (!seen.contains(name)) {
+                    seen.add(name);
+                    items.add(name.endsWith("/") ? directory(name) : item(name, 1));
+                }
+            }
+            return results(items.toArray(Item[]::new));
+        });
+
+        List<Object> listed = new ArrayList<>();
+        String startAfter = null;
+        for (int page = 0; page < 10; page++) {
+            Map<String, Object> result = objectStorageService.listFilesPage("datasets/", startAfter, 1, false);
+            ((List<Map<String, Object>>) result.get("items")).forEach(entry -> listed.add(entry.get("name")));
+            startAfter = (String) result.get("nextStartAfter");
+            if (startAfter == null) {
+                break;
+            }
+        }
+
+        assertThat(listed).containsExactly("datasets/a/", "datasets/b.csv", "datasets/c/");
+    }
+
+    @Test
+    void testForEachFileVisitsEveryObject() throws Exception {
+        Iterable<Result<Item>> listing = results(item("datasets/a.csv", 10), item("datasets/b.csv", 20));
+        when(minioClient.listObjects(any(ListObjectsArgs.class))).thenReturn(listing);
+
+        List<Object> visited = new ArrayList<>();
+        objectStorageService.forEachFile("datasets/", true, entry -> visited.add(entry.get("name")));
+
+        assertThat(visited).containsExactly("datasets/a.csv", "datasets/b.csv");
+    }
+
+    private Iterable<Result<Item>> results(Item... items) {
+        List<Result<Item>> results = new ArrayList<>();
+        for (Item item : items) {
+            results.add(new Result<>(item));
+        }
+        return results;
+    }
+
+    private Item directory(String name) {
+        Item item = mock(Item.class);
+        lenient().when(item.objectName()).thenReturn(name);
+        lenient().when(item.isDir()).thenReturn(true);
+        return item;
+    }
+
+    private Item item(String name, long size) {
+        Item item = mock(Item.class);
+        lenient().when(item.objectName()).thenReturn(name);
+        lenient().when(item.size()).thenReturn(size);
+        lenient().when(item.etag()).thenReturn("\"etag-" + name + "\"");
+        lenient().when(item.lastModified()).thenReturn(ZonedDateTime.parse("2024-01-01T00:00:00Z"));
+        return item;
+    }
+}
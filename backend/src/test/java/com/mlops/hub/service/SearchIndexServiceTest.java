@@ -0,0 +1,186 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.entity.Dataset;
+import com.mlops.hub.entity.Entrypoint;
+import com.mlops.hub.entity.Run;
+import com.mlops.hub.entity.SearchDocument;
+import com.mlops.hub.repository.DatasetRepository;
+import com.mlops.hub.repository.EntrypointRepository;
+import com.mlops.hub.repository.RunRepository;
+import com.mlops.hub.repository.SearchDocumentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SearchIndexService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SearchIndexServiceTest {
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private SearchDocumentRepository searchDocumentRepository;
+
+    @Autowired
+    private DatasetRepository datasetRepository;
+
+    @Autowired
+    private EntrypointRepository entrypointRepository;
+
+    @Autowired
+    private RunRepository runRepository;
+
+    @AfterEach
+    void tearDown() {
+        searchDocumentRepository.deleteAll();
+        runRepository.deleteAll();
+        entrypointRepository.deleteAll();
+        datasetRepository.deleteAll();
+    }
+
+    @Test
+    void testIndexesEverySourceType() {
+        Dataset dataset = dataset("imdb-reviews", "Movie review sentiment corpus");
+        Entrypoint entrypoint = new Entrypoint();
+        entrypoint.setName("emotion-api");
+        entrypoint.setDescription("Emotion classifier endpoint");
+        entrypoint.setTags("[\"nlp\",\"emotion\"]");
+        entrypoint.setOwnerUsername("alice");
+        entrypointRepository.save(entrypoint);
+        Run run = new Run();
+        run.setName("bert-finetune");
+        run.setMlflowRunId("r1");
+        run.setStatus("FINISHED");
+        run.setUserId("bob");
+        run.setParams(Map.of("lr", "0.001"));
+        run.setTags(Map.of("mlflow.note.content", "baseline run", "team", "nlp"));
+        run.setMetrics(Map.of("accuracy", 0.91));
+        runRepository.save(run);
+        // Runs created locally and never synced from MLflow are not searchable
+        Run local = new Run();
+        local.setName("local-only");
+        runRepository.save(local);
+
+        assertThat(searchIndexService.runPass(true)).isTrue();
+
+        assertThat(searchDocumentRepository.count()).isEqualTo(3);
+        SearchDocument runDocument = document(SearchIndexService.RUN, "r1");
+        assertThat(runDocument.getTitle()).isEqualTo("bert-finetune");
+        assertThat(runDocument.getDescription()).isEqualTo("baseline run");
+        assertThat(runDocument.getContent()).contains("lr=0.001", "team:nlp", "accuracy");
+        assertThat(runDocument.getStatus()).isEqualTo("FINISHED");
+        assertThat(runDocument.getOwner()).isEqualTo("bob");
+        SearchDocument entrypointDocument = document(SearchIndexService.ENTRYPOINT, String.valueOf(entrypoint.getId()));
+        assertThat(entrypointDocument.getContent()).contains("nlp", "emotion").doesNotContain("[", "\"");
+        assertThat(entrypointDocument.getOwner()).isEqualTo("alice");
+        assertThat(document(SearchIndexService.DATASET, String.valueOf(dataset.getId())).getDescription())
+                .isEqualTo("Movie review sentiment corpus");
+    }
+
+    @Test
+    void testIncrementalPassPicksUpChangesAndFullPassDropsDeletedSources() {
+        Dataset kept = dataset("kept", "first");
+        Dataset removed = dataset("removed", "gone soon");
+        searchIndexService.runPass(true);
+
+        kept.setDescription("second");
+        datasetRepository.save(kept);
+        searchIndexService.runPass(false);
+        assertThat(document(SearchIndexService.DATASET, String.valueOf(kept.getId())).getDescription()).isEqualTo("second");
+
+        datasetRepository.delete(removed);
+        searchIndexService.runPass(false);
+        assertThat(searchDocumentRepository.count()).isEqualTo(2);
+        searchIndexService.runPass(true);
+        assertThat(searchDocumentRepository.findAll()).extracting(SearchDocument::getTitle).containsExactly("kept");
+    }
+
+    @Test
+    void testRunsDeletedInMlflowAreNotSearchable() {
+        Run kept = run("r1", "active");
+        Run deleted = run("r2", "active");
+        run("r3", "deleted");
+        searchIndexService.runPass(true);
+        assertThat(searchDocumentRepository.findAll()).extracting(SearchDocument::getDocKey).containsExactlyInAnyOrder("r1", "r2");
+
+        // As the MLflow sync records a deletion
+        deleted.setLifecycleStage("deleted");
+        runRepository.save(deleted);
+        searchIndexService.runPass(false);
+        assertThat(searchDocumentRepository.findAll()).extracting(SearchDocument::getDocKey).containsExactly("r1");
+
+        searchIndexService.runPass(true);
+        assertThat(searchDocumentRepository.findAll()).extracting(SearchDocument::getDocKey).containsExactly(kept.getMlflowRunId());
+    }
+
+    @Test
+    void testRemoveDropsDocumentWithoutWaitingForFullPass() {
+        Dataset dataset = dataset("removed", "gone soon");
+        searchIndexService.runPass(true);
+
+        searchIndexService.remove(SearchIndexService.DATASET, String.valueOf(dataset.getId()));
+
+        assertThat(searchDocumentRepository.count()).isZero();
+    }
+
+    @Test
+    void testScheduledPassAfterRestartTakesLastFullPassFromIndex() {
+        Dataset removed = dataset("removed", "gone soon");
+        searchIndexService.runPass(true);
+        datasetRepository.delete(removed);
+
+        ReflectionTestUtils.setField(searchIndexService, "enabled", true);
+        try {
+            // A restarted service whose index was fully rebuilt recently only runs an incremental pass
+            ReflectionTestUtils.setField(searchIndexService, "lastFullPassAt", null);
+            searchIndexService.scheduledIndex();
+            assertThat(searchDocumentRepository.count()).isEqualTo(1);
+
+            SearchDocument stale = document(SearchIndexService.DATASET, String.valueOf(removed.getId()));
+            stale.setIndexedAt(LocalDateTime.now().minusDays(2));
+            searchDocumentRepository.save(stale);
+            ReflectionTestUtils.setField(searchIndexService, "lastFullPassAt", null);
+            searchIndexService.scheduledIndex();
+            assertThat(searchDocumentRepository.count()).isZero();
+        } finally {
+            ReflectionTestUtils.setField(searchIndexService, "enabled", false);
+        }
+    }
+
+    private Dataset dataset(String name, String description) {
+        Dataset dataset = new Dataset();
+        dataset.setName(name);
+        dataset.setDescription(description);
+        dataset.setFileFormat("csv");
+        return datasetRepository.save(dataset);
+    }
+
+    private Run run(String mlflowRunId, String lifecycleStage) {
+        Run run = new Run();
+        run.setName(mlflowRunId);
+        run.setMlflowRunId(mlflowRunId);
+        run.setLifecycleStage(lifecycleStage);
+        return runRepository.save(run);
+    }
+
+    private SearchDocument document(String type, String key) {
+        List<SearchDocument> documents = searchDocumentRepository.findByDocTypeAndDocKeyIn(type, List.of(key));
+        assertThat(documents).hasSize(1);
+        return documents.get(0);
+    }
+}
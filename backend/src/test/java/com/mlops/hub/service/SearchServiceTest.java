@@ -0,0 +1,84 @@
+package com.mlops.hub.service;
+
+import com.mlops.hub.repository.SearchDocumentRepository;
+import com.mlops.hub.repository.SearchFacetRow;
+import com.mlops.hub.repository.SearchHitRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchDocumentRepository searchDocumentRepository;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    void testSearchReturnsRankedResultsAndFacets() {
+        SearchHitRow hit = mock(SearchHitRow.class);
+        when(hit.getDocType()).thenReturn("run");
+        when(hit.getDocKey()).thenReturn("r1");
+        when(hit.getTitle()).thenReturn("bert-finetune");
+        when(hit.getScore()).thenReturn(0.8);
+        when(searchDocumentRepository.search("bert", "run", null, null, 20, 0L)).thenReturn(List.of(hit));
+        List<SearchFacetRow> facetRows = List.of(facet("type", "run", 1L), facet("status", "FINISHED", 1L));
+        when(searchDocumentRepository.facets("bert", "run", null, null)).thenReturn(facetRows);
+
+        Map<String, Object> result = searchService.search(" bert ", "run", "", null, 0, 20);
+
+        assertThat(result.get("total")).isEqualTo(1L);
+        List<Map<String, Object>> results = (List<Map<String, Object>>) result.get("results");
+        assertThat(results.get(0)).containsEntry("id", "r1").containsEntry("type", "run").containsEntry("score", 0.8);
+        Map<String, Map<String, Long>> facets = (Map<String, Map<String, Long>>) result.get("facets");
+        assertThat(facets.get("type")).containsEntry("run", 1L);
+        assertThat(facets.get("status")).containsEntry("FINISHED", 1L);
+        assertThat(facets.get("owner")).isEmpty();
+        // A short first page already holds every match
+        verify(searchDocumentRepository, never()).countMatches(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void testLaterPagesCountAllMatches() {
+        when(searchDocumentRepository.search("model", null, null, null, 10, 20L)).thenReturn(List.of());
+        when(searchDocumentRepository.countMatches("model", null, null, null)).thenReturn(25L);
+
+        Map<String, Object> result = searchService.search("model", null, null, null, 2, 10);
+
+        assertThat(result.get("total")).isEqualTo(25L);
+    }
+
+    @Test
+    void testRejectsInvalidRequests() {
+        assertThatThrownBy(() -> searchService.search("  ", null, null, null, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search("q", null, null, null, 0, SearchService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search("q".repeat(SearchService.MAX_QUERY_LENGTH + 1), null, null, null, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SearchFacetRow facet(String facet, String value, long count) {
+        SearchFacetRow row = mock(SearchFacetRow.class);
+        when(row.getFacet()).thenReturn(facet);
+        when(row.getValue()).thenReturn(value);
+        when(row.getCount()).thenReturn(count);
+        return row;
+    }
+}
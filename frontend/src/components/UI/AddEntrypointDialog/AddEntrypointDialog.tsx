@@ -52,6 +52,7 @@ const AddEntrypointDialog: React.FC<AddEntrypointDialogProps> = ({
   const [tagInput, setTagInput] = useState('');
   const [inferenceServices, setInferenceServices] = useState<InferenceService[]>([]);
   const [servicesLoading, setServicesLoading] = useState(false);
+  const [servicesCursor, setServicesCursor] = useState<string | undefined>();
   const [availableModels, setAvailableModels] = useState<any[]>([]);
   const [modelsLoading, setModelsLoading] = useState(false);
 
@@ -61,11 +62,13 @@ const AddEntrypointDialog: React.FC<AddEntrypointDialogProps> = ({
     }
   }, [open]);
 
-  const loadInferenceServices = async () => {
+  // Called with the cursor of the last page to append the next one
+  const loadInferenceServices = async (cursor?: string) => {
     try {
       setServicesLoading(true);
-      const services = await apiService.getInferenceServices();
-      setInferenceServices(services);
+      const page = await apiService.getInferenceServices(cursor);
+      setInferenceServices(prev => (cursor ? [...prev, ...page.items] : page.items));
+      setServicesCursor(page.nextCursor);
     } catch (err) {
       console.error('Failed to load inference services:', err);
     } finally {
@@ -328,6 +331,13 @@ const AddEntrypointDialog: React.FC<AddEntrypointDialogProps> = ({
                   <Typography variant="caption">Loading services...</Typography>
                 </Box>
               )}
+              {!servicesLoading && servicesCursor && (
+                <Box sx={{ mt: 1 }}>
+                  <Button size="small" onClick={() => loadInferenceServices(servicesCursor)}>
+                    Load more services
+                  </Button>
+                </Box>
+              )}
             </FormControl>
           </Grid>
 
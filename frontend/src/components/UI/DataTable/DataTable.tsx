@@ -8,6 +8,7 @@ import {
 } from '@mui/x-data-grid';
 import {
   Box,
+  Button,
   IconButton,
   Menu,
   MenuItem,
@@ -31,6 +32,10 @@ export interface DataTableProps {
   getRowId?: (row: any) => string | number;
   density?: 'comfortable' | 'standard' | 'compact';
   initialState?: GridInitialState;
+  // Rows come a page at a time from the server; shows a button that fetches the next page
+  hasMore?: boolean;
+  loadingMore?: boolean;
+  onLoadMore?: () => void;
 }
 
 const DataTable: React.FC<DataTableProps> = ({
@@ -48,6 +53,9 @@ const DataTable: React.FC<DataTableProps> = ({
   getRowId,
   density = 'comfortable',
   initialState,
+  hasMore = false,
+  loadingMore = false,
+  onLoadMore,
 }) => {
   const [anchorEl, setAnchorEl] = React.useState<null | HTMLElement>(null);
   const [selectedRow, setSelectedRow] = React.useState<any>(null);
@@ -91,32 +99,42 @@ const DataTable: React.FC<DataTableProps> = ({
   const allColumns = [...columns, ...actionColumns];
 
   return (
-    <Box sx={{ height: 600, width: '100%' }}>
-      <DataGrid
-        rows={rows}
-        columns={allColumns}
-        loading={loading}
-        initialState={{
-          pagination: {
-            paginationModel: { pageSize: pageSize },
-          },
-          ...initialState,
-        }}
-        pageSizeOptions={pageSizeOptions}
-        checkboxSelection={checkboxSelection}
-        disableRowSelectionOnClick={disableSelectionOnClick}
-        onRowClick={onRowClick}
-        getRowId={getRowId}
-        density={density}
-        sx={{
-          '& .MuiDataGrid-cell:focus': {
-            outline: 'none',
-          },
-          '& .MuiDataGrid-row:hover': {
-            cursor: onRowClick ? 'pointer' : 'default',
-          },
-        }}
-      />
+    <Box sx={{ width: '100%' }}>
+      <Box sx={{ height: 600 }}>
+        <DataGrid
+          rows={rows}
+          columns={allColumns}
+          loading={loading}
+          initialState={{
+            pagination: {
+              paginationModel: { pageSize: pageSize },
+            },
+            ...initialState,
+          }}
+          pageSizeOptions={pageSizeOptions}
+          checkboxSelection={checkboxSelection}
+          disableRowSelectionOnClick={disableSelectionOnClick}
+          onRowClick={onRowClick}
+          getRowId={getRowId}
+          density={density}
+          sx={{
+            '& .MuiDataGrid-cell:focus': {
+              outline: 'none',
+            },
+            '& .MuiDataGrid-row:hover': {
+              cursor: onRowClick ? 'pointer' : 'default',
+            },
+          }}
+        />
+      </Box>
+
+      {hasMore && onLoadMore && (
+        <Box display="flex" justifyContent="center" mt={2}>
+          <Button variant="outlined" onClick={onLoadMore} disabled={loadingMore}>
+            {loadingMore ? 'Loading...' : 'Load more'}
+          </Button>
+        </Box>
+      )}
 
       <Menu
         anchorEl={anchorEl}
@@ -96,6 +96,10 @@ const DatasetDetail: React.FC = () => {
   // Pagination state
   const [versionsPage, setVersionsPage] = useState(1);
   const versionsPerPage = 10;
+  // Versions come from the server a page at a time; set while more remain
+  const [versionsCursor, setVersionsCursor] = useState<string | undefined>();
+  const [loadingMoreVersions, setLoadingMoreVersions] = useState(false);
+  const appendingVersions = useRef(false);
 
   // Delete version state
   const [deleteDialogOpen, setDeleteDialogOpen] = useState(false);
@@ -140,8 +144,11 @@ const DatasetDetail: React.FC = () => {
   useEffect(() => {
     if (versions.length > 0) {
       loadLatestCommittedFiles();
-      // Reset to first page when versions change
-      setVersionsPage(1);
+      // Reset to first page when versions change, but stay put when another page was appended
+      if (!appendingVersions.current) {
+        setVersionsPage(1);
+      }
+      appendingVersions.current = false;
     }
   }, [versions]);
 
@@ -341,8 +348,10 @@ const DatasetDetail: React.FC = () => {
     
     try {
       hasLoadedVersions.current = true;
-      const versionsData = await apiService.getVersions(id);
+      const page = await apiService.getVersions(id);
+      const versionsData = page.items;
       setVersions(versionsData);
+      setVersionsCursor(page.nextCursor);
 
       // Set current version to the latest draft or latest committed
       const latestDraft = versionsData.find(v => v.status === 'DRAFT');
@@ -354,6 +363,22 @@ const DatasetDetail: React.FC = () => {
     }
   };
 
+  const loadMoreVersions = async () => {
+    if (!id || !versionsCursor) return;
+    try {
+      setLoadingMoreVersions(true);
+      const page = await apiService.getVersions(id, versionsCursor);
+      appendingVersions.current = true;
+      setVersions(prev => [...prev, ...page.items]);
+      setVersionsCursor(page.nextCursor);
+    } catch (err) {
+      console.error('Error loading versions:', err);
+      setError('Failed to load more versions');
+    } finally {
+      setLoadingMoreVersions(false);
+    }
+  };
+
   const loadFiles = async (versionId: string) => {
     if (!id) return;
     try {
@@ -823,6 +848,25 @@ print(df.describe())`}
                           </Box>
                         )}
 
+                        {versionsCursor && versionsPage >= getTotalPages() && (
+                          <Box
+                            sx={{
+                              mt: 2,
+                              display: 'flex',
+                              justifyContent: 'center',
+                            }}
+                          >
+                            <Button
+                              variant="outlined"
+                              size="small"
+                              onClick={loadMoreVersions}
+                              disabled={loadingMoreVersions}
+                            >
+                              {loadingMoreVersions ? 'Loading...' : 'Load older versions'}
+                            </Button>
+                          </Box>
+                        )}
+
                         {/* Version count info */}
                         <Typography
                           variant="caption"
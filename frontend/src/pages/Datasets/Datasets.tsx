@@ -33,6 +33,9 @@ const Datasets: React.FC = () => {
   const [versions, setVersions] = useState<Map<number, DatasetVersion[]>>(
     new Map()
   );
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [searchQuery, setSearchQuery] = useState('');
   const hasLoaded = useRef(false);
 
   useEffect(() => {
@@ -46,20 +49,11 @@ const Datasets: React.FC = () => {
       hasLoaded.current = true;
       setLoading(true);
       setError(null);
-      const data = await apiService.getDatasets();
-      setDatasets(data);
-      setFilteredDatasets(data);
-
-      // Use versions from the datasets API response instead of making individual calls
-      const versionsMap = new Map<number, DatasetVersion[]>();
-      for (const dataset of data) {
-        // Use versions from the dataset's versions field if available
-        let datasetVersions = dataset.versions || [];
-        // Sort versions by versionNumber descending to ensure latest version is first
-        datasetVersions = [...datasetVersions].sort((a, b) => b.versionNumber - a.versionNumber);
-        versionsMap.set(dataset.id, datasetVersions);
-      }
-      setVersions(versionsMap);
+      const page = await apiService.getDatasets();
+      setDatasets(page.items);
+      setFilteredDatasets(page.items);
+      setVersions(withVersions(new Map(), page.items));
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError('Failed to load datasets');
       console.error('Error loading datasets:', err);
@@ -68,19 +62,48 @@ const Datasets: React.FC = () => {
     }
   };
 
-  const handleSearch = (query: string) => {
-    let filtered = datasets;
+  // Appends the next page; the search box only filters what has been loaded so far
+  const loadMoreDatasets = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const page = await apiService.getDatasets(nextCursor);
+      const loaded = [...datasets, ...page.items];
+      setDatasets(loaded);
+      setFilteredDatasets(filterDatasets(loaded, searchQuery));
+      setVersions(withVersions(new Map(versions), page.items));
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setError('Failed to load more datasets');
+      console.error('Error loading datasets:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
-    if (query) {
-      filtered = filtered.filter(
-        dataset =>
-          dataset.name.toLowerCase().includes(query.toLowerCase()) ||
-          (dataset.description &&
-            dataset.description.toLowerCase().includes(query.toLowerCase()))
-      );
+  // Use versions from the datasets API response instead of making individual calls
+  const withVersions = (versionsMap: Map<number, DatasetVersion[]>, page: Dataset[]) => {
+    for (const dataset of page) {
+      // Sort versions by versionNumber descending to ensure latest version is first
+      const datasetVersions = [...(dataset.versions || [])].sort((a, b) => b.versionNumber - a.versionNumber);
+      versionsMap.set(dataset.id, datasetVersions);
     }
+    return versionsMap;
+  };
+
+  const filterDatasets = (list: Dataset[], query: string) => {
+    if (!query) return list;
+    return list.filter(
+      dataset =>
+        dataset.name.toLowerCase().includes(query.toLowerCase()) ||
+        (dataset.description &&
+          dataset.description.toLowerCase().includes(query.toLowerCase()))
+    );
+  };
 
-    setFilteredDatasets(filtered);
+  const handleSearch = (query: string) => {
+    setSearchQuery(query);
+    setFilteredDatasets(filterDatasets(datasets, query));
   };
 
   const handleEdit = (id: GridRowId) => {
@@ -282,6 +305,9 @@ const Datasets: React.FC = () => {
             onDelete={handleDelete}
             getRowId={row => row.id}
             density="comfortable"
+            hasMore={!!nextCursor}
+            loadingMore={loadingMore}
+            onLoadMore={loadMoreDatasets}
           />
         </CardContent>
       </Card>
@@ -85,6 +85,8 @@ const EntrypointDetail: React.FC = () => {
   const [playgroundError, setPlaygroundError] = useState<string | null>(null);
   const [history, setHistory] = useState<any[]>([]);
   const [historyLoading, setHistoryLoading] = useState(false);
+  const [historyCursor, setHistoryCursor] = useState<string | undefined>();
+  const [loadingMoreHistory, setLoadingMoreHistory] = useState(false);
   const [historyPage, setHistoryPage] = useState(0);
   const [historyRowsPerPage, setHistoryRowsPerPage] = useState(10);
   const [historyDialogOpen, setHistoryDialogOpen] = useState(false);
@@ -321,8 +323,10 @@ const EntrypointDetail: React.FC = () => {
     
     try {
       setHistoryLoading(true);
-      const data = await apiService.getEntrypointHistory(Number(id));
-      setHistory(data);
+      const page = await apiService.getEntrypointHistory(Number(id));
+      setHistory(page.items);
+      setHistoryCursor(page.nextCursor);
+      setHistoryPage(0);
       historyLoaded.current = true;
     } catch (err) {
       console.error('Failed to load history:', err);
@@ -331,6 +335,20 @@ const EntrypointDetail: React.FC = () => {
     }
   };
 
+  const loadMoreHistory = async () => {
+    if (!id || !historyCursor) return;
+    try {
+      setLoadingMoreHistory(true);
+      const page = await apiService.getEntrypointHistory(Number(id), historyCursor);
+      setHistory(prev => [...prev, ...page.items]);
+      setHistoryCursor(page.nextCursor);
+    } catch (err) {
+      console.error('Failed to load more history:', err);
+    } finally {
+      setLoadingMoreHistory(false);
+    }
+  };
+
   const handleRefreshHistory = () => {
     historyLoaded.current = false; // Allow reload
     loadHistory();
@@ -697,10 +715,16 @@ const EntrypointDetail: React.FC = () => {
     setHistoryPage(0);
   };
 
-  const openHistoryDialog = (item: any, type: 'request' | 'response') => {
-    setSelectedHistoryItem(item);
+  const openHistoryDialog = async (item: any, type: 'request' | 'response') => {
+    setSelectedHistoryItem(null);
     setDialogContentType(type);
     setHistoryDialogOpen(true);
+    // The history list only carries previews; fetch the full bodies for this call
+    try {
+      setSelectedHistoryItem(await apiService.getEntrypointHistoryItem(Number(id), item.id));
+    } catch (err) {
+      console.error('Failed to load history item:', err);
+    }
   };
 
   const renderHistory = () => {
@@ -785,7 +809,7 @@ const EntrypointDetail: React.FC = () => {
                                   whiteSpace: 'nowrap',
                                 }}
                               >
-                                {truncateText(item.requestBody)}
+                                {truncateText(item.requestPreview, 96)}
                               </Box>
                             </TableCell>
                             <TableCell>
@@ -803,7 +827,7 @@ const EntrypointDetail: React.FC = () => {
                                   whiteSpace: 'nowrap',
                                 }}
                               >
-                                {truncateText(item.responseBody || 'No response')}
+                                {truncateText(item.responsePreview || 'No response', 96)}
                               </Box>
                             </TableCell>
                             <TableCell>
@@ -839,6 +863,19 @@ const EntrypointDetail: React.FC = () => {
                     onRowsPerPageChange={handleHistoryRowsPerPageChange}
                     rowsPerPageOptions={[5, 10, 25, 50]}
                   />
+
+                  {historyCursor && (
+                    <Box sx={{ mt: 2, display: 'flex', justifyContent: 'center' }}>
+                      <Button
+                        variant="outlined"
+                        size="small"
+                        onClick={loadMoreHistory}
+                        disabled={loadingMoreHistory}
+                      >
+                        {loadingMoreHistory ? 'Loading...' : 'Load older calls'}
+                      </Button>
+                    </Box>
+                  )}
                 </>
               )}
             </CardContent>
@@ -216,6 +216,9 @@ const Entrypoints: React.FC = () => {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [addDialogOpen, setAddDialogOpen] = useState(false);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [searchQuery, setSearchQuery] = useState('');
   const navigate = useNavigate();
   
   // Prevent duplicate API calls
@@ -234,107 +237,11 @@ const Entrypoints: React.FC = () => {
       hasLoaded.current = true;
       setLoading(true);
       setError(null);
-      const data = await apiService.getEntrypoints();
-      // Transform backend data to match frontend Entrypoint interface
-      const transformedData = data.map((ep: any) => {
-        let tags: string[] = [];
-        if (ep.tags) {
-          try {
-            tags = typeof ep.tags === 'string' ? JSON.parse(ep.tags) : ep.tags;
-          } catch {
-            tags = [];
-          }
-        }
-
-        let deploymentConfig = {};
-        if (ep.deploymentConfig) {
-          try {
-            deploymentConfig = typeof ep.deploymentConfig === 'string' 
-              ? JSON.parse(ep.deploymentConfig) 
-              : ep.deploymentConfig;
-          } catch {
-            deploymentConfig = {};
-          }
-        }
-
-        let metrics = {};
-        if (ep.metricsData) {
-          try {
-            metrics = typeof ep.metricsData === 'string' 
-              ? JSON.parse(ep.metricsData) 
-              : ep.metricsData;
-          } catch {
-            metrics = {};
-          }
-        }
-
-        // Ensure metrics has default values to prevent undefined errors
-        const safeMetrics = {
-          requests: 0,
-          latency: 0,
-          errorRate: 0,
-          throughput: 0,
-          uptime: 0,
-          lastRequest: undefined,
-          ...metrics,
-        };
-
-        // Ensure deploymentConfig has default values to prevent undefined errors
-        const safeDeploymentConfig = {
-          replicas: 1,
-          resources: {
-            cpu: '1000m',
-            memory: '2Gi',
-          },
-          environment: {},
-          healthCheck: {
-            path: '/health',
-            interval: 30,
-            timeout: 5,
-          },
-          scaling: {
-            minReplicas: 1,
-            maxReplicas: 10,
-            targetCPU: 70,
-          },
-          ...deploymentConfig,
-        };
-
-        return {
-          id: ep.id.toString(),
-          name: ep.name,
-          description: ep.description || '',
-          version: ep.version || '1.0.0',
-          type: ep.type || 'api',
-          status: ep.status || 'inactive',
-          _links: ep._links,
-          method: ep.method as 'GET' | 'POST' | 'PUT' | 'DELETE' | 'PATCH' | undefined,
-          modelId: ep.modelId?.toString() || '',
-          modelName: ep.modelName || '',
-          modelType: ep.modelType || undefined,
-          inferenceServiceId: ep.inferenceServiceId?.toString() || '',
-          inferenceServiceName: ep.inferenceServiceName || '',
-          path: ep.path || undefined,
-          fullInferencePath: ep.fullInferencePath || undefined,
-          tags,
-          visibility: ep.visibility || 'private' as 'public' | 'private' | 'organization',
-          owner: {
-            id: ep.ownerId?.toString() || '',
-            username: ep.ownerUsername || 'unknown',
-            email: '',
-            role: 'user',
-            createdAt: ep.createdAt || new Date().toISOString(),
-          },
-          createdAt: ep.createdAt || new Date().toISOString(),
-          updatedAt: ep.updatedAt || new Date().toISOString(),
-          lastDeployed: ep.lastDeployed,
-          deploymentConfig: safeDeploymentConfig as any,
-          metrics: safeMetrics as any,
-          metadata: {},
-        } as Entrypoint;
-      });
+      const page = await apiService.getEntrypoints();
+      const transformedData = page.items.map(toEntrypoint);
       setEntrypoints(transformedData);
-      setFilteredEntrypoints(transformedData);
+      setFilteredEntrypoints(filterEntrypoints(transformedData, searchQuery));
+      setNextCursor(page.nextCursor);
     } catch (err) {
       console.error('Failed to load entrypoints:', err);
       setError(err instanceof Error ? err.message : 'Failed to load entrypoints');
@@ -346,13 +253,128 @@ const Entrypoints: React.FC = () => {
     }
   };
 
-  const handleSearch = (query: string) => {
+  const loadMoreEntrypoints = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const page = await apiService.getEntrypoints(nextCursor);
+      const loaded = [...entrypoints, ...page.items.map(toEntrypoint)];
+      setEntrypoints(loaded);
+      setFilteredEntrypoints(filterEntrypoints(loaded, searchQuery));
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      console.error('Failed to load more entrypoints:', err);
+      setError(err instanceof Error ? err.message : 'Failed to load more entrypoints');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // Transform backend data to match frontend Entrypoint interface
+  const toEntrypoint = (ep: any): Entrypoint => {
+    let tags: string[] = [];
+    if (ep.tags) {
+      try {
+        tags = typeof ep.tags === 'string' ? JSON.parse(ep.tags) : ep.tags;
+      } catch {
+        tags = [];
+      }
+    }
+
+    let deploymentConfig = {};
+    if (ep.deploymentConfig) {
+      try {
+        deploymentConfig = typeof ep.deploymentConfig === 'string' 
+          ? JSON.parse(ep.deploymentConfig) 
+          : ep.deploymentConfig;
+      } catch {
+        deploymentConfig = {};
+      }
+    }
+
+    let metrics = {};
+    if (ep.metricsData) {
+      try {
+        metrics = typeof ep.metricsData === 'string' 
+          ? JSON.parse(ep.metricsData) 
+          : ep.metricsData;
+      } catch {
+        metrics = {};
+      }
+    }
+
+    // Ensure metrics has default values to prevent undefined errors
+    const safeMetrics = {
+      requests: 0,
+      latency: 0,
+      errorRate: 0,
+      throughput: 0,
+      uptime: 0,
+      lastRequest: undefined,
+      ...metrics,
+    };
+
+    // Ensure deploymentConfig has default values to prevent undefined errors
+    const safeDeploymentConfig = {
+      replicas: 1,
+      resources: {
+        cpu: '1000m',
+        memory: '2Gi',
+      },
+      environment: {},
+      healthCheck: {
+        path: '/health',
+        interval: 30,
+        timeout: 5,
+      },
+      scaling: {
+        minReplicas: 1,
+        maxReplicas: 10,
+        targetCPU: 70,
+      },
+      ...deploymentConfig,
+    };
+
+    return {
+      id: ep.id.toString(),
+      name: ep.name,
+      description: ep.description || '',
+      version: ep.version || '1.0.0',
+      type: ep.type || 'api',
+      status: ep.status || 'inactive',
+      _links: ep._links,
+      method: ep.method as 'GET' | 'POST' | 'PUT' | 'DELETE' | 'PATCH' | undefined,
+      modelId: ep.modelId?.toString() || '',
+      modelName: ep.modelName || '',
+      modelType: ep.modelType || undefined,
+      inferenceServiceId: ep.inferenceServiceId?.toString() || '',
+      inferenceServiceName: ep.inferenceServiceName || '',
+      path: ep.path || undefined,
+      fullInferencePath: ep.fullInferencePath || undefined,
+      tags,
+      visibility: ep.visibility || 'private' as 'public' | 'private' | 'organization',
+      owner: {
+        id: ep.ownerId?.toString() || '',
+        username: ep.ownerUsername || 'unknown',
+        email: '',
+        role: 'user',
+        createdAt: ep.createdAt || new Date().toISOString(),
+      },
+      createdAt: ep.createdAt || new Date().toISOString(),
+      updatedAt: ep.updatedAt || new Date().toISOString(),
+      lastDeployed: ep.lastDeployed,
+      deploymentConfig: safeDeploymentConfig as any,
+      metrics: safeMetrics as any,
+      metadata: {},
+    } as Entrypoint;
+  };
+
+  // The search box only filters the pages loaded so far
+  const filterEntrypoints = (list: Entrypoint[], query: string) => {
     if (!query.trim()) {
-      setFilteredEntrypoints(entrypoints);
-      return;
+      return list;
     }
-    
-    const filtered = entrypoints.filter(
+    return list.filter(
       entrypoint =>
         entrypoint.name.toLowerCase().includes(query.toLowerCase()) ||
         entrypoint.description.toLowerCase().includes(query.toLowerCase()) ||
@@ -360,7 +382,11 @@ const Entrypoints: React.FC = () => {
           tag.toLowerCase().includes(query.toLowerCase())
         )
     );
-    setFilteredEntrypoints(filtered);
+  };
+
+  const handleSearch = (query: string) => {
+    setSearchQuery(query);
+    setFilteredEntrypoints(filterEntrypoints(entrypoints, query));
   };
 
   const getStatusColor = (status: string) => {
@@ -654,6 +680,9 @@ const Entrypoints: React.FC = () => {
             pageSizeOptions={[5, 10, 25]}
             disableSelectionOnClick
             density="comfortable"
+            hasMore={!!nextCursor}
+            loadingMore={loadingMore}
+            onLoadMore={loadMoreEntrypoints}
           />
         </CardContent>
       </Card>
@@ -26,6 +26,8 @@ const InferenceServices: React.FC = () => {
   const [searchQuery, setSearchQuery] = useState('');
   const [addDialogOpen, setAddDialogOpen] = useState(false);
   const [services, setServices] = useState<InferenceService[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // Prevent duplicate API calls
   const hasLoaded = useRef(false);
@@ -41,30 +43,12 @@ const InferenceServices: React.FC = () => {
     try {
       hasLoaded.current = true;
       console.log('Loading inference services from API...');
-      const data = await apiService.getInferenceServices();
-      console.log('API response:', data);
-      // Parse tags from JSON string to array for each service
-      const processedData = data.map(service => {
-        let tags = [];
-        try {
-          if (service.tags) {
-            if (typeof service.tags === 'string') {
-              tags = JSON.parse(service.tags);
-            } else if (Array.isArray(service.tags)) {
-              tags = service.tags;
-            }
-          }
-        } catch (error) {
-          console.error('Error parsing tags for service:', service.name, 'tags:', service.tags, error);
-          tags = [];
-        }
-        return {
-          ...service,
-          tags: tags
-        };
-      });
+      const page = await apiService.getInferenceServices();
+      console.log('API response:', page.items);
+      const processedData = page.items.map(withParsedTags);
       console.log('Processed data:', processedData);
       setServices(processedData);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error('Failed to load inference services:', error);
       // Don't fall back to mock data - just show empty list
@@ -72,6 +56,41 @@ const InferenceServices: React.FC = () => {
     }
   };
 
+  const loadMoreServices = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const page = await apiService.getInferenceServices(nextCursor);
+      setServices(prev => [...prev, ...page.items.map(withParsedTags)]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Failed to load more inference services:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // Parse tags from JSON string to array
+  const withParsedTags = (service: InferenceService) => {
+    let tags = [];
+    try {
+      if (service.tags) {
+        if (typeof service.tags === 'string') {
+          tags = JSON.parse(service.tags);
+        } else if (Array.isArray(service.tags)) {
+          tags = service.tags;
+        }
+      }
+    } catch (error) {
+      console.error('Error parsing tags for service:', service.name, 'tags:', service.tags, error);
+      tags = [];
+    }
+    return {
+      ...service,
+      tags: tags
+    };
+  };
+
   const filteredServices = useMemo(() => {
     if (!searchQuery) return services;
 
@@ -333,6 +352,9 @@ const InferenceServices: React.FC = () => {
             onRowClick={params => handleView(params.id)}
             onEdit={handleEdit}
             onDelete={handleDelete}
+            hasMore={!!nextCursor}
+            loadingMore={loadingMore}
+            onLoadMore={loadMoreServices}
           />
         </CardContent>
       </Card>
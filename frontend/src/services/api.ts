@@ -5,6 +5,7 @@ import {
   DatasetVersion,
   DatasetFile,
   ApiResponse,
+  CursorPage,
   SearchFilters,
   MLflowRegisteredModel,
   MLflowModelVersion,
@@ -77,6 +78,12 @@ class ApiService {
     return response.data;
   }
 
+  // One page of a keyset-paginated list endpoint; pass nextCursor back to get the page after it
+  async getPage<T>(url: string, cursor?: string, limit: number = 100): Promise<CursorPage<T>> {
+    const response = await this.api.get<T[]>(url, { params: { cursor, limit } });
+    return { items: response.data, nextCursor: response.headers['x-next-cursor'] || undefined };
+  }
+
   async post<T>(url: string, data?: any, config?: AxiosRequestConfig): Promise<T> {
     const response = await this.api.post(url, data, config);
     return response.data;
@@ -99,8 +106,8 @@ class ApiService {
   }
 
   // Dataset API methods
-  async getDatasets(): Promise<Dataset[]> {
-    return this.get<Dataset[]>('/api/datasets');
+  async getDatasets(cursor?: string): Promise<CursorPage<Dataset>> {
+    return this.getPage<Dataset>('/api/datasets', cursor);
   }
 
   async getDatasetsPaged(page: number = 0, size: number = 10): Promise<any> {
@@ -177,8 +184,8 @@ class ApiService {
     return this.post<DatasetVersion>(`/api/datasets/${datasetId}/versions?${params.toString()}`);
   }
 
-  async getVersions(datasetId: string): Promise<DatasetVersion[]> {
-    return this.get<DatasetVersion[]>(`/api/datasets/${datasetId}/versions`);
+  async getVersions(datasetId: string, cursor?: string): Promise<CursorPage<DatasetVersion>> {
+    return this.getPage<DatasetVersion>(`/api/datasets/${datasetId}/versions`, cursor);
   }
 
   async getVersion(datasetId: string, versionId: string): Promise<DatasetVersion> {
@@ -941,9 +948,8 @@ class ApiService {
   }
 
   // Inference Service methods
-  async getInferenceServices(): Promise<InferenceService[]> {
-    const response = await this.api.get<InferenceService[]>('/api/inference-services');
-    return response.data;
+  async getInferenceServices(cursor?: string): Promise<CursorPage<InferenceService>> {
+    return this.getPage<InferenceService>('/api/inference-services', cursor);
   }
 
   async getInferenceServiceById(id: number): Promise<InferenceService> {
@@ -1002,9 +1008,8 @@ class ApiService {
   }
 
   // Entrypoint methods
-  async getEntrypoints(): Promise<any[]> {
-    const response = await this.api.get<any[]>('/api/entrypoints');
-    return response.data;
+  async getEntrypoints(cursor?: string): Promise<CursorPage<any>> {
+    return this.getPage<any>('/api/entrypoints', cursor);
   }
 
   async getEntrypointById(id: number): Promise<any> {
@@ -1057,8 +1062,12 @@ class ApiService {
     return response.data;
   }
 
-  async getEntrypointHistory(id: number): Promise<any[]> {
-    const response = await this.api.get<any[]>(`/api/entrypoints/${id}/history`);
+  async getEntrypointHistory(id: number, cursor?: string): Promise<CursorPage<any>> {
+    return this.getPage<any>(`/api/entrypoints/${id}/history`, cursor);
+  }
+
+  async getEntrypointHistoryItem(id: number, historyId: number): Promise<any> {
+    const response = await this.api.get<any>(`/api/entrypoints/${id}/history/${historyId}`);
     return response.data;
   }
 
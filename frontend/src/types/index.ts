@@ -403,6 +403,12 @@ export interface ApiResponse<T> {
   };
 }
 
+// One page of a keyset-paginated list; nextCursor is absent on the last page
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor?: string;
+}
+
 export interface SearchFilters {
   query?: string;
   tags?: string[];